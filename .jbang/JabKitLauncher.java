@@ -9,6 +9,8 @@
 //SOURCES ../jabkit/src/main/java/org/jabref/cli/CheckConsistency.java
 //SOURCES ../jabkit/src/main/java/org/jabref/cli/CheckIntegrity.java
 //SOURCES ../jabkit/src/main/java/org/jabref/cli/Convert.java
+//SOURCES ../jabkit/src/main/java/org/jabref/cli/Daemon.java
+//SOURCES ../jabkit/src/main/java/org/jabref/cli/DaemonToken.java
 //SOURCES ../jabkit/src/main/java/org/jabref/cli/Fetch.java
 //SOURCES ../jabkit/src/main/java/org/jabref/cli/GenerateBibFromAux.java
 //SOURCES ../jabkit/src/main/java/org/jabref/cli/GenerateCitationKeys.java
@@ -15,9 +15,11 @@ import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.gui.preferences.JabRefGuiPreferences;
 import org.jabref.logic.UiCommand;
 import org.jabref.logic.citationstyle.CSLStyleLoader;
+import org.jabref.logic.net.HttpResponseCache;
 import org.jabref.logic.net.ProxyAuthenticator;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.net.ProxyRegisterer;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.net.ssl.SSLPreferences;
 import org.jabref.logic.net.ssl.TrustStoreManager;
 import org.jabref.logic.preferences.CliPreferences;
@@ -59,6 +61,7 @@ public class Launcher {
 
         configureProxy(preferences.getProxyPreferences());
         configureSSL(preferences.getSSLPreferences());
+        URLDownload.setResponseCache(new HttpResponseCache(Directories.getHttpCacheDirectory()));
 
         ArgumentProcessor argumentProcessor = new ArgumentProcessor(
                 args,
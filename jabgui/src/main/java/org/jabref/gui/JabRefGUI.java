@@ -30,6 +30,7 @@ import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.gui.util.WebViewStore;
 import org.jabref.logic.UiCommand;
 import org.jabref.logic.ai.AiService;
+import org.jabref.logic.importer.fetcher.citation.CitationGraphStore;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
@@ -40,7 +41,9 @@ import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.server.RemoteListenerServerManager;
 import org.jabref.logic.search.IndexManager;
 import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.texparser.LatexCitationIndex;
 import org.jabref.logic.util.BuildInfo;
+import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.FallbackExceptionHandler;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.TaskExecutor;
@@ -144,6 +147,8 @@ public class JabRefGUI extends Application {
 
         DirectoryMonitor directoryMonitor = new DirectoryMonitor();
         Injector.setModelOrService(DirectoryMonitor.class, directoryMonitor);
+        Injector.setModelOrService(LatexCitationIndex.class, new LatexCitationIndex(Directories.getLatexCitationIndexDirectory().resolve("citations.mv")));
+        Injector.setModelOrService(CitationGraphStore.class, new CitationGraphStore(Directories.getCitationGraphDirectory().resolve("graph.mv")));
 
         BibEntryTypesManager entryTypesManager = preferences.getCustomEntryTypesRepository();
         Injector.setModelOrService(BibEntryTypesManager.class, entryTypesManager);
@@ -424,6 +429,10 @@ public class JabRefGUI extends Application {
         LOGGER.trace("Shutting down directoryMonitor");
         DirectoryMonitor directoryMonitor = Injector.instantiateModelOrService(DirectoryMonitor.class);
         directoryMonitor.shutdown();
+        LOGGER.trace("Closing LaTeX citation index");
+        Injector.instantiateModelOrService(LatexCitationIndex.class).close();
+        LOGGER.trace("Closing citation graph store");
+        Injector.instantiateModelOrService(CitationGraphStore.class).close();
         LOGGER.trace("Shutting down postgreServer");
         PostgreServer postgreServer = Injector.instantiateModelOrService(PostgreServer.class);
         postgreServer.shutdown();
@@ -64,6 +64,7 @@ import org.jabref.logic.importer.FetcherClientException;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.FetcherServerException;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.integrity.IntegrityCheckCache;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.pdf.FileAnnotationCache;
@@ -78,6 +79,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.Author;
 import org.jabref.model.entry.BibEntry;
@@ -118,6 +120,7 @@ public class LibraryTab extends Tab {
     private BibDatabaseContext bibDatabaseContext;
     private MainTableDataModel tableModel;
     private FileAnnotationCache annotationCache;
+    private IntegrityCheckCache integrityCheckCache;
     private MainTable mainTable;
     private DatabaseNotification databaseNotificationPane;
 
@@ -209,6 +212,7 @@ public class LibraryTab extends Tab {
 
         new CitationStyleCache(bibDatabaseContext);
         annotationCache = new FileAnnotationCache(bibDatabaseContext, preferences.getFilePreferences());
+        integrityCheckCache = new IntegrityCheckCache();
         importHandler = new ImportHandler(
                 bibDatabaseContext,
                 preferences,
@@ -750,6 +754,10 @@ public class LibraryTab extends Tab {
         return annotationCache;
     }
 
+    public IntegrityCheckCache getIntegrityCheckCache() {
+        return integrityCheckCache;
+    }
+
     public void resetChangeMonitor() {
         changeMonitor.ifPresent(DatabaseChangeMonitor::unregister);
         assert bibDatabaseContext.getDatabasePath().isEmpty() || fileUpdateMonitor != null;
@@ -1034,6 +1042,11 @@ public class LibraryTab extends Tab {
         public void listen(FieldChangedEvent fieldChangedEvent) {
             indexManager.updateEntry(fieldChangedEvent);
         }
+
+        @Subscribe
+        public void listen(EntriesChangedEvent entriesChangedEvent) {
+            indexManager.updateEntries(entriesChangedEvent);
+        }
     }
 
     public static class DatabaseNotification extends NotificationPane {
@@ -9,6 +9,9 @@ import com.google.common.eventbus.Subscribe;
 
 /**
  * Updates the timestamp of changed entries if the feature is enabled
+ * <p>
+ * Batched updates (see {@link org.jabref.model.database.BibDatabase#runBatchedUpdate(Runnable)}) set the timestamps
+ * themselves, as setting them after the batch would notify the listeners of the database once per entry.
  */
 class UpdateTimestampListener {
     private final CliPreferences preferences;
@@ -1,8 +1,11 @@
 package org.jabref.gui.cleanup;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -16,6 +19,7 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.ActionHelper;
 import org.jabref.gui.actions.SimpleCommand;
 import org.jabref.gui.undo.NamedCompound;
+import org.jabref.gui.undo.UndoableChangeType;
 import org.jabref.gui.undo.UndoableFieldChange;
 import org.jabref.logic.JabRefException;
 import org.jabref.logic.cleanup.CleanupPreferences;
@@ -27,6 +31,7 @@ import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.InternalField;
 
 public class CleanupAction extends SimpleCommand {
 
@@ -104,31 +109,6 @@ public class CleanupAction extends SimpleCommand {
         });
     }
 
-    /**
-     * Runs the cleanup on the entry and records the change.
-     *
-     * @return true iff entry was modified
-     */
-    private boolean doCleanup(BibDatabaseContext databaseContext, CleanupPreferences preset, BibEntry entry, NamedCompound ce) {
-        // Create and run cleaner
-        CleanupWorker cleaner = new CleanupWorker(
-                databaseContext,
-                preferences.getFilePreferences(),
-                preferences.getTimestampPreferences()
-        );
-
-        List<FieldChange> changes = cleaner.cleanup(preset, entry);
-
-        // Register undo action
-        for (FieldChange change : changes) {
-            ce.addEdit(new UndoableFieldChange(change));
-        }
-
-        failures.addAll(cleaner.getFailures());
-
-        return !changes.isEmpty();
-    }
-
     private void showResults() {
         if (isCanceled) {
             return;
@@ -150,14 +130,28 @@ public class CleanupAction extends SimpleCommand {
     private void cleanup(BibDatabaseContext databaseContext, CleanupPreferences cleanupPreferences) {
         this.failures.clear();
 
+        CleanupWorker cleaner = new CleanupWorker(
+                databaseContext,
+                preferences.getFilePreferences(),
+                preferences.getTimestampPreferences()
+        );
+
+        // All selected entries are cleaned up at once, so that listeners of the library are notified once
+        List<FieldChange> changes = cleaner.cleanup(cleanupPreferences, List.copyOf(stateManager.getSelectedEntries()));
+        failures.addAll(cleaner.getFailures());
+
         // undo granularity is on set of all entries
         NamedCompound ce = new NamedCompound(Localization.lang("Clean up entries"));
-
-        for (BibEntry entry : List.copyOf(stateManager.getSelectedEntries())) {
-            if (doCleanup(databaseContext, cleanupPreferences, entry, ce)) {
-                modifiedEntriesCount++;
+        Set<BibEntry> modifiedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (FieldChange change : changes) {
+            if (InternalField.TYPE_HEADER == change.getField()) {
+                ce.addEdit(new UndoableChangeType(change));
+            } else {
+                ce.addEdit(new UndoableFieldChange(change));
             }
+            modifiedEntries.add(change.getEntry());
         }
+        modifiedEntriesCount = modifiedEntries.size();
 
         ce.end();
 
@@ -59,8 +59,10 @@ import org.jabref.logic.bibtex.TypedBibEntry;
 import org.jabref.logic.help.HelpFile;
 import org.jabref.logic.importer.EntryBasedFetcher;
 import org.jabref.logic.importer.WebFetchers;
+import org.jabref.logic.importer.fetcher.citation.CitationGraphStore;
 import org.jabref.logic.importer.fileformat.PdfMergeMetadataImporter;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.texparser.LatexCitationIndex;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.entry.BibEntry;
@@ -113,6 +115,8 @@ public class EntryEditor extends BorderPane implements PreviewControls, AdaptVis
     @Inject private ThemeManager themeManager;
     @Inject private FileUpdateMonitor fileMonitor;
     @Inject private DirectoryMonitor directoryMonitor;
+    @Inject private LatexCitationIndex latexCitationIndex;
+    @Inject private CitationGraphStore citationGraphStore;
     @Inject private CountingUndoManager undoManager;
     @Inject private BibEntryTypesManager bibEntryTypesManager;
     @Inject private KeyBindingRepository keyBindingRepository;
@@ -323,7 +327,7 @@ public class EntryEditor extends BorderPane implements PreviewControls, AdaptVis
         tabs.add(new MathSciNetTab());
         tabs.add(new FileAnnotationTab(stateManager));
         tabs.add(new SciteTab(preferences, taskExecutor, dialogService));
-        tabs.add(new CitationRelationsTab(dialogService, undoManager, stateManager, fileMonitor, preferences, taskExecutor, bibEntryTypesManager));
+        tabs.add(new CitationRelationsTab(dialogService, undoManager, stateManager, fileMonitor, preferences, taskExecutor, bibEntryTypesManager, citationGraphStore));
         tabs.add(new RelatedArticlesTab(buildInfo, preferences, dialogService, stateManager, taskExecutor));
         sourceTab = new SourceTab(
                 undoManager,
@@ -335,7 +339,7 @@ public class EntryEditor extends BorderPane implements PreviewControls, AdaptVis
                 keyBindingRepository,
                 stateManager);
         tabs.add(sourceTab);
-        tabs.add(new LatexCitationsTab(preferences, dialogService, stateManager, directoryMonitor));
+        tabs.add(new LatexCitationsTab(preferences, dialogService, stateManager, directoryMonitor, latexCitationIndex));
         tabs.add(new FulltextSearchResultsTab(stateManager, preferences, dialogService, taskExecutor));
         tabs.add(new AiSummaryTab(aiService, dialogService, stateManager, this, preferences));
         tabs.add(new AiChatTab(aiService, dialogService, preferences, stateManager, this, taskExecutor));
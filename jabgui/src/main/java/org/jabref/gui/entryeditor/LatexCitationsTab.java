@@ -22,6 +22,7 @@ import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.gui.texparser.CitationsDisplay;
 import org.jabref.gui.util.DirectoryMonitor;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.texparser.LatexCitationIndex;
 import org.jabref.model.entry.BibEntry;
 
 import com.tobiasdiez.easybind.EasyBind;
@@ -41,13 +42,15 @@ public class LatexCitationsTab extends EntryEditorTab {
     public LatexCitationsTab(GuiPreferences preferences,
                              DialogService dialogService,
                              StateManager stateManager,
-                             DirectoryMonitor directoryMonitor) {
+                             DirectoryMonitor directoryMonitor,
+                             LatexCitationIndex latexCitationIndex) {
         this.stateManager = stateManager;
 
         this.viewModel = new LatexCitationsTabViewModel(
                 preferences,
                 dialogService,
-                directoryMonitor);
+                directoryMonitor,
+                latexCitationIndex);
 
         this.searchPane = new GridPane();
         this.progressIndicator = new ProgressIndicator();
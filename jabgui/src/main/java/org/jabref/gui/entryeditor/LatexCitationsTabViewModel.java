@@ -3,8 +3,11 @@ package org.jabref.gui.entryeditor;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
@@ -30,12 +33,11 @@ import org.jabref.gui.util.DirectoryDialogConfiguration;
 import org.jabref.gui.util.DirectoryMonitor;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.texparser.DefaultLatexParser;
+import org.jabref.logic.texparser.LatexCitationIndex;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.texparser.Citation;
-import org.jabref.model.texparser.LatexParserResult;
 import org.jabref.model.texparser.LatexParserResults;
 
 import org.apache.commons.io.filefilter.FileFilterUtils;
@@ -68,7 +70,7 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
     private final StringProperty searchError = new SimpleStringProperty("");
     private final BooleanProperty updateStatusOnCreate = new SimpleBooleanProperty(false);
 
-    private final DefaultLatexParser latexParser;
+    private final LatexCitationIndex latexCitationIndex;
     private final LatexParserResults latexFiles;
     private final DirectoryMonitor directoryMonitor;
     private final FileAlterationListener listener;
@@ -79,12 +81,13 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
 
     public LatexCitationsTabViewModel(GuiPreferences preferences,
                                       DialogService dialogService,
-                                      DirectoryMonitor directoryMonitor) {
+                                      DirectoryMonitor directoryMonitor,
+                                      LatexCitationIndex latexCitationIndex) {
         this.preferences = preferences;
         this.dialogService = dialogService;
         this.directoryMonitor = directoryMonitor;
 
-        this.latexParser = new DefaultLatexParser();
+        this.latexCitationIndex = latexCitationIndex;
         this.latexFiles = new LatexParserResults();
         this.listener = new CitationsAlterationListener();
 
@@ -194,7 +197,15 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
         return preferences.getEntryEditorPreferences().shouldShowLatexCitationsTab();
     }
 
+    /**
+     * Collects the created and changed files of one check of the directory and parses them at its end, so that the
+     * files are parsed in parallel and unchanged files are taken from the {@link LatexCitationIndex}.
+     */
     private class CitationsAlterationListener implements FileAlterationListener {
+
+        // Only accessed by the thread of the directory monitor
+        private final Set<Path> changedFiles = new HashSet<>();
+
         @Override
         public void onStart(FileAlterationObserver observer) {
             if (!updateStatusOnCreate.get()) {
@@ -204,6 +215,12 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
 
         @Override
         public void onStop(FileAlterationObserver observer) {
+            if (!changedFiles.isEmpty()) {
+                latexFiles.addAll(latexCitationIndex.parse(new ArrayList<>(changedFiles)));
+                changedFiles.clear();
+                updateCitationList();
+            }
+
             if (!updateStatusOnCreate.get()) {
                 updateStatusOnCreate.set(true);
                 updateStatus();
@@ -212,38 +229,33 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
 
         @Override
         public void onFileCreate(File file) {
-            Path path = file.toPath();
-            LatexParserResult result = latexParser.parse(path).get();
-            latexFiles.add(path, result);
-
-            Optional<String> citationKey = currentEntry.getCitationKey();
-            if (citationKey.isPresent()) {
-                Collection<Citation> citations = result.getCitationsByKey(citationKey.get());
-                UiTaskExecutor.runInJavaFXThread(() -> citationList.addAll(citations));
-            }
-
-            if (updateStatusOnCreate.get()) {
-                updateStatus();
-            }
+            changedFiles.add(file.toPath());
         }
 
         @Override
         public void onFileDelete(File file) {
-            LatexParserResult result = latexFiles.remove(file.toPath());
+            Path path = file.toPath();
+            changedFiles.remove(path);
+            latexFiles.remove(path);
+            latexCitationIndex.remove(path);
+            updateCitationList();
+        }
 
+        @Override
+        public void onFileChange(File file) {
+            changedFiles.add(file.toPath());
+        }
+
+        private void updateCitationList() {
             Optional<String> citationKey = currentEntry.getCitationKey();
             if (citationKey.isPresent()) {
-                Collection<Citation> citations = result.getCitationsByKey(citationKey.get());
-                UiTaskExecutor.runInJavaFXThread(() -> citationList.removeAll(citations));
-                updateStatus();
+                Collection<Citation> citations = latexFiles.getCitationsByKey(citationKey.get());
+                UiTaskExecutor.runInJavaFXThread(() -> citationList.setAll(citations));
             }
-        }
 
-        @Override
-        public void onFileChange(File file) {
-            onFileDelete(file);
-            onFileCreate(file);
-            updateStatus();
+            if (updateStatusOnCreate.get()) {
+                updateStatus();
+            }
         }
 
         @Override
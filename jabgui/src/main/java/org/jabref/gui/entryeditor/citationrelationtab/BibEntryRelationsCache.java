@@ -1,39 +1,61 @@
 package org.jabref.gui.entryeditor.citationrelationtab;
 
 import java.util.List;
-import java.util.Map;
 
+import org.jabref.logic.importer.fetcher.citation.CitationFetcher;
+import org.jabref.logic.importer.fetcher.citation.CitationGraphStore;
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.entry.identifier.DOI;
-
-import org.eclipse.jgit.util.LRUMap;
 
+/**
+ * Caches the citations and references of entries in the persistent {@link CitationGraphStore}, so that they are shared
+ * by all entry editors and survive a restart of JabRef.
+ */
 public class BibEntryRelationsCache {
-    private static final Integer MAX_CACHED_ENTRIES = 100;
-    private static final Map<String, List<BibEntry>> CITATIONS_MAP = new LRUMap<>(MAX_CACHED_ENTRIES, MAX_CACHED_ENTRIES);
-    private static final Map<String, List<BibEntry>> REFERENCES_MAP = new LRUMap<>(MAX_CACHED_ENTRIES, MAX_CACHED_ENTRIES);
+    private final CitationGraphStore citationGraphStore;
+
+    public BibEntryRelationsCache(CitationGraphStore citationGraphStore) {
+        this.citationGraphStore = citationGraphStore;
+    }
 
     public List<BibEntry> getCitations(BibEntry entry) {
-        return CITATIONS_MAP.getOrDefault(entry.getDOI().map(DOI::asString).orElse(""), List.of());
+        return get(entry, CitationFetcher.SearchType.CITED_BY);
     }
 
     public List<BibEntry> getReferences(BibEntry entry) {
-        return REFERENCES_MAP.getOrDefault(entry.getDOI().map(DOI::asString).orElse(""), List.of());
+        return get(entry, CitationFetcher.SearchType.CITES);
     }
 
     public void cacheOrMergeCitations(BibEntry entry, List<BibEntry> citations) {
-        entry.getDOI().ifPresent(doi -> CITATIONS_MAP.put(doi.asString(), citations));
+        entry.getDOI().ifPresent(doi -> citationGraphStore.put(doi, CitationFetcher.SearchType.CITED_BY, citations));
     }
 
     public void cacheOrMergeReferences(BibEntry entry, List<BibEntry> references) {
-        entry.getDOI().ifPresent(doi -> REFERENCES_MAP.putIfAbsent(doi.asString(), references));
+        entry.getDOI().ifPresent(doi -> citationGraphStore.put(doi, CitationFetcher.SearchType.CITES, references));
     }
 
+    /**
+     * @return true if the citations of the entry are cached and not older than the time to live of the store
+     */
     public boolean citationsCached(BibEntry entry) {
-        return CITATIONS_MAP.containsKey(entry.getDOI().map(DOI::asString).orElse(""));
+        return isFresh(entry, CitationFetcher.SearchType.CITED_BY);
     }
 
+    /**
+     * @return true if the references of the entry are cached and not older than the time to live of the store
+     */
     public boolean referencesCached(BibEntry entry) {
-        return REFERENCES_MAP.containsKey(entry.getDOI().map(DOI::asString).orElse(""));
+        return isFresh(entry, CitationFetcher.SearchType.CITES);
+    }
+
+    private List<BibEntry> get(BibEntry entry, CitationFetcher.SearchType searchType) {
+        return entry.getDOI()
+                    .flatMap(doi -> citationGraphStore.get(doi, searchType))
+                    .orElse(List.of());
+    }
+
+    private boolean isFresh(BibEntry entry, CitationFetcher.SearchType searchType) {
+        return entry.getDOI()
+                    .map(doi -> citationGraphStore.isFresh(doi, searchType))
+                    .orElse(false);
     }
 }
@@ -1,9 +1,16 @@
 package org.jabref.gui.entryeditor.citationrelationtab;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
 
 import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.fetcher.citation.CitationFetcher;
 import org.jabref.logic.importer.fetcher.citation.semanticscholar.SemanticScholarFetcher;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.entry.BibEntry;
 
 import org.slf4j.Logger;
@@ -12,8 +19,11 @@ import org.slf4j.LoggerFactory;
 public class BibEntryRelationsRepository {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntryRelationsRepository.class);
 
+    private static final int MAX_CONCURRENT_PREFETCHES = 4;
+
     private final SemanticScholarFetcher fetcher;
     private final BibEntryRelationsCache cache;
+    private final Semaphore prefetchPermits = new Semaphore(MAX_CONCURRENT_PREFETCHES);
 
     public BibEntryRelationsRepository(SemanticScholarFetcher fetcher, BibEntryRelationsCache cache) {
         this.fetcher = fetcher;
@@ -30,19 +40,15 @@ public class BibEntryRelationsRepository {
 
     public List<BibEntry> getReferences(BibEntry entry) {
         if (needToRefreshReferences(entry)) {
-            List<BibEntry> references;
-            try {
-                references = fetcher.searchCiting(entry);
-            } catch (FetcherException e) {
-                LOGGER.error("Error while fetching references", e);
-                references = List.of();
-            }
-            cache.cacheOrMergeReferences(entry, references);
+            forceRefreshReferences(entry);
         }
 
         return cache.getReferences(entry);
     }
 
+    /**
+     * Fetches the citations. If fetching fails, the previously cached citations are kept.
+     */
     public void forceRefreshCitations(BibEntry entry) {
         try {
             List<BibEntry> citations = fetcher.searchCitedBy(entry);
@@ -60,14 +66,62 @@ public class BibEntryRelationsRepository {
         return !cache.referencesCached(entry);
     }
 
+    /**
+     * Fetches the references. If fetching fails, the previously cached references are kept.
+     */
     public void forceRefreshReferences(BibEntry entry) {
-        List<BibEntry> references;
         try {
-            references = fetcher.searchCiting(entry);
+            List<BibEntry> references = fetcher.searchCiting(entry);
+            cache.cacheOrMergeReferences(entry, references);
         } catch (FetcherException e) {
             LOGGER.error("Error while fetching references", e);
-            references = List.of();
         }
-        cache.cacheOrMergeReferences(entry, references);
+    }
+
+    /**
+     * Fetches the citations and references of the given entries which are not cached or outdated, and waits until all
+     * are fetched. At most {@link #MAX_CONCURRENT_PREFETCHES} requests are sent at the same time.
+     *
+     * @param isCancelled checked before each request. Once it returns true, the remaining requests are skipped.
+     */
+    public void prefetch(Collection<BibEntry> entries, BooleanSupplier isCancelled) {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (BibEntry entry : entries) {
+            if (entry.getDOI().isEmpty()) {
+                continue;
+            }
+            if (needToRefreshCitations(entry)) {
+                tasks.add(() -> prefetch(entry, CitationFetcher.SearchType.CITED_BY, isCancelled));
+            }
+            if (needToRefreshReferences(entry)) {
+                tasks.add(() -> prefetch(entry, CitationFetcher.SearchType.CITES, isCancelled));
+            }
+        }
+        HeadlessExecutorService.INSTANCE.executeAllWebRequests(tasks);
+    }
+
+    private Void prefetch(BibEntry entry, CitationFetcher.SearchType searchType, BooleanSupplier isCancelled) throws InterruptedException {
+        prefetchPermits.acquire();
+        try {
+            if (isCancelled.getAsBoolean()) {
+                return null;
+            }
+            // The entry might have been fetched by the entry editor in the meantime
+            switch (searchType) {
+                case CITED_BY -> {
+                    if (needToRefreshCitations(entry)) {
+                        forceRefreshCitations(entry);
+                    }
+                }
+                case CITES -> {
+                    if (needToRefreshReferences(entry)) {
+                        forceRefreshReferences(entry);
+                    }
+                }
+            }
+        } finally {
+            prefetchPermits.release();
+        }
+        return null;
     }
 }
@@ -52,6 +52,7 @@ import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.importer.fetcher.citation.CitationFetcher;
+import org.jabref.logic.importer.fetcher.citation.CitationGraphStore;
 import org.jabref.logic.importer.fetcher.citation.semanticscholar.SemanticScholarFetcher;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.os.OS;
@@ -84,9 +85,13 @@ public class CitationRelationsTab extends EntryEditorTab {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationRelationsTab.class);
 
+    // Number of selected entries following the shown entry whose relations are fetched in the background
+    private static final int MAX_PREFETCHED_ENTRIES = 5;
+
     // Tasks used to implement asynchronous fetching of related articles
     private static BackgroundTask<List<BibEntry>> citingTask;
     private static BackgroundTask<List<BibEntry>> citedByTask;
+    private static BackgroundTask<Void> prefetchTask;
     private final DialogService dialogService;
     private final GuiPreferences preferences;
     private final TaskExecutor taskExecutor;
@@ -103,7 +108,8 @@ public class CitationRelationsTab extends EntryEditorTab {
                                 FileUpdateMonitor fileUpdateMonitor,
                                 GuiPreferences preferences,
                                 TaskExecutor taskExecutor,
-                                BibEntryTypesManager bibEntryTypesManager) {
+                                BibEntryTypesManager bibEntryTypesManager,
+                                CitationGraphStore citationGraphStore) {
         this.dialogService = dialogService;
         this.preferences = preferences;
         this.taskExecutor = taskExecutor;
@@ -116,7 +122,7 @@ public class CitationRelationsTab extends EntryEditorTab {
         this.entryTypesManager = bibEntryTypesManager;
         this.duplicateCheck = new DuplicateCheck(entryTypesManager);
         this.bibEntryRelationsRepository = new BibEntryRelationsRepository(new SemanticScholarFetcher(preferences.getImporterPreferences()),
-                new BibEntryRelationsCache());
+                new BibEntryRelationsCache(citationGraphStore));
         citationsRelationsTabViewModel = new CitationsRelationsTabViewModel(preferences, undoManager, stateManager, dialogService, fileUpdateMonitor, taskExecutor);
     }
 
@@ -394,6 +400,37 @@ public class CitationRelationsTab extends EntryEditorTab {
     @Override
     protected void bindToEntry(BibEntry entry) {
         setContent(getPaneAndStartSearch(entry));
+        prefetchSelectedEntries(entry);
+    }
+
+    /**
+     * If several entries are selected, the relations of the next few selected entries are fetched in the background, so
+     * that they are shown without delay when the user moves on to them. Only a few entries are fetched, as the
+     * requests are rate limited and selecting all entries of a large library would otherwise keep fetching for hours.
+     */
+    private void prefetchSelectedEntries(BibEntry entry) {
+        if (prefetchTask != null && !prefetchTask.isCancelled()) {
+            // The remaining requests of the previous entry are skipped
+            prefetchTask.cancel();
+        }
+        List<BibEntry> selectedEntries = stateManager.getSelectedEntries();
+        int indexOfEntry = selectedEntries.indexOf(entry);
+        List<BibEntry> nextSelectedEntries = selectedEntries.stream()
+                                                            .skip(indexOfEntry + 1)
+                                                            .limit(MAX_PREFETCHED_ENTRIES)
+                                                            .toList();
+        if (nextSelectedEntries.isEmpty()) {
+            return;
+        }
+        prefetchTask = new BackgroundTask<>() {
+            @Override
+            public Void call() {
+                bibEntryRelationsRepository.prefetch(nextSelectedEntries, this::isCancelled);
+                return null;
+            }
+        };
+        prefetchTask.onFailure(exception -> LOGGER.warn("Could not prefetch citation relations", exception))
+                    .executeWith(taskExecutor);
     }
 
     /**
@@ -3,7 +3,6 @@ package org.jabref.gui.groups;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.WeakInvalidationListener;
@@ -24,6 +23,7 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.icon.IconTheme;
 import org.jabref.gui.icon.JabRefIcon;
 import org.jabref.gui.preferences.GuiPreferences;
+import org.jabref.gui.util.BindingsHelper;
 import org.jabref.gui.util.CustomLocalDragboard;
 import org.jabref.gui.util.DroppingMouseLocation;
 import org.jabref.gui.util.UiTaskExecutor;
@@ -33,7 +33,9 @@ import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.AllEntriesGroup;
 import org.jabref.model.groups.AutomaticGroup;
@@ -47,6 +49,7 @@ import org.jabref.model.groups.LastNameGroup;
 import org.jabref.model.groups.RegexKeywordGroup;
 import org.jabref.model.groups.SearchGroup;
 import org.jabref.model.groups.TexGroup;
+import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
 import org.jabref.model.search.event.IndexClosedEvent;
 import org.jabref.model.search.event.IndexRemovedEvent;
@@ -91,13 +94,13 @@ public class GroupNodeViewModel {
         displayName = new SimpleObjectProperty<>(new LatexToUnicodeFormatter().format(groupNode.getName()));
         isRoot = groupNode.isRoot();
         if (groupNode.getGroup() instanceof AutomaticGroup automaticGroup) {
-            children = automaticGroup.createSubgroups(this.databaseContext.getDatabase().getEntries())
-                                     .stream()
-                                     .map(this::toViewModel)
-                                     .sorted((group1, group2) -> group1.getDisplayName().compareToIgnoreCase(group2.getDisplayName()))
-                                     .collect(Collectors.toCollection(FXCollections::observableArrayList));
+            // The index keeps the subgroups up to date, so the tree is not rebuilt from all entries
+            ObservableList<GroupTreeNode> subgroups = BindingsHelper.forUI(this.databaseContext.getAutomaticGroupIndex(automaticGroup).getSubgroups());
+            children = EasyBind.mapBacked(subgroups, this::toViewModel)
+                               .sorted((group1, group2) -> group1.getDisplayName().compareToIgnoreCase(group2.getDisplayName()));
         } else {
-            children = EasyBind.mapBacked(groupNode.getChildren(), this::toViewModel);
+            // The subgroups of automatic groups are changed on the thread changing the database
+            children = EasyBind.mapBacked(BindingsHelper.forUI(groupNode.getChildren()), this::toViewModel);
         }
         if (groupNode.getGroup() instanceof TexGroup) {
             databaseContext.getMetaData().groupsBinding().addListener(new WeakInvalidationListener(onInvalidatedGroup));
@@ -126,6 +129,7 @@ public class GroupNodeViewModel {
         allSelectedEntriesMatched = selectedEntriesMatchStatus.isEmptyBinding().not().and(selectedEntriesMatchStatus.allMatch(matched -> matched));
 
         this.databaseContext.getDatabase().registerListener(new SearchIndexListener());
+        this.databaseContext.getDatabase().registerListener(new FieldChangeListener());
     }
 
     public GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, AbstractGroup group, CustomLocalDragboard localDragboard, GuiPreferences preferences) {
@@ -253,7 +257,7 @@ public class GroupNodeViewModel {
     /**
      * Gets invoked if an entry in the current database changes.
      *
-     * @implNote Search groups are updated in {@link SearchIndexListener}.
+     * @implNote Search groups are updated in {@link SearchIndexListener}, changed entries in {@link FieldChangeListener}.
      */
     private void onDatabaseChanged(ListChangeListener.Change<? extends BibEntry> change) {
         if (groupNode.getGroup() instanceof SearchGroup) {
@@ -263,15 +267,7 @@ public class GroupNodeViewModel {
             if (change.wasPermutated()) {
                 // Nothing to do, as permutation doesn't change matched entries
             } else if (change.wasUpdated()) {
-                for (BibEntry changedEntry : change.getList().subList(change.getFrom(), change.getTo())) {
-                    if (groupNode.matches(changedEntry)) {
-                        // ADR-0038
-                        matchedEntries.add(changedEntry.getId());
-                    } else {
-                        // ADR-0038
-                        matchedEntries.remove(changedEntry.getId());
-                    }
-                }
+                // Nothing to do, as the changed field is only known to the FieldChangeListener
             } else {
                 for (BibEntry removedEntry : change.getRemoved()) {
                     // ADR-0038
@@ -300,11 +296,10 @@ public class GroupNodeViewModel {
 
     private void updateMatchedEntries() {
         // We calculate the new hit value
-        // We could be more intelligent and try to figure out the new number of hits based on the entry change
-        // for example, a previously matched entry gets removed -> hits = hits - 1
+        // The membership index re-evaluates only changed entries, so this does not scan the whole library
         if (preferences.getGroupsPreferences().shouldDisplayGroupCount()) {
             BackgroundTask
-                    .wrap(() -> groupNode.findMatches(databaseContext.getDatabase()))
+                    .wrap(() -> databaseContext.getGroupMembershipIndex().getMatchedEntries(groupNode))
                     .onSuccess(entries -> {
                         matchedEntries.clear();
                         // ADR-0038
@@ -522,6 +517,42 @@ public class GroupNodeViewModel {
         };
     }
 
+    /**
+     * Re-evaluates a changed entry only if the group (or a group it depends on in the hierarchy) reads the changed field.
+     * Editing, e.g., the abstract of an entry thus does not test the entry against any keyword group.
+     */
+    class FieldChangeListener {
+        @Subscribe
+        public void listen(FieldChangedEvent event) {
+            if ((groupNode.getGroup() instanceof SearchGroup) || !groupNode.getSearchMatcher().dependsOn(event.getField())) {
+                return;
+            }
+            updateMatch(event);
+        }
+
+        @Subscribe
+        public void listen(EntriesChangedEvent event) {
+            if (groupNode.getGroup() instanceof SearchGroup) {
+                return;
+            }
+            SearchMatcher matcher = groupNode.getSearchMatcher();
+            event.getFieldChangedEvents().stream()
+                 .filter(change -> matcher.dependsOn(change.getField()))
+                 .forEach(this::updateMatch);
+        }
+
+        private void updateMatch(FieldChangedEvent event) {
+            BibEntry changedEntry = event.getBibEntry();
+            if (groupNode.matches(changedEntry)) {
+                // ADR-0038
+                matchedEntries.add(changedEntry.getId());
+            } else {
+                // ADR-0038
+                matchedEntries.remove(changedEntry.getId());
+            }
+        }
+    }
+
     class SearchIndexListener {
         @Subscribe
         public void listen(IndexStartedEvent event) {
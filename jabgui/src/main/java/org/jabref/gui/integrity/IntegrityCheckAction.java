@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 
-import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
@@ -14,6 +13,7 @@ import org.jabref.gui.actions.SimpleCommand;
 import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityCheckCache;
 import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
@@ -24,6 +24,8 @@ import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 
 public class IntegrityCheckAction extends SimpleCommand {
 
+    private static final int CHUNK_SIZE = 1000;
+
     private final UiTaskExecutor taskExecutor;
     private final DialogService dialogService;
     private final Supplier<LibraryTab> tabSupplier;
@@ -49,25 +51,33 @@ public class IntegrityCheckAction extends SimpleCommand {
     @Override
     public void execute() {
         BibDatabaseContext database = stateManager.getActiveDatabase().orElseThrow(() -> new NullPointerException("Database null"));
+        // The tab keeps the results of the previous checks, so that only changed entries are checked again
+        LibraryTab libraryTab = tabSupplier.get();
+        IntegrityCheckCache cache = new IntegrityCheckCache();
+        if ((libraryTab != null) && (libraryTab.getBibDatabaseContext() == database)) {
+            cache = libraryTab.getIntegrityCheckCache();
+        }
         IntegrityCheck check = new IntegrityCheck(database,
                 preferences.getFilePreferences(),
                 preferences.getCitationKeyPatternPreferences(),
                 abbreviationRepository,
-                preferences.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex());
+                preferences.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex(),
+                cache);
 
         Task<List<IntegrityMessage>> task = new Task<>() {
             @Override
             protected List<IntegrityMessage> call() {
-                ObservableList<BibEntry> entries = database.getDatabase().getEntries();
+                List<BibEntry> entries = new ArrayList<>(database.getDatabase().getEntries());
                 List<IntegrityMessage> result = new ArrayList<>(check.checkDatabase(database.getDatabase()));
-                for (int i = 0; i < entries.size(); i++) {
+                // The entries of a chunk are checked in parallel; between the chunks, progress and cancellation are handled
+                for (int start = 0; start < entries.size(); start += CHUNK_SIZE) {
                     if (isCancelled()) {
                         break;
                     }
 
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
+                    int end = Math.min(start + CHUNK_SIZE, entries.size());
+                    result.addAll(check.checkEntries(entries.subList(start, end)));
+                    updateProgress(end, entries.size());
                 }
                 return result;
             }
@@ -1,7 +1,10 @@
 package org.jabref.gui.maintable;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
@@ -152,13 +155,33 @@ public class MainTableDataModel {
             groupsMatcher = createGroupMatcher(groups, groupsPreferences);
             boolean isInvertMode = groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT);
             boolean isFloatingMode = !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER);
-            entriesViewModel.forEach(entry -> updateEntryGroupMatch(entry, groupsMatcher, isInvertMode, isFloatingMode));
+            // The membership index answers for all entries at once instead of testing each entry against the matchers
+            Optional<Set<BibEntry>> entriesInGroups = getEntriesInGroups(groups, groupsPreferences);
+            entriesViewModel.forEach(entry -> setEntryGroupMatch(entry,
+                    entriesInGroups.map(entries -> entries.contains(entry.getEntry()) ^ isInvertMode).orElse(true),
+                    isFloatingMode));
         }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
     }
 
+    private Optional<Set<BibEntry>> getEntriesInGroups(List<GroupTreeNode> selectedGroups, GroupsPreferences groupsPreferences) {
+        if ((selectedGroups == null) || selectedGroups.isEmpty()) {
+            return Optional.empty();
+        }
+        List<BibEntry> matchedEntries = groupsPreferences.getGroupViewMode().contains(GroupViewMode.INTERSECTION)
+                                        ? bibDatabaseContext.getGroupMembershipIndex().getEntriesInAllGroups(selectedGroups)
+                                        : bibDatabaseContext.getGroupMembershipIndex().getEntriesInAnyGroup(selectedGroups);
+        Set<BibEntry> entries = Collections.newSetFromMap(new IdentityHashMap<>(matchedEntries.size()));
+        entries.addAll(matchedEntries);
+        return Optional.of(entries);
+    }
+
     private void updateEntryGroupMatch(BibEntryTableViewModel entry, Optional<MatcherSet> groupsMatcher, boolean isInvertMode, boolean isFloatingMode) {
         boolean isMatched = groupsMatcher.map(matcher -> matcher.isMatch(entry.getEntry()) ^ isInvertMode)
                                          .orElse(true);
+        setEntryGroupMatch(entry, isMatched, isFloatingMode);
+    }
+
+    private static void setEntryGroupMatch(BibEntryTableViewModel entry, boolean isMatched, boolean isFloatingMode) {
         entry.isMatchedByGroup().set(isMatched);
         entry.updateMatchCategory();
         if (isMatched) {
@@ -116,6 +116,8 @@ public class ExistingStudySearchAction extends SimpleCommand {
                     preferences,
                     new BibEntryTypesManager(),
                     fileUpdateMonitor);
+            // Repeated searches only append their new results to the result files
+            crawler.setIncrementalPersistence(true);
         } catch (IOException | ParseException e) {
             LOGGER.error("Error during reading of study definition file.", e);
             dialogService.showErrorDialogAndWait(Localization.lang("Error during reading of study definition file."), e);
@@ -1,21 +1,44 @@
 package org.jabref.gui.entryeditor.citationrelationtab;
 
+import java.nio.file.Path;
 import java.util.List;
 
 import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.fetcher.citation.CitationGraphStore;
 import org.jabref.logic.importer.fetcher.citation.semanticscholar.SemanticScholarFetcher;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class BibEntryRelationsRepositoryTest {
 
+    @TempDir
+    Path tempDir;
+
+    private CitationGraphStore citationGraphStore;
+
+    @BeforeEach
+    void setUp() {
+        citationGraphStore = new CitationGraphStore(tempDir.resolve("graph.mv"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        citationGraphStore.close();
+    }
+
     private List<BibEntry> getCitedBy(BibEntry entry) {
         return List.of(createCitingBibEntry(entry));
     }
@@ -43,7 +66,7 @@ class BibEntryRelationsRepositoryTest {
             BibEntry entry = invocation.getArgument(0);
             return getCitedBy(entry);
         });
-        BibEntryRelationsCache bibEntryRelationsCache = new BibEntryRelationsCache();
+        BibEntryRelationsCache bibEntryRelationsCache = new BibEntryRelationsCache(citationGraphStore);
 
         BibEntryRelationsRepository bibEntryRelationsRepository = new BibEntryRelationsRepository(semanticScholarFetcher, bibEntryRelationsCache);
 
@@ -59,4 +82,48 @@ class BibEntryRelationsRepositoryTest {
             assertEquals(getCitedBy(entry), citations);
         }
     }
+
+    @Test
+    void failedRefreshKeepsCachedCitations() throws FetcherException {
+        SemanticScholarFetcher semanticScholarFetcher = mock(SemanticScholarFetcher.class);
+        BibEntry entry = createBibEntry(1);
+        when(semanticScholarFetcher.searchCitedBy(entry))
+                .thenReturn(getCitedBy(entry))
+                .thenThrow(new FetcherException("Too many requests"));
+        BibEntryRelationsRepository bibEntryRelationsRepository = new BibEntryRelationsRepository(semanticScholarFetcher, new BibEntryRelationsCache(citationGraphStore));
+
+        bibEntryRelationsRepository.getCitations(entry);
+        bibEntryRelationsRepository.forceRefreshCitations(entry);
+
+        assertEquals(getCitedBy(entry), bibEntryRelationsRepository.getCitations(entry));
+    }
+
+    @Test
+    void prefetchFetchesEachEntryOnce() throws FetcherException {
+        SemanticScholarFetcher semanticScholarFetcher = mock(SemanticScholarFetcher.class);
+        when(semanticScholarFetcher.searchCitedBy(any(BibEntry.class))).thenAnswer(invocation -> getCitedBy(invocation.getArgument(0)));
+        when(semanticScholarFetcher.searchCiting(any(BibEntry.class))).thenReturn(List.of());
+        BibEntryRelationsRepository bibEntryRelationsRepository = new BibEntryRelationsRepository(semanticScholarFetcher, new BibEntryRelationsCache(citationGraphStore));
+        List<BibEntry> entries = List.of(createBibEntry(1), createBibEntry(2), createBibEntry(3));
+
+        bibEntryRelationsRepository.prefetch(entries, () -> false);
+        bibEntryRelationsRepository.prefetch(entries, () -> false);
+
+        for (BibEntry entry : entries) {
+            assertEquals(getCitedBy(entry), bibEntryRelationsRepository.getCitations(entry));
+        }
+        verify(semanticScholarFetcher, times(3)).searchCitedBy(any(BibEntry.class));
+        verify(semanticScholarFetcher, times(3)).searchCiting(any(BibEntry.class));
+    }
+
+    @Test
+    void cancelledPrefetchSendsNoRequests() throws FetcherException {
+        SemanticScholarFetcher semanticScholarFetcher = mock(SemanticScholarFetcher.class);
+        BibEntryRelationsRepository bibEntryRelationsRepository = new BibEntryRelationsRepository(semanticScholarFetcher, new BibEntryRelationsCache(citationGraphStore));
+
+        bibEntryRelationsRepository.prefetch(List.of(createBibEntry(1), createBibEntry(2)), () -> true);
+
+        verify(semanticScholarFetcher, never()).searchCitedBy(any(BibEntry.class));
+        verify(semanticScholarFetcher, never()).searchCiting(any(BibEntry.class));
+    }
 }
@@ -8,26 +8,32 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.util.Pair;
 
 import org.jabref.cli.ArgumentProcessor;
+import org.jabref.cli.DaemonToken;
 import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.logic.importer.WebFetcher;
 import org.jabref.logic.importer.WebFetchers;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.net.HttpResponseCache;
 import org.jabref.logic.net.ProxyAuthenticator;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.net.ProxyRegisterer;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.net.ssl.SSLPreferences;
 import org.jabref.logic.net.ssl.TrustStoreManager;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.preferences.JabRefCliPreferences;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
+import org.jabref.logic.remote.CommandResult;
+import org.jabref.logic.remote.client.RemoteClient;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.Directories;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -51,7 +57,12 @@ import picocli.CommandLine;
 /// For the GUI application see {@link org.jabref.Launcher}.
 ///
 /// Does not do any preference migrations.
+///
+/// If the environment variable {@value #DAEMON_PORT_VARIABLE} is set, the command is forwarded to the daemon listening
+/// on that port (see `jabkit daemon`) instead of being executed in this process.
 public class JabKit {
+    public static final String DAEMON_PORT_VARIABLE = "JABKIT_DAEMON_PORT";
+
     private static Logger LOGGER;
 
     private static String JABKIT_BRAND = "JabKit - command line toolkit for JabRef";
@@ -59,6 +70,16 @@ public class JabKit {
     public static void main(String[] args) {
         initLogging(args);
 
+        // The daemon has everything loaded already, thus this process forwards the command before loading anything
+        Optional<CommandResult> daemonResult = executeInDaemon(args);
+        if (daemonResult.isPresent()) {
+            System.out.print(daemonResult.get().output());
+            System.out.flush();
+            System.err.print(daemonResult.get().errorOutput());
+            System.err.flush();
+            System.exit(daemonResult.get().exitCode());
+        }
+
         try {
             final JabRefCliPreferences preferences = JabRefCliPreferences.getInstance();
             Injector.setModelOrService(CliPreferences.class, preferences);
@@ -73,15 +94,13 @@ public class JabKit {
 
             configureProxy(preferences.getProxyPreferences());
             configureSSL(preferences.getSSLPreferences());
+            URLDownload.setResponseCache(new HttpResponseCache(Directories.getHttpCacheDirectory()));
 
             Injector.setModelOrService(FileUpdateMonitor.class, new DummyFileUpdateMonitor());
 
             // Process arguments
             ArgumentProcessor argumentProcessor = new ArgumentProcessor(preferences, entryTypesManager);
-            CommandLine commandLine = new CommandLine(argumentProcessor);
-            String usageHeader = BuildInfo.JABREF_BANNER.formatted(new BuildInfo().version) + "\n" + JABKIT_BRAND;
-            commandLine.getCommandSpec().usageMessage().header(usageHeader);
-            applyUsageFooters(commandLine,
+            CommandLine commandLine = createCommandLine(argumentProcessor,
                     ArgumentProcessor.getAvailableImportFormats(preferences),
                     ArgumentProcessor.getAvailableExportFormats(preferences),
                     WebFetchers.getSearchBasedFetchers(preferences.getImportFormatPreferences(), preferences.getImporterPreferences()));
@@ -91,6 +110,47 @@ public class JabKit {
         }
     }
 
+    /// Creates the command line with the usage help listing the given formats and fetchers
+    public static CommandLine createCommandLine(ArgumentProcessor argumentProcessor,
+                                                List<Pair<String, String>> inputFormats,
+                                                List<Pair<String, String>> outputFormats,
+                                                Set<SearchBasedFetcher> fetchers) {
+        CommandLine commandLine = new CommandLine(argumentProcessor);
+        String usageHeader = BuildInfo.JABREF_BANNER.formatted(new BuildInfo().version) + "\n" + JABKIT_BRAND;
+        commandLine.getCommandSpec().usageMessage().header(usageHeader);
+        applyUsageFooters(commandLine, inputFormats, outputFormats, fetchers);
+        return commandLine;
+    }
+
+    /// @return the result of the command, if the daemon executed it
+    private static Optional<CommandResult> executeInDaemon(String[] args) {
+        String port = System.getenv(DAEMON_PORT_VARIABLE);
+        // The daemon itself is started in this process
+        if ((port == null) || Arrays.asList(args).contains("daemon")) {
+            return Optional.empty();
+        }
+
+        int portNumber;
+        try {
+            portNumber = Integer.parseInt(port);
+        } catch (NumberFormatException e) {
+            LOGGER.warn("{} is not a port number: {}", DAEMON_PORT_VARIABLE, port);
+            return Optional.empty();
+        }
+
+        Optional<String> token = DaemonToken.read(portNumber);
+        if (token.isEmpty()) {
+            LOGGER.info("No daemon was started at port {}. Executing the command in this process.", portNumber);
+            return Optional.empty();
+        }
+
+        Optional<CommandResult> result = new RemoteClient(portNumber).executeCommand(token.get(), Path.of(""), args);
+        if (result.isEmpty()) {
+            LOGGER.info("No daemon at port {}. Executing the command in this process.", portNumber);
+        }
+        return result;
+    }
+
     private static void applyUsageFooters(CommandLine commandLine,
                                           List<Pair<String, String>> inputFormats,
                                           List<Pair<String, String>> outputFormats,
@@ -47,7 +47,8 @@ import static picocli.CommandLine.Option;
                 Convert.class,
                 GenerateBibFromAux.class,
                 Preferences.class,
-                Pdf.class
+                Pdf.class,
+                Daemon.class
         })
 public class ArgumentProcessor implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(ArgumentProcessor.class);
@@ -55,6 +56,12 @@ public class ArgumentProcessor implements Runnable {
     protected final CliPreferences cliPreferences;
     protected final BibEntryTypesManager entryTypesManager;
 
+    /**
+     * The directory relative paths in the arguments are resolved against. The {@link Daemon} executes each command in
+     * the working directory of its client.
+     */
+    protected final Path workingDirectory;
+
     @Mixin
     private SharedOptions sharedOptions = new SharedOptions();
 
@@ -62,8 +69,13 @@ public class ArgumentProcessor implements Runnable {
     private boolean versionInfoRequested;
 
     public ArgumentProcessor(CliPreferences cliPreferences, BibEntryTypesManager entryTypesManager) {
+        this(cliPreferences, entryTypesManager, Path.of(""));
+    }
+
+    public ArgumentProcessor(CliPreferences cliPreferences, BibEntryTypesManager entryTypesManager, Path workingDirectory) {
         this.cliPreferences = cliPreferences;
         this.entryTypesManager = entryTypesManager;
+        this.workingDirectory = workingDirectory;
     }
 
     @Override
@@ -76,6 +88,7 @@ public class ArgumentProcessor implements Runnable {
      */
     protected static Optional<ParserResult> importFile(String importArguments,
                                                        String importFormat,
+                                                       Path workingDirectory,
                                                        CliPreferences cliPreferences,
                                                        boolean porcelain) {
         LOGGER.debug("Importing file {}", importArguments);
@@ -93,9 +106,9 @@ public class ArgumentProcessor implements Runnable {
             }
         } else {
             if (OS.WINDOWS) {
-                file = Path.of(address);
+                file = workingDirectory.resolve(address);
             } else {
-                file = Path.of(address.replace("~", System.getProperty("user.home")));
+                file = workingDirectory.resolve(address.replace("~", System.getProperty("user.home")));
             }
         }
 
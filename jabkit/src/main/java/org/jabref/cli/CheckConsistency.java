@@ -44,6 +44,7 @@ class CheckConsistency implements Runnable {
         Optional<ParserResult> parserResult = ArgumentProcessor.importFile(
                 inputFile,
                 "bibtex",
+                argumentProcessor.workingDirectory,
                 argumentProcessor.cliPreferences,
                 sharedOptions.porcelain);
         if (parserResult.isEmpty()) {
@@ -0,0 +1,167 @@
+package org.jabref.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import javafx.util.Pair;
+
+import org.jabref.JabKit;
+import org.jabref.logic.importer.SearchBasedFetcher;
+import org.jabref.logic.importer.WebFetchers;
+import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.remote.CommandResult;
+import org.jabref.logic.remote.server.RemoteListenerServer;
+import org.jabref.logic.remote.server.RemoteMessageHandler;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine;
+
+import static picocli.CommandLine.Command;
+import static picocli.CommandLine.Mixin;
+import static picocli.CommandLine.Option;
+import static picocli.CommandLine.ParentCommand;
+
+/// Keeps JabKit running, so that the commands of other JabKit processes are executed without starting a JVM and
+/// loading the preferences, the journal abbreviations and the search engine for each command.
+///
+/// A JabKit process forwards its command to the daemon if the environment variable {@value JabKit#DAEMON_PORT_VARIABLE}
+/// is set to the port of the daemon. The daemon executes the commands one after another, each in the working directory
+/// of its client, and sends back the output and the exit code. If the daemon cannot be reached, the client executes the
+/// command itself.
+///
+/// Each command carries the {@link DaemonToken} of the daemon, as any local process can connect to the port.
+@Command(name = "daemon", description = "Keep JabKit running and execute the commands of other JabKit processes. "
+        + "They forward their commands if the environment variable " + JabKit.DAEMON_PORT_VARIABLE + " is set to the port.")
+class Daemon implements Callable<Integer> {
+    static final int DEFAULT_PORT = 6052;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Daemon.class);
+
+    // Build scripts may start many JabKit processes at once. Their commands wait until the previous ones are executed.
+    private static final int BACKLOG = 50;
+
+    @ParentCommand
+    private ArgumentProcessor argumentProcessor;
+
+    @Mixin
+    private ArgumentProcessor.SharedOptions sharedOptions = new ArgumentProcessor.SharedOptions();
+
+    @Option(names = "--port", description = "Port to listen on for commands (default: " + DEFAULT_PORT + ")")
+    private int port = DEFAULT_PORT;
+
+    @Override
+    public Integer call() {
+        CommandExecutor commandExecutor = new CommandExecutor(argumentProcessor.cliPreferences, argumentProcessor.entryTypesManager);
+        String token = DaemonToken.generate();
+        RemoteListenerServer server;
+        try {
+            server = new RemoteListenerServer(commandExecutor, port, BACKLOG, token);
+        } catch (IOException e) {
+            System.err.println(Localization.lang("Cannot use port %0 for remote operation; another application may be using it. Try specifying another port.", String.valueOf(port)));
+            LOGGER.error("Could not open port {}", port, e);
+            return 1;
+        }
+
+        // Written after the port is opened, so that the token of another daemon on this port is not overwritten
+        try {
+            DaemonToken.write(port, token);
+        } catch (IOException e) {
+            System.err.println(Localization.lang("Could not save file.") + "\n" + e.getLocalizedMessage());
+            LOGGER.error("Could not write the token of the daemon", e);
+            server.closeServerSocket();
+            return 1;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                DaemonToken.delete(port);
+            } catch (IOException e) {
+                LOGGER.warn("Could not delete the token of the daemon", e);
+            }
+        }));
+
+        if (!sharedOptions.porcelain) {
+            System.out.println(Localization.lang("Waiting for commands on port %0.", String.valueOf(port)));
+        }
+        server.run();
+        return 0;
+    }
+
+    /// Executes the commands received by the daemon
+    static class CommandExecutor implements RemoteMessageHandler {
+        private final CliPreferences preferences;
+        private final BibEntryTypesManager entryTypesManager;
+
+        // Listed in the usage help. Collected once, as collecting them takes longer than most commands.
+        private final List<Pair<String, String>> importFormats;
+        private final List<Pair<String, String>> exportFormats;
+        private final Set<SearchBasedFetcher> fetchers;
+
+        CommandExecutor(CliPreferences preferences, BibEntryTypesManager entryTypesManager) {
+            this(preferences,
+                    entryTypesManager,
+                    ArgumentProcessor.getAvailableImportFormats(preferences),
+                    ArgumentProcessor.getAvailableExportFormats(preferences),
+                    WebFetchers.getSearchBasedFetchers(preferences.getImportFormatPreferences(), preferences.getImporterPreferences()));
+        }
+
+        CommandExecutor(CliPreferences preferences,
+                        BibEntryTypesManager entryTypesManager,
+                        List<Pair<String, String>> importFormats,
+                        List<Pair<String, String>> exportFormats,
+                        Set<SearchBasedFetcher> fetchers) {
+            this.preferences = preferences;
+            this.entryTypesManager = entryTypesManager;
+            this.importFormats = importFormats;
+            this.exportFormats = exportFormats;
+            this.fetchers = fetchers;
+        }
+
+        @Override
+        public void handleCommandLineArguments(String[] message) {
+            LOGGER.warn("The daemon executes commands only. Ignored arguments: {}", String.join(" ", message));
+        }
+
+        @Override
+        public CommandResult executeCommand(Path workingDirectory, String[] arguments) {
+            LOGGER.debug("Executing command {} in {}", String.join(" ", arguments), workingDirectory);
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            ByteArrayOutputStream errorOutput = new ByteArrayOutputStream();
+            PrintStream systemOut = System.out;
+            PrintStream systemErr = System.err;
+            int exitCode;
+            // The commands write to System.out and System.err. They are redirected while the command is executed.
+            // As the server executes one command after another, no other command writes to them meanwhile.
+            try (PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+                 PrintStream err = new PrintStream(errorOutput, true, StandardCharsets.UTF_8)) {
+                System.setOut(out);
+                System.setErr(err);
+
+                CommandLine commandLine = JabKit.createCommandLine(
+                        new ArgumentProcessor(preferences, entryTypesManager, workingDirectory),
+                        importFormats,
+                        exportFormats,
+                        fetchers);
+                // Path options are relative to the working directory of the client, not to the one of the daemon
+                commandLine.registerConverter(Path.class, workingDirectory::resolve);
+                commandLine.setOut(new PrintWriter(out, true));
+                commandLine.setErr(new PrintWriter(err, true));
+                exitCode = commandLine.execute(arguments);
+            } finally {
+                System.setOut(systemOut);
+                System.setErr(systemErr);
+            }
+            return new CommandResult(exitCode, output.toString(StandardCharsets.UTF_8), errorOutput.toString(StandardCharsets.UTF_8));
+        }
+    }
+}
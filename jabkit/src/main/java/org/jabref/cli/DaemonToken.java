@@ -0,0 +1,76 @@
+package org.jabref.cli;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.logic.util.Directories;
+
+/// The secret a JabKit daemon requires with each command, so that only processes of the user who started the daemon
+/// can execute commands. Any local process can connect to the port of the daemon, but only the user can read the file
+/// the daemon writes the token to.
+///
+/// On POSIX file systems, the directory and the file are readable by the owner only. On Windows, the application data
+/// directory of the user is not accessible to other users.
+public final class DaemonToken {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private DaemonToken() {
+    }
+
+    public static String generate() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    /// Writes the token of the daemon listening on the given port to the file its clients read it from
+    public static void write(int port, String token) throws IOException {
+        Path tokenFile = getFile(port);
+        Path directory = tokenFile.getParent();
+        Files.createDirectories(directory);
+        if (isPosix()) {
+            Files.setPosixFilePermissions(directory, EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE, PosixFilePermission.OWNER_EXECUTE));
+        }
+
+        // The file is created with the restricted permissions, so that the token is never readable by others
+        Files.deleteIfExists(tokenFile);
+        if (isPosix()) {
+            Set<PosixFilePermission> ownerOnly = EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE);
+            Files.createFile(tokenFile, PosixFilePermissions.asFileAttribute(ownerOnly));
+        } else {
+            Files.createFile(tokenFile);
+        }
+        Files.writeString(tokenFile, token);
+    }
+
+    /// @return the token of the daemon listening on the given port, if a daemon was started on that port
+    public static Optional<String> read(int port) {
+        try {
+            return Optional.of(Files.readString(getFile(port)).strip());
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static void delete(int port) throws IOException {
+        Files.deleteIfExists(getFile(port));
+    }
+
+    private static Path getFile(int port) {
+        return Directories.getDaemonDirectory().resolve(port + ".token");
+    }
+
+    private static boolean isPosix() {
+        return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+    }
+}
@@ -46,6 +46,7 @@ class GenerateBibFromAux implements Runnable {
         Optional<ParserResult> pr = ArgumentProcessor.importFile(
                 inputFile,
                 "bibtex",
+                argumentProcessor.workingDirectory,
                 argumentProcessor.cliPreferences,
                 sharedOptions.porcelain);
         if (pr.isEmpty()) {
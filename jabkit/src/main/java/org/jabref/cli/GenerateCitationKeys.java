@@ -39,6 +39,7 @@ public class GenerateCitationKeys implements Runnable {
         Optional<ParserResult> parserResult = ArgumentProcessor.importFile(
                 inputFile,
                 "bibtex",
+                argumentProcessor.workingDirectory,
                 argumentProcessor.cliPreferences,
                 sharedOptions.porcelain);
         if (parserResult.isEmpty()) {
@@ -2,15 +2,16 @@ package org.jabref.cli;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.bibtex.FieldPreferences;
-import org.jabref.logic.exporter.EmbeddedBibFilePdfExporter;
-import org.jabref.logic.exporter.XmpPdfExporter;
+import org.jabref.logic.exporter.BatchPdfMetadataWriter;
 import org.jabref.logic.importer.ParserResult;
-import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.logic.xmp.XmpPreferences;
@@ -19,7 +20,6 @@ import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 
-import com.airhacks.afterburner.injection.Injector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +53,9 @@ class PdfUpdate implements Runnable {
     @Option(names = "--update-linked-files", description = "Update linked files automatically.")
     private boolean updateLinkedFiles;
 
+    @Option(names = {"-j", "--jobs"}, description = "Number of PDFs processed in parallel")
+    private int jobs = Runtime.getRuntime().availableProcessors();
+
     @Override
     public void run() {
         if (!formats.contains("xmp") && !formats.contains("bibtex-attachment")) {
@@ -88,9 +91,9 @@ class PdfUpdate implements Runnable {
                 pdf.argumentProcessor.cliPreferences.getLibraryPreferences().getDefaultBibDatabaseMode(),
                 pdf.argumentProcessor.cliPreferences.getCustomEntryTypesRepository(),
                 pdf.argumentProcessor.cliPreferences.getFieldPreferences(),
-                Injector.instantiateModelOrService(JournalAbbreviationRepository.class),
                 formats.contains("xmp"),
-                formats.contains("bibtex-attachment"));
+                formats.contains("bibtex-attachment"),
+                jobs);
     }
 
     private static void writeMetadataToPdf(List<ParserResult> loaded,
@@ -101,128 +104,88 @@ class PdfUpdate implements Runnable {
                                            BibDatabaseMode databaseMode,
                                            BibEntryTypesManager entryTypesManager,
                                            FieldPreferences fieldPreferences,
-                                           JournalAbbreviationRepository abbreviationRepository,
                                            boolean writeXMP,
-                                           boolean embeddBibfile) {
+                                           boolean embeddBibfile,
+                                           int jobs) {
         ParserResult pr = loaded.getLast();
         BibDatabaseContext databaseContext = pr.getDatabaseContext();
 
-        XmpPdfExporter xmpPdfExporter = new XmpPdfExporter(xmpPreferences);
-        EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter = new EmbeddedBibFilePdfExporter(databaseMode, entryTypesManager, fieldPreferences);
-
+        Map<Path, List<BibEntry>> entriesByPdf = new LinkedHashMap<>();
         if (citationKeys.contains("all")) {
-            for (BibEntry entry : databaseContext.getEntries()) {
-                writeMetadataToPDFsOfEntry(
-                        databaseContext,
-                        entry.getCitationKey().orElse("<no cite key defined>"),
-                        entry,
-                        filePreferences,
-                        xmpPdfExporter,
-                        embeddedBibFilePdfExporter,
-                        abbreviationRepository,
-                        writeXMP,
-                        embeddBibfile);
-            }
-            return;
+            collectLinkedPdfs(databaseContext, databaseContext.getEntries(), filePreferences, writeXMP, embeddBibfile, entriesByPdf);
+        } else {
+            collectLinkedPdfsByCitekey(databaseContext, citationKeys, filePreferences, writeXMP, embeddBibfile, entriesByPdf);
+            collectLinkedPdfsByFileNames(databaseContext, files, filePreferences, entriesByPdf);
         }
 
-        writeMetadataToPdfByCitekey(
-                databaseContext,
-                citationKeys,
-                filePreferences,
-                xmpPdfExporter,
-                embeddedBibFilePdfExporter,
-                abbreviationRepository,
-                writeXMP,
-                embeddBibfile);
-        writeMetadataToPdfByFileNames(
-                databaseContext,
-                files,
-                filePreferences,
-                xmpPdfExporter,
-                embeddedBibFilePdfExporter,
-                abbreviationRepository,
+        BatchPdfMetadataWriter writer = new BatchPdfMetadataWriter(
+                xmpPreferences,
+                databaseMode,
+                entryTypesManager,
+                fieldPreferences,
                 writeXMP,
-                embeddBibfile);
+                embeddBibfile,
+                jobs);
+        for (BatchPdfMetadataWriter.WriteResult result : writer.write(entriesByPdf, databaseContext.getDatabase())) {
+            if (result.isSuccessful()) {
+                if (writeXMP) {
+                    System.out.println(Localization.lang("Successfully written XMP metadata of at least one entry to %0.", result.pdf()));
+                }
+                if (embeddBibfile) {
+                    System.out.println(Localization.lang("Successfully embedded XMP metadata of at least one entry to %0.", result.pdf()));
+                }
+            } else {
+                System.out.println(Localization.lang("Could not write metadata to %0: %1", result.pdf(), result.errorMessage().orElse("")));
+            }
+        }
     }
 
-    private static void writeMetadataToPDFsOfEntry(BibDatabaseContext databaseContext,
-                                                   String citeKey,
-                                                   BibEntry entry,
-                                                   FilePreferences filePreferences,
-                                                   XmpPdfExporter xmpPdfExporter,
-                                                   EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter,
-                                                   JournalAbbreviationRepository abbreviationRepository,
-                                                   boolean writeXMP,
-                                                   boolean embedBibfile) {
-        try {
-            if (writeXMP) {
-                if (xmpPdfExporter.exportToAllFilesOfEntry(
-                        databaseContext,
-                        filePreferences,
-                        entry,
-                        List.of(entry),
-                        abbreviationRepository)) {
-                    System.out.println(Localization.lang("Successfully written XMP metadata on at least one linked file of %0.", citeKey));
-                } else {
+    private static void collectLinkedPdfs(BibDatabaseContext databaseContext,
+                                          List<BibEntry> entries,
+                                          FilePreferences filePreferences,
+                                          boolean writeXMP,
+                                          boolean embeddBibfile,
+                                          Map<Path, List<BibEntry>> entriesByPdf) {
+        for (BibEntry entry : entries) {
+            Map<Path, List<BibEntry>> linkedPdfs = BatchPdfMetadataWriter.getLinkedPdfs(databaseContext, filePreferences, List.of(entry));
+            if (linkedPdfs.isEmpty()) {
+                String citeKey = entry.getCitationKey().orElse("<no cite key defined>");
+                if (writeXMP) {
                     System.out.println(Localization.lang("Cannot write XMP metadata on any linked files of %0. Make sure there is at least one linked file and the path is correct.", citeKey));
                 }
-            }
-            if (embedBibfile) {
-                if (embeddedBibFilePdfExporter.exportToAllFilesOfEntry(
-                        databaseContext,
-                        filePreferences,
-                        entry,
-                        List.of(entry),
-                        abbreviationRepository)) {
-                    System.out.println(Localization.lang("Successfully embedded metadata on at least one linked file of %0.", citeKey));
-                } else {
+                if (embeddBibfile) {
                     System.out.println(Localization.lang("Cannot embed metadata on any linked files of %s. Make sure there is at least one linked file and the path is correct.", citeKey));
                 }
             }
-        } catch (Exception e) {
-            LOGGER.error("Failed writing metadata on a linked file of {}.", citeKey);
+            linkedPdfs.keySet().forEach(pdf -> addEntry(entriesByPdf, pdf, entry));
         }
     }
 
-    private static void writeMetadataToPdfByCitekey(BibDatabaseContext databaseContext,
-                                                    List<String> citeKeys,
-                                                    FilePreferences filePreferences,
-                                                    XmpPdfExporter xmpPdfExporter,
-                                                    EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter,
-                                                    JournalAbbreviationRepository abbreviationRepository,
-                                                    boolean writeXMP,
-                                                    boolean embeddBibfile) {
+    private static void collectLinkedPdfsByCitekey(BibDatabaseContext databaseContext,
+                                                   List<String> citeKeys,
+                                                   FilePreferences filePreferences,
+                                                   boolean writeXMP,
+                                                   boolean embeddBibfile,
+                                                   Map<Path, List<BibEntry>> entriesByPdf) {
         for (String citeKey : citeKeys) {
             List<BibEntry> bibEntryList = databaseContext.getDatabase().getEntriesByCitationKey(citeKey);
             if (bibEntryList.isEmpty()) {
                 LOGGER.error("Skipped - Cannot find {} in library.", citeKey);
                 continue;
             }
-            for (BibEntry entry : bibEntryList) {
-                writeMetadataToPDFsOfEntry(
-                        databaseContext,
-                        citeKey,
-                        entry,
-                        filePreferences,
-                        xmpPdfExporter,
-                        embeddedBibFilePdfExporter,
-                        abbreviationRepository,
-                        writeXMP,
-                        embeddBibfile);
-            }
+            collectLinkedPdfs(databaseContext, bibEntryList, filePreferences, writeXMP, embeddBibfile, entriesByPdf);
         }
     }
 
-    private static void writeMetadataToPdfByFileNames(BibDatabaseContext databaseContext,
-                                                      List<Path> pdfs,
-                                                      FilePreferences filePreferences,
-                                                      XmpPdfExporter xmpPdfExporter,
-                                                      EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter,
-                                                      JournalAbbreviationRepository abbreviationRepository,
-                                                      boolean writeXMP,
-                                                      boolean embeddBibfile) {
+    private static void collectLinkedPdfsByFileNames(BibDatabaseContext databaseContext,
+                                                     List<Path> pdfs,
+                                                     FilePreferences filePreferences,
+                                                     Map<Path, List<BibEntry>> entriesByPdf) {
+        Map<Path, List<BibEntry>> allLinkedPdfs = null;
         for (Path filePath : pdfs) {
+            if (!FileUtil.isPDFFile(filePath)) {
+                continue;
+            }
             if (!filePath.isAbsolute()) {
                 filePath = FileUtil.find(filePath.toString(), databaseContext.getFileDirectories(filePreferences)).orElse(
                         FileUtil.find(filePath.toString(), List.of(Path.of("").toAbsolutePath())).orElse(filePath));
@@ -230,27 +193,25 @@ class PdfUpdate implements Runnable {
 
             if (!Files.exists(filePath)) {
                 LOGGER.error("Skipped - PDF {} does not exist", filePath);
-                return;
+                continue;
             }
 
-            try {
-                if (writeXMP) {
-                    if (xmpPdfExporter.exportToFileByPath(databaseContext, filePreferences, filePath, abbreviationRepository)) {
-                        System.out.println(Localization.lang("Successfully written XMP metadata of at least one entry to %0.", filePath));
-                    } else {
-                        System.out.println(Localization.lang("File %0 is not linked to any entry in library.", filePath));
-                    }
-                }
-                if (embeddBibfile) {
-                    if (embeddedBibFilePdfExporter.exportToFileByPath(databaseContext, filePreferences, filePath, abbreviationRepository)) {
-                        System.out.println(Localization.lang("Successfully embedded XMP metadata of at least one entry to %0.", filePath));
-                    } else {
-                        System.out.println(Localization.lang("File %0 is not linked to any entry in library.", filePath));
-                    }
-                }
-            } catch (Exception e) {
-                LOGGER.error("Error writing entry to {}.", filePath);
+            if (allLinkedPdfs == null) {
+                allLinkedPdfs = BatchPdfMetadataWriter.getLinkedPdfs(databaseContext, filePreferences, databaseContext.getEntries());
+            }
+            Path pdf = filePath.toAbsolutePath().normalize();
+            List<BibEntry> linkingEntries = allLinkedPdfs.getOrDefault(pdf, List.of());
+            if (linkingEntries.isEmpty()) {
+                System.out.println(Localization.lang("File %0 is not linked to any entry in library.", filePath));
             }
+            linkingEntries.forEach(entry -> addEntry(entriesByPdf, pdf, entry));
+        }
+    }
+
+    private static void addEntry(Map<Path, List<BibEntry>> entriesByPdf, Path pdf, BibEntry entry) {
+        List<BibEntry> entries = entriesByPdf.computeIfAbsent(pdf, _ -> new ArrayList<>());
+        if (entries.stream().noneMatch(existing -> existing == entry)) {
+            entries.add(entry);
         }
     }
 }
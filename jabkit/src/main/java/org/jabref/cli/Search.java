@@ -56,6 +56,7 @@ class Search implements Runnable {
         Optional<ParserResult> parserResult = ArgumentProcessor.importFile(
                 inputFile,
                 "bibtex",
+                argumentProcessor.workingDirectory,
                 argumentProcessor.cliPreferences,
                 sharedOptions.porcelain);
         if (parserResult.isEmpty()) {
@@ -68,7 +69,8 @@ class Search implements Runnable {
             return;
         }
 
-        PostgreServer postgreServer = new PostgreServer();
+        // The daemon starts the search engine on its first search only and keeps it running for the following ones
+        PostgreServer postgreServer = Injector.instantiateModelOrService(PostgreServer.class);
         IndexManager.clearOldSearchIndices();
 
         SearchPreferences searchPreferences = argumentProcessor.cliPreferences.getSearchPreferences();
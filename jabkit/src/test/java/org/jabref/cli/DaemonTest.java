@@ -0,0 +1,89 @@
+package org.jabref.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+
+import org.jabref.logic.exporter.BibDatabaseWriter;
+import org.jabref.logic.exporter.ExportPreferences;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ImporterPreferences;
+import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.remote.CommandResult;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.metadata.SelfContainedSaveOrder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+import picocli.CommandLine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DaemonTest {
+
+    private final CliPreferences preferences = mock(CliPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private final BibEntryTypesManager entryTypesManager = mock(BibEntryTypesManager.class);
+    private final ImporterPreferences importerPreferences = mock(ImporterPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private final ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+
+    @TempDir
+    Path clientDirectory;
+
+    private Daemon.CommandExecutor commandExecutor;
+
+    @BeforeEach
+    void setUp() throws URISyntaxException, IOException {
+        when(importerPreferences.getCustomImporters()).thenReturn(FXCollections.emptyObservableSet());
+        when(preferences.getImporterPreferences()).thenReturn(importerPreferences);
+        when(preferences.getImportFormatPreferences()).thenReturn(importFormatPreferences);
+        when(preferences.getExportPreferences()).thenReturn(new ExportPreferences(".html", clientDirectory, new SaveOrder(SaveOrder.OrderType.TABLE, List.of()), List.of()));
+        when(preferences.getSelfContainedExportConfiguration()).thenReturn(new SelfContainedSaveConfiguration(
+                new SelfContainedSaveOrder(SaveOrder.OrderType.ORIGINAL, List.of()), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, false));
+
+        Path originBib = Path.of(Objects.requireNonNull(DaemonTest.class.getResource("origin.bib")).toURI());
+        Files.copy(originBib, clientDirectory.resolve("origin.bib"));
+
+        commandExecutor = new Daemon.CommandExecutor(preferences, entryTypesManager, List.of(), List.of(), Set.of());
+    }
+
+    @Test
+    void relativePathsAreResolvedAgainstDirectoryOfClient() {
+        PrintStream systemOut = System.out;
+
+        CommandResult result = commandExecutor.executeCommand(clientDirectory, new String[] {
+                "convert", "--input", "origin.bib", "--input-format", "bibtex", "--output", "output.html", "--output-format", "tablerefsabsbib"});
+
+        assertEquals(CommandLine.ExitCode.OK, result.exitCode());
+        assertTrue(Files.exists(clientDirectory.resolve("output.html")));
+        assertTrue(result.output().contains(Localization.lang("Exporting '%0'.", clientDirectory.resolve("output.html"))));
+        assertSame(systemOut, System.out);
+    }
+
+    @Test
+    void errorOutputAndExitCodeAreReturned() {
+        PrintStream systemErr = System.err;
+
+        CommandResult result = commandExecutor.executeCommand(clientDirectory, new String[] {"convert", "--unknown-option"});
+
+        assertEquals(CommandLine.ExitCode.USAGE, result.exitCode());
+        assertTrue(result.errorOutput().contains("--unknown-option"));
+        assertEquals("", result.output());
+        assertSame(systemErr, System.err);
+    }
+}
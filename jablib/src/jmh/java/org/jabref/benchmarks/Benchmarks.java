@@ -3,6 +3,7 @@ package org.jabref.benchmarks;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -26,6 +27,7 @@ import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.BibDatabaseModeDetection;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.Date;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.groups.GroupHierarchyType;
@@ -33,6 +35,7 @@ import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.metadata.SelfContainedSaveOrder;
 
 import com.airhacks.afterburner.injection.Injector;
 import org.mockito.Answers;
@@ -51,6 +54,7 @@ public class Benchmarks {
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
     private String htmlConversionString;
+    private final List<String> dateStrings = new ArrayList<>();
 
     @Setup
     public void init() throws IOException {
@@ -74,6 +78,19 @@ public class Benchmarks {
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
+
+        // Mix of date forms as found in real libraries; the ISO forms dominate
+        for (int year = 1950; year < 2025; year++) {
+            dateStrings.add(String.valueOf(year));
+            for (int month = 1; month <= 12; month++) {
+                dateStrings.add("%d-%02d".formatted(year, month));
+                dateStrings.add("%d-%02d-%02d".formatted(year, month, 1 + randomizer.nextInt(28)));
+            }
+            dateStrings.add("January " + year);
+            dateStrings.add("15.3." + year);
+            dateStrings.add(year + "/" + (year + 1));
+            dateStrings.add(year + "-06-01T10:15:30+02:00");
+        }
     }
 
     private StringWriter getOutputWriter() throws IOException {
@@ -117,6 +134,25 @@ public class Benchmarks {
         return List.of();
     }
 
+    @Benchmark
+    public List<BibEntry> sortEntries() {
+        return BibDatabaseWriter.getSortedEntries(database.getEntries(), new SelfContainedSaveOrder(SaveOrder.OrderType.SPECIFIED,
+                List.of(new SaveOrder.SortCriterion(StandardField.AUTHOR, false),
+                        new SaveOrder.SortCriterion(StandardField.YEAR, true),
+                        new SaveOrder.SortCriterion(StandardField.TITLE, false))));
+    }
+
+    @Benchmark
+    public int parseDates() {
+        int parsed = 0;
+        for (String dateString : dateStrings) {
+            if (Date.parse(dateString).isPresent()) {
+                parsed++;
+            }
+        }
+        return parsed;
+    }
+
     @Benchmark
     public BibDatabaseMode inferBibDatabaseMode() {
         return BibDatabaseModeDetection.inferMode(database);
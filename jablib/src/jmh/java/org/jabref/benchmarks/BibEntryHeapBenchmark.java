@@ -0,0 +1,72 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap retained by a library of 500k entries with typical fields. The entries are inserted into a
+ * {@link BibDatabase}, as when a library is loaded, so that the heap needed to relay their changes is included.
+ * <p>
+ * Besides the time to create the library, the retained heap per entry is reported as secondary result
+ * {@code retainedBytesPerEntry}. It is computed from the used heap after garbage collections and thus an approximation;
+ * run with {@code -prof gc} to additionally see the allocation rate.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BibEntryHeapBenchmark {
+
+    private static final int ENTRY_COUNT = 500_000;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUsage {
+        public long retainedBytesPerEntry;
+    }
+
+    @Benchmark
+    public BibDatabase createLibrary(HeapUsage heapUsage) {
+        long usedHeapBefore = getUsedHeapAfterGc();
+
+        List<BibEntry> entries = new ArrayList<>(ENTRY_COUNT);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Lastname" + (i % 5000) + ", Firstname and Other" + (i % 700) + ", Given")
+                    .withField(StandardField.TITLE, "A study of topic number " + i)
+                    .withField(StandardField.JOURNAL, "Journal of Things " + (i % 200))
+                    .withField(StandardField.YEAR, String.valueOf(1950 + (i % 75)))
+                    .withField(StandardField.VOLUME, String.valueOf(i % 60))
+                    .withField(StandardField.PAGES, (i % 300) + "--" + ((i % 300) + 12))
+                    .withField(StandardField.KEYWORDS, "keyword" + (i % 50) + ", keyword" + (i % 13)));
+        }
+        BibDatabase database = new BibDatabase(entries);
+
+        heapUsage.retainedBytesPerEntry = (getUsedHeapAfterGc() - usedHeapBefore) / ENTRY_COUNT;
+        return database;
+    }
+
+    private static long getUsedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -15,6 +15,7 @@ import org.jabref.logic.ai.processingstatus.ProcessingState;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
@@ -94,6 +95,19 @@ public class IngestionService {
                 e.getBibEntry().getFiles().forEach(linkedFile -> ingest(linkedFile, bibDatabaseContext));
             }
         }
+
+        /**
+         * Files are also linked within batched updates, e.g., when the cleanup renames or moves files.
+         */
+        @Subscribe
+        public void listen(EntriesChangedEvent e) {
+            if (aiPreferences.getAutoGenerateEmbeddings()) {
+                e.getFieldChangedEvents().stream()
+                 .filter(change -> change.getField() == StandardField.FILE)
+                 .map(FieldChangedEvent::getBibEntry)
+                 .forEach(entry -> entry.getFiles().forEach(linkedFile -> ingest(linkedFile, bibDatabaseContext)));
+            }
+        }
     }
 
     /**
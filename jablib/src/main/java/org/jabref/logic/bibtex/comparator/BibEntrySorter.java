@@ -0,0 +1,56 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Sorts entries by a list of comparators in the way {@link FieldComparatorStack} does, but computes the sort keys of
+ * each {@link FieldComparator} only once per entry (decorate-sort-undecorate). Other comparators are applied on the
+ * entries directly.
+ * <p>
+ * With {@code n} entries, the expensive part of a {@link FieldComparator} (LaTeX-free lookup, name normalization,
+ * collation) is thus executed {@code n} times instead of {@code n log n} times.
+ */
+public class BibEntrySorter {
+
+    private BibEntrySorter() {
+    }
+
+    public static List<BibEntry> sort(Collection<BibEntry> entries, List<? extends Comparator<BibEntry>> comparators) {
+        List<DecoratedEntry> decoratedEntries = new ArrayList<>(entries.size());
+        for (BibEntry entry : entries) {
+            FieldComparator.SortKey[] keys = new FieldComparator.SortKey[comparators.size()];
+            for (int i = 0; i < comparators.size(); i++) {
+                if (comparators.get(i) instanceof FieldComparator fieldComparator) {
+                    keys[i] = fieldComparator.getSortKey(entry);
+                }
+            }
+            decoratedEntries.add(new DecoratedEntry(entry, keys));
+        }
+
+        decoratedEntries.sort((first, second) -> {
+            for (int i = 0; i < comparators.size(); i++) {
+                Comparator<BibEntry> comparator = comparators.get(i);
+                int result;
+                if (comparator instanceof FieldComparator fieldComparator) {
+                    result = fieldComparator.compareSortKeys(first.keys()[i], second.keys()[i]);
+                } else {
+                    result = comparator.compare(first.entry(), second.entry());
+                }
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        });
+
+        return new ArrayList<>(decoratedEntries.stream().map(DecoratedEntry::entry).toList());
+    }
+
+    private record DecoratedEntry(BibEntry entry, FieldComparator.SortKey[] keys) {
+    }
+}
@@ -1,5 +1,6 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.text.CollationKey;
 import java.text.Collator;
 import java.text.ParseException;
 import java.text.RuleBasedCollator;
@@ -72,6 +73,73 @@ public class FieldComparator implements Comparator<BibEntry> {
         }
     }
 
+    /**
+     * Computes the value this comparator compares for the given entry. Comparing two keys using
+     * {@link #compareSortKeys(SortKey, SortKey)} yields the same result as {@link #compare(BibEntry, BibEntry)} on the
+     * entries, but the costly steps (LaTeX-free field lookup, name normalization, number parsing, collation) are done
+     * only once per entry instead of once per comparison.
+     */
+    public SortKey getSortKey(BibEntry entry) {
+        String value;
+        if (fieldType == FieldType.TYPE) {
+            value = entry.getType().getDisplayName();
+        } else {
+            value = getFieldValue(entry);
+        }
+
+        if (value == null) {
+            return SortKey.MISSING;
+        }
+
+        if (fieldType == FieldType.NAME) {
+            value = AuthorList.fixAuthorForAlphabetization(value);
+        } else if (fieldType == FieldType.YEAR) {
+            int year;
+            try {
+                year = StringUtil.intValueOf(value);
+            } catch (NumberFormatException ex) {
+                year = 0;
+            }
+            return new SortKey(false, true, year, null);
+        } else if (fieldType == FieldType.MONTH) {
+            return new SortKey(false, true, Month.parse(value).map(Month::getNumber).orElse(-1), null);
+        }
+
+        if (isNumeric) {
+            try {
+                return new SortKey(false, true, StringUtil.intValueOf(value), null);
+            } catch (NumberFormatException ex) {
+                // not parseable, the value is compared as string
+            }
+        }
+
+        return new SortKey(false, false, 0, COLLATOR.getCollationKey(value.toLowerCase(Locale.ENGLISH)));
+    }
+
+    /**
+     * Compares two keys created by {@link #getSortKey(BibEntry)} of this comparator.
+     */
+    public int compareSortKeys(SortKey key1, SortKey key2) {
+        if (key1.missing() && key2.missing()) {
+            return 0;
+        } else if (key1.missing()) {
+            return -multiplier;
+        } else if (key2.missing()) {
+            return +multiplier;
+        }
+
+        if (key1.isNumber() && key2.isNumber()) {
+            return Integer.compare(key1.number(), key2.number()) * multiplier;
+        } else if (key1.isNumber()) {
+            // only possible for numeric fields: parseable numbers are sorted before strings
+            return -1 * multiplier;
+        } else if (key2.isNumber()) {
+            return multiplier;
+        }
+
+        return key1.collationKey().compareTo(key2.collationKey()) * multiplier;
+    }
+
     private String getFieldValue(BibEntry entry) {
         for (Field aField : fields.getFields()) {
             Optional<String> o = entry.getFieldOrAliasLatexFree(aField);
@@ -172,4 +240,15 @@ public class FieldComparator implements Comparator<BibEntry> {
         String theirs = f2.toLowerCase(Locale.ENGLISH);
         return COLLATOR.compare(ours, theirs) * multiplier;
     }
+
+    /**
+     * Precomputed comparison value of one entry, see {@link #getSortKey(BibEntry)}.
+     *
+     * @param missing      the entry has none of the compared fields
+     * @param isNumber     the value is compared numerically using {@code number}
+     * @param collationKey the value to compare if it is not compared numerically
+     */
+    public record SortKey(boolean missing, boolean isNumber, int number, CollationKey collationKey) {
+        static final SortKey MISSING = new SortKey(true, false, 0, null);
+    }
 }
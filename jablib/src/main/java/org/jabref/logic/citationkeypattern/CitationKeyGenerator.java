@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.regex.PatternSyntaxException;
 
 import org.jabref.model.FieldChange;
@@ -42,6 +43,7 @@ public class CitationKeyGenerator extends BracketedPattern {
 
     private final AbstractCitationKeyPatterns citeKeyPattern;
     private final BibDatabase database;
+    private final ToLongFunction<String> citationKeyOccurrences;
     private final CitationKeyPatternPreferences citationKeyPatternPreferences;
     private final String unwantedCharacters;
 
@@ -52,8 +54,20 @@ public class CitationKeyGenerator extends BracketedPattern {
     }
 
     public CitationKeyGenerator(AbstractCitationKeyPatterns citeKeyPattern, BibDatabase database, CitationKeyPatternPreferences citationKeyPatternPreferences) {
+        this(citeKeyPattern, database, database::getNumberOfCitationKeyOccurrences, citationKeyPatternPreferences);
+    }
+
+    /**
+     * Creates a generator which makes keys unique with respect to the given occurrences of keys instead of the keys in
+     * the database, e.g., if the keys of the entries are known without loading the entries.
+     *
+     * @param database               the database used to resolve strings
+     * @param citationKeyOccurrences returns the number of entries using the given key
+     */
+    public CitationKeyGenerator(AbstractCitationKeyPatterns citeKeyPattern, BibDatabase database, ToLongFunction<String> citationKeyOccurrences, CitationKeyPatternPreferences citationKeyPatternPreferences) {
         this.citeKeyPattern = Objects.requireNonNull(citeKeyPattern);
         this.database = Objects.requireNonNull(database);
+        this.citationKeyOccurrences = Objects.requireNonNull(citationKeyOccurrences);
         this.citationKeyPatternPreferences = Objects.requireNonNull(citationKeyPatternPreferences);
         this.unwantedCharacters = citationKeyPatternPreferences.getUnwantedCharacters();
     }
@@ -118,7 +132,7 @@ public class CitationKeyGenerator extends BracketedPattern {
      * @return a key, if needed, with an appended letter
      */
     private String appendLettersToKey(String key, String oldKey) {
-        long occurrences = database.getNumberOfCitationKeyOccurrences(key);
+        long occurrences = citationKeyOccurrences.applyAsLong(key);
 
         if ((occurrences > 0) && Objects.equals(oldKey, key)) {
             occurrences--; // No change, so we can accept one dupe.
@@ -139,7 +153,7 @@ public class CitationKeyGenerator extends BracketedPattern {
                 moddedKey = key + getAppendix(number);
                 number++;
 
-                occurrences = database.getNumberOfCitationKeyOccurrences(moddedKey);
+                occurrences = citationKeyOccurrences.applyAsLong(moddedKey);
                 // only happens if #getAddition() is buggy
                 if (Objects.equals(oldKey, moddedKey)) {
                     occurrences--;
@@ -3,80 +3,68 @@ package org.jabref.logic.citationstyle;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 
 import de.undercouch.citeproc.CSL;
-import de.undercouch.citeproc.DefaultAbbreviationProvider;
 import de.undercouch.citeproc.output.Bibliography;
 import de.undercouch.citeproc.output.Citation;
 
 /**
- * Provides an adapter class to CSL. It holds a CSL instance under the hood that is only recreated when
- * the style changes.
+ * Provides an adapter class to CSL. CSL instances are kept in a {@link CSLEnginePool} keyed by style and output format.
  * <p>
- * Note on the API: The first call to {@link #makeBibliography} is expensive since the
- * CSL instance will be created. As long as the style stays the same, we can reuse this instance. On style-change, the
- * engine is re-instantiated. Therefore, the use-case of this class is many calls to {@link #makeBibliography} with the
- * same style. Changing the output format is cheap.
+ * Note on the API: The first call to {@link #makeBibliography} for a style is expensive since the CSL instance will be
+ * created. Subsequent calls with the same style and output format reuse an idle instance of the pool.
  * <p>
  * Note on the implementation:
- * The main function {@link #makeBibliography} will enforce
- * synchronized calling. The main CSL engine under the hood is not thread-safe. Since this class is usually called from
- * a BackgroundTask, the only other option would be to create several CSL instances which is wasting a lot of resources and very slow.
- * In the current scheme, {@link #makeBibliography} can be called as usual
- * background task and to the best of my knowledge, concurrent calls will pile up and processed sequentially.
+ * The main CSL engine under the hood is not thread-safe. Each call borrows an instance from the pool for exclusive use,
+ * so concurrent calls (e.g., from several BackgroundTasks) are processed in parallel on different instances instead of
+ * piling up behind a single lock. Alternating between styles does not re-instantiate the engine, because instances
+ * for recently used styles stay in the pool.
  */
 public class CSLAdapter {
 
-    private final JabRefItemDataProvider dataProvider = new JabRefItemDataProvider();
-    private String style;
-    private CitationStyleOutputFormat format;
-    private CSL cslInstance;
+    private final CSLEnginePool enginePool;
+
+    public CSLAdapter() {
+        this(new CSLEnginePool());
+    }
+
+    CSLAdapter(CSLEnginePool enginePool) {
+        this.enginePool = enginePool;
+    }
 
     /**
-     * Creates the bibliography of the provided items. This method needs to run synchronized because the underlying
-     * CSL engine is not thread-safe.
+     * Creates the bibliography of the provided items.
+     * <p>
+     * The items are always rendered by a single CSL instance, because numbering, sorting and disambiguation of the
+     * bibliography depend on the complete set of items.
      *
      * @param databaseContext {@link BibDatabaseContext} is used to be able to resolve fields and their aliases
      */
-    public synchronized List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException, IllegalArgumentException {
-        dataProvider.setData(bibEntries, databaseContext, entryTypesManager);
-        initialize(style, outputFormat);
-        cslInstance.registerCitationItems(dataProvider.getIds());
+    public List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException, IllegalArgumentException {
+        CSLEnginePool.PooledEngine engine = enginePool.borrow(style, outputFormat);
+        CSL cslInstance = prepare(engine, bibEntries, databaseContext, entryTypesManager);
         final Bibliography bibliography = cslInstance.makeBibliography();
+        // Engines that failed with an exception are not handed back, because their internal state is unknown
+        enginePool.release(engine);
         return Arrays.asList(bibliography.getEntries());
     }
 
-    public synchronized Citation makeCitation(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException {
-        dataProvider.setData(bibEntries, databaseContext, entryTypesManager);
-        initialize(style, outputFormat);
-        cslInstance.registerCitationItems(dataProvider.getIds());
-        return cslInstance.makeCitation(bibEntries.stream().map(entry -> entry.getCitationKey().orElse("")).toList()).getFirst();
+    public Citation makeCitation(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException {
+        CSLEnginePool.PooledEngine engine = enginePool.borrow(style, outputFormat);
+        CSL cslInstance = prepare(engine, bibEntries, databaseContext, entryTypesManager);
+        Citation citation = cslInstance.makeCitation(bibEntries.stream().map(entry -> entry.getCitationKey().orElse("")).toList()).getFirst();
+        enginePool.release(engine);
+        return citation;
     }
 
-    /**
-     * Initialized the static CSL instance if needed.
-     *
-     * @param newStyle  journal style of the output
-     * @param newFormat usually HTML or RTF.
-     * @throws IOException An error occurred in the underlying framework
-     */
-    private void initialize(String newStyle, CitationStyleOutputFormat newFormat) throws IOException {
-        final boolean newCslInstanceNeedsToBeCreated = (cslInstance == null) || !Objects.equals(newStyle, style);
-        if (newCslInstanceNeedsToBeCreated) {
-            // lang and forceLang are set to the default values of other CSL constructors
-            cslInstance = new CSL(dataProvider, new JabRefLocaleProvider(),
-                    new DefaultAbbreviationProvider(), newStyle, "en-US");
-            style = newStyle;
-        }
-
-        if (newCslInstanceNeedsToBeCreated || (!Objects.equals(newFormat, format))) {
-            cslInstance.setOutputFormat(newFormat.getFormat());
-            format = newFormat;
-        }
+    private static CSL prepare(CSLEnginePool.PooledEngine engine, List<BibEntry> bibEntries, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+        engine.dataProvider().setData(bibEntries, databaseContext, entryTypesManager);
+        CSL cslInstance = engine.csl();
+        cslInstance.registerCitationItems(engine.dataProvider().getIds());
+        return cslInstance;
     }
 }
@@ -0,0 +1,114 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import de.undercouch.citeproc.CSL;
+import de.undercouch.citeproc.DefaultAbbreviationProvider;
+
+/**
+ * Keeps idle {@link CSL} engines keyed by style and output format so that they can be reused by concurrent callers.
+ * <p>
+ * A CSL engine is not thread-safe and expensive to create. Instead of serializing all rendering through one engine,
+ * each caller {@link #borrow(String, CitationStyleOutputFormat) borrows} an engine for exclusive use and
+ * {@link #release(PooledEngine) releases} it afterwards. If no idle engine exists for a key, a new one is created, so
+ * several threads can render the same style in parallel. The number of idle engines is bounded; when the bound is
+ * exceeded, an engine of the least recently used key is dropped.
+ */
+class CSLEnginePool {
+
+    public static final int DEFAULT_MAX_IDLE_ENGINES = 8;
+
+    private final int maxIdleEngines;
+
+    // access-ordered to get LRU semantics over the keys
+    private final LinkedHashMap<Key, Deque<PooledEngine>> idleEngines = new LinkedHashMap<>(16, 0.75f, true);
+    private int idleCount;
+
+    public CSLEnginePool() {
+        this(DEFAULT_MAX_IDLE_ENGINES);
+    }
+
+    public CSLEnginePool(int maxIdleEngines) {
+        if (maxIdleEngines < 1) {
+            throw new IllegalArgumentException("maxIdleEngines must be positive");
+        }
+        this.maxIdleEngines = maxIdleEngines;
+    }
+
+    /**
+     * Returns an engine for exclusive use by the caller. The engine has to be handed back using {@link #release(PooledEngine)}.
+     *
+     * @throws IOException An error occurred in the underlying framework while creating a new engine
+     */
+    public PooledEngine borrow(String style, CitationStyleOutputFormat outputFormat) throws IOException {
+        Key key = new Key(style, outputFormat);
+        synchronized (this) {
+            Deque<PooledEngine> engines = idleEngines.get(key);
+            if (engines != null) {
+                PooledEngine engine = engines.pollFirst();
+                if (engines.isEmpty()) {
+                    idleEngines.remove(key);
+                }
+                if (engine != null) {
+                    idleCount--;
+                    return engine;
+                }
+            }
+        }
+        // Creation is expensive and is done outside the lock so that other callers are not blocked
+        return createEngine(key);
+    }
+
+    /**
+     * Hands an engine back to the pool. If the pool is full, the least recently used idle engine is discarded.
+     */
+    public synchronized void release(PooledEngine engine) {
+        idleEngines.computeIfAbsent(engine.key(), _ -> new ArrayDeque<>()).addFirst(engine);
+        idleCount++;
+        evictIfNeeded();
+    }
+
+    public synchronized int getIdleCount() {
+        return idleCount;
+    }
+
+    public synchronized void clear() {
+        idleEngines.clear();
+        idleCount = 0;
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Key, Deque<PooledEngine>>> iterator = idleEngines.entrySet().iterator();
+        while ((idleCount > maxIdleEngines) && iterator.hasNext()) {
+            Deque<PooledEngine> engines = iterator.next().getValue();
+            engines.pollLast();
+            idleCount--;
+            if (engines.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static PooledEngine createEngine(Key key) throws IOException {
+        JabRefItemDataProvider dataProvider = new JabRefItemDataProvider();
+        // lang and forceLang are set to the default values of other CSL constructors
+        CSL csl = new CSL(dataProvider, new JabRefLocaleProvider(),
+                new DefaultAbbreviationProvider(), key.style(), "en-US");
+        csl.setOutputFormat(key.outputFormat().getFormat());
+        return new PooledEngine(key, dataProvider, csl);
+    }
+
+    record Key(String style, CitationStyleOutputFormat outputFormat) {
+    }
+
+    /**
+     * A CSL engine together with the {@link JabRefItemDataProvider} it reads its items from.
+     */
+    record PooledEngine(Key key, JabRefItemDataProvider dataProvider, CSL csl) {
+    }
+}
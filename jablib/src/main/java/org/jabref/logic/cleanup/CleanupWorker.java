@@ -1,8 +1,12 @@
 package org.jabref.logic.cleanup;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.JabRefException;
@@ -10,6 +14,10 @@ import org.jabref.logic.preferences.TimestampPreferences;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.EntryTypeFactory;
 
 public class CleanupWorker {
 
@@ -41,6 +49,130 @@ public class CleanupWorker {
         return changes;
     }
 
+    /**
+     * Cleans up the given entries.
+     * <p>
+     * The jobs not working on linked files only depend on the entry they clean up. They are run in parallel on copies
+     * of the entries. Afterward, the resulting changes are applied to the entries as one batch (see
+     * {@link org.jabref.model.database.BibDatabase#runBatchedUpdate(Runnable)}), so that listeners of the database are
+     * notified once instead of once per changed field. Jobs working on linked files (e.g., moving or renaming them)
+     * are run one entry after the other.
+     * <p>
+     * If enabled, the modification date of the changed entries is set as part of the batch.
+     *
+     * @return the changes of the entries; for each entry and field, a single change from the original to the final value
+     */
+    public List<FieldChange> cleanup(CleanupPreferences preset, List<BibEntry> entries) {
+        Objects.requireNonNull(preset);
+        Objects.requireNonNull(entries);
+
+        List<CleanupJob> jobs = determineCleanupActions(preset);
+        List<FieldChange> changes = new ArrayList<>();
+        databaseContext.getDatabase().runBatchedUpdate(() -> {
+            int start = 0;
+            while (start < jobs.size()) {
+                if (isWorkingOnFiles(jobs.get(start))) {
+                    CleanupJob job = jobs.get(start);
+                    for (BibEntry entry : entries) {
+                        changes.addAll(job.cleanup(entry));
+                    }
+                    if (job instanceof MoveFilesCleanup cleanup) {
+                        failures.addAll(cleanup.getIoExceptions());
+                    }
+                    start++;
+                } else {
+                    // Keep the order of the jobs: consecutive jobs not working on files are run together
+                    int end = start;
+                    while ((end < jobs.size()) && !isWorkingOnFiles(jobs.get(end))) {
+                        end++;
+                    }
+                    changes.addAll(cleanupInParallel(jobs.subList(start, end), entries));
+                    start = end;
+                }
+            }
+            updateModificationDates(changes);
+        });
+        return changes;
+    }
+
+    /**
+     * Sets the modification date of the changed entries. This is done as part of the batch, as setting it after the
+     * batch (as the listener updating the timestamps of single changes does) would notify the listeners once per entry.
+     * The migration of the timestamp field does not count as modification.
+     */
+    private void updateModificationDates(List<FieldChange> changes) {
+        if (!timestampPreferences.shouldAddModificationDate()) {
+            return;
+        }
+        // The timestamp field is usually StandardField.TIMESTAMP, which Set.of would reject as duplicate
+        Set<Field> timestampFields = new HashSet<>(List.of(timestampPreferences.getTimestampField(), StandardField.TIMESTAMP, StandardField.CREATIONDATE, StandardField.MODIFICATIONDATE));
+        String now = timestampPreferences.now();
+        changes.stream()
+               .filter(change -> !timestampFields.contains(change.getField()))
+               .map(FieldChange::getEntry)
+               // Setting the same timestamp again on an entry with several changes does not post another event
+               .forEach(entry -> entry.setField(StandardField.MODIFICATIONDATE, now));
+    }
+
+    private List<FieldChange> cleanupInParallel(List<CleanupJob> jobs, List<BibEntry> entries) {
+        List<List<FieldChange>> changesPerEntry = entries.parallelStream()
+                                                         .map(entry -> computeChanges(jobs, entry))
+                                                         .toList();
+
+        List<FieldChange> changes = new ArrayList<>();
+        for (List<FieldChange> entryChanges : changesPerEntry) {
+            for (FieldChange change : entryChanges) {
+                BibEntry entry = change.getEntry();
+                if (InternalField.TYPE_HEADER == change.getField()) {
+                    entry.setType(EntryTypeFactory.parse(change.getNewValue()));
+                } else if (change.getNewValue() == null) {
+                    entry.clearField(change.getField());
+                } else {
+                    entry.setField(change.getField(), change.getNewValue());
+                }
+                changes.add(change);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Runs the jobs on a copy of the entry, which does not notify any listener, and returns the differences between the
+     * entry and the cleaned up copy. The entry itself is not changed.
+     */
+    private static List<FieldChange> computeChanges(List<CleanupJob> jobs, BibEntry entry) {
+        BibEntry copy = (BibEntry) entry.clone();
+        boolean isChanged = false;
+        for (CleanupJob job : jobs) {
+            isChanged |= !job.cleanup(copy).isEmpty();
+        }
+        if (!isChanged) {
+            return List.of();
+        }
+
+        List<FieldChange> changes = new ArrayList<>();
+        if (!entry.getType().equals(copy.getType())) {
+            changes.add(new FieldChange(entry, InternalField.TYPE_HEADER, entry.getType().getName(), copy.getType().getName()));
+        }
+        Set<Field> fields = new LinkedHashSet<>(entry.getFields());
+        fields.addAll(copy.getFields());
+        for (Field field : fields) {
+            Optional<String> oldValue = entry.getField(field);
+            Optional<String> newValue = copy.getField(field);
+            if (!oldValue.equals(newValue)) {
+                changes.add(new FieldChange(entry, field, oldValue.orElse(null), newValue.orElse(null)));
+            }
+        }
+        return changes;
+    }
+
+    private static boolean isWorkingOnFiles(CleanupJob job) {
+        return (job instanceof RelativePathsCleanup)
+                || (job instanceof RenamePdfCleanup)
+                || (job instanceof RemoveLinksToNotExistentFiles)
+                || (job instanceof MoveFilesCleanup);
+    }
+
     private List<CleanupJob> determineCleanupActions(CleanupPreferences preset) {
         List<CleanupJob> jobs = new ArrayList<>();
 
@@ -52,6 +52,15 @@ public class Crawler {
                 studyRepository.getSearchQueryStrings());
     }
 
+    /**
+     * Appends new results to the result files of the study instead of rewriting them.
+     *
+     * @see StudyRepository#setIncrementalPersistence(boolean)
+     */
+    public void setIncrementalPersistence(boolean incrementalPersistence) {
+        studyRepository.setIncrementalPersistence(incrementalPersistence);
+    }
+
     /**
      * This methods performs the crawling of the active libraries defined in the study definition file.
      * This method also persists the results in the same folder the study definition file is stored in.
@@ -0,0 +1,203 @@
+package org.jabref.logic.crawler;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.strings.StringUtil;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sidecar index of a result file of a study, which allows to append new entries to the file without parsing it.
+ * <p>
+ * The index stores the citation keys, the content hashes, and the identifiers (e.g., DOI) of the entries in the file.
+ * It is bound to the content of the file, not to its modification time: git rewrites the result files when switching
+ * between the search and the work branch, which keeps the index valid as long as the content is the same. If the
+ * content was changed otherwise, e.g., by the user, the index is stale and has to be rebuilt from the parsed file.
+ * <p>
+ * Entries can only be appended if writing the whole file would not change the existing entries or their order, i.e.,
+ * if the file has no save order, no save actions, and no library-specific citation key patterns.
+ */
+class ResultFileIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultFileIndex.class);
+
+    private static final int FORMAT_VERSION = 2;
+
+    private final boolean appendable;
+    private final BibDatabaseMode mode;
+    private final Multiset<String> citationKeys;
+    private final Set<String> contentHashes;
+    private final Set<String> identifiers;
+
+    private ResultFileIndex(boolean appendable, BibDatabaseMode mode, Multiset<String> citationKeys, Set<String> contentHashes, Set<String> identifiers) {
+        this.appendable = appendable;
+        this.mode = mode;
+        this.citationKeys = citationKeys;
+        this.contentHashes = contentHashes;
+        this.identifiers = identifiers;
+    }
+
+    /**
+     * Builds the index of the given parsed result file.
+     */
+    static ResultFileIndex of(BibDatabaseContext context, GlobalCitationKeyPatterns globalCitationKeyPatterns) {
+        MetaData metaData = context.getMetaData();
+        boolean appendable = metaData.getSaveOrder().isEmpty()
+                && metaData.getSaveActions().isEmpty()
+                && metaData.getDefaultCiteKeyPattern().isEmpty()
+                && metaData.getCiteKeyPatterns(globalCitationKeyPatterns).getPatterns().isEmpty()
+                && StringUtil.isBlank(context.getDatabase().getEpilog());
+        ResultFileIndex index = new ResultFileIndex(appendable, context.getMode(), HashMultiset.create(), new HashSet<>(), new HashSet<>());
+        context.getEntries().forEach(index::add);
+        return index;
+    }
+
+    /**
+     * Loads the index of the given result file.
+     *
+     * @return the index, or an empty optional if there is no index or if it is stale
+     */
+    static Optional<ResultFileIndex> load(Path indexFile, Path resultFile) {
+        if (Files.notExists(indexFile) || Files.notExists(resultFile)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(indexFile))) {
+            if ((input.readInt() != FORMAT_VERSION)
+                    || (input.readLong() != Files.size(resultFile))
+                    || !input.readUTF().equals(getFileHash(resultFile))) {
+                return Optional.empty();
+            }
+            boolean appendable = input.readBoolean();
+            BibDatabaseMode mode = BibDatabaseMode.parse(input.readUTF());
+            Multiset<String> citationKeys = HashMultiset.create();
+            readStrings(input, citationKeys);
+            Set<String> contentHashes = new HashSet<>();
+            readStrings(input, contentHashes);
+            Set<String> identifiers = new HashSet<>();
+            readStrings(input, identifiers);
+            return Optional.of(new ResultFileIndex(appendable, mode, citationKeys, contentHashes, identifiers));
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.debug("Could not read index {}", indexFile, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the index bound to the current content of the given result file.
+     */
+    void store(Path indexFile, Path resultFile) throws IOException {
+        Files.createDirectories(indexFile.getParent());
+        Path temporaryFile = Files.createTempFile(indexFile.getParent(), "index", ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(temporaryFile))) {
+                output.writeInt(FORMAT_VERSION);
+                output.writeLong(Files.size(resultFile));
+                output.writeUTF(getFileHash(resultFile));
+                output.writeBoolean(appendable);
+                output.writeUTF(mode.getAsString());
+                writeStrings(output, citationKeys);
+                writeStrings(output, contentHashes);
+                writeStrings(output, identifiers);
+            }
+            Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    boolean isAppendable() {
+        return appendable;
+    }
+
+    BibDatabaseMode getMode() {
+        return mode;
+    }
+
+    long getNumberOfCitationKeyOccurrences(String key) {
+        return citationKeys.count(key);
+    }
+
+    /**
+     * Checks whether the file contains an entry with the same content (ignoring the citation key) or with the same
+     * value of an identifier field.
+     */
+    boolean contains(BibEntry entry) {
+        return contentHashes.contains(getContentHash(entry))
+                || getIdentifiers(entry).stream().anyMatch(identifiers::contains);
+    }
+
+    void add(BibEntry entry) {
+        entry.getCitationKey().ifPresent(citationKeys::add);
+        contentHashes.add(getContentHash(entry));
+        identifiers.addAll(getIdentifiers(entry));
+    }
+
+    private static String getFileHash(Path resultFile) throws IOException {
+        return MoreFiles.asByteSource(resultFile).hash(Hashing.sha256()).toString();
+    }
+
+    private static String getContentHash(BibEntry entry) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(entry.getType().getName(), StandardCharsets.UTF_8);
+        entry.getFieldMap().entrySet().stream()
+             .filter(field -> field.getKey() != InternalField.KEY_FIELD)
+             .sorted(Comparator.comparing(field -> field.getKey().getName()))
+             .forEach(field -> {
+                 hasher.putInt(0);
+                 hasher.putString(field.getKey().getName(), StandardCharsets.UTF_8);
+                 hasher.putInt(1);
+                 hasher.putString(field.getValue(), StandardCharsets.UTF_8);
+             });
+        return hasher.hash().toString();
+    }
+
+    private static Set<String> getIdentifiers(BibEntry entry) {
+        Set<String> result = new HashSet<>();
+        for (Map.Entry<Field, String> field : entry.getFieldMap().entrySet()) {
+            if (field.getKey().getProperties().contains(FieldProperty.IDENTIFIER)) {
+                result.add(field.getKey().getName() + "=" + field.getValue());
+            }
+        }
+        return result;
+    }
+
+    private static void readStrings(DataInputStream input, Collection<String> target) throws IOException {
+        int size = input.readInt();
+        for (int i = 0; i < size; i++) {
+            target.add(input.readUTF());
+        }
+    }
+
+    private static void writeStrings(DataOutputStream output, Collection<String> strings) throws IOException {
+        output.writeInt(strings.size());
+        for (String string : strings) {
+            output.writeUTF(string);
+        }
+    }
+}
@@ -2,12 +2,15 @@ package org.jabref.logic.crawler;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.PagedSearchBasedFetcher;
 import org.jabref.logic.importer.SearchBasedFetcher;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.study.FetchResult;
@@ -38,26 +41,42 @@ class StudyFetcher {
      * If any library API is not available, its corresponding entry is missing from the internal map.
      */
     public List<QueryResult> crawl() {
-        return searchQueries.parallelStream()
-                            .map(this::getQueryResult)
-                            .collect(Collectors.toList());
-    }
+        // Each query is sent to each fetcher. The requests block on network I/O, thus they run on the executor for web
+        // requests instead of the common ForkJoinPool. The rate of requests per catalog is limited by HostRateLimiter.
+        List<Callable<FetchResult>> searches = new ArrayList<>(searchQueries.size() * activeFetchers.size());
+        for (String searchQuery : searchQueries) {
+            for (SearchBasedFetcher fetcher : activeFetchers) {
+                searches.add(() -> performSearchOnQueryForFetcher(searchQuery, fetcher));
+            }
+        }
+        List<Future<FetchResult>> fetchResults = HeadlessExecutorService.INSTANCE.executeAllWebRequests(searches);
 
-    private QueryResult getQueryResult(String searchQuery) {
-        return new QueryResult(searchQuery, performSearchOnQuery(searchQuery));
+        List<QueryResult> queryResults = new ArrayList<>(searchQueries.size());
+        for (int i = 0; i < searchQueries.size(); i++) {
+            List<FetchResult> resultsOfQuery = new ArrayList<>(activeFetchers.size());
+            for (int j = 0; j < activeFetchers.size(); j++) {
+                int index = (i * activeFetchers.size()) + j;
+                if (index < fetchResults.size()) {
+                    getFetchResult(fetchResults.get(index)).ifPresent(resultsOfQuery::add);
+                }
+            }
+            queryResults.add(new QueryResult(searchQueries.get(i), resultsOfQuery));
+        }
+        return queryResults;
     }
 
     /**
-     * Queries all catalogs on the given searchQuery.
-     *
-     * @param searchQuery The query the search is performed for.
-     * @return Mapping of each fetcher by name and all their retrieved publications as a BibDatabase
+     * @return empty if the library API is not available
      */
-    private List<FetchResult> performSearchOnQuery(String searchQuery) {
-        return activeFetchers.parallelStream()
-                             .map(fetcher -> performSearchOnQueryForFetcher(searchQuery, fetcher))
-                             .filter(Objects::nonNull)
-                             .collect(Collectors.toList());
+    private static Optional<FetchResult> getFetchResult(Future<FetchResult> future) {
+        try {
+            return Optional.ofNullable(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.warn("Search failed", e.getCause());
+        }
+        return Optional.empty();
     }
 
     private FetchResult performSearchOnQueryForFetcher(String searchQuery, SearchBasedFetcher fetcher) {
@@ -1,16 +1,25 @@
 package org.jabref.logic.crawler;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.jabref.logic.bibtex.BibEntryWriter;
+import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.database.DatabaseMerger;
 import org.jabref.logic.exporter.AtomicFileWriter;
@@ -24,9 +33,12 @@ import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.io.FileNameCleaner;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
@@ -37,6 +49,7 @@ import org.jabref.model.study.StudyDatabase;
 import org.jabref.model.study.StudyQuery;
 import org.jabref.model.util.FileUpdateMonitor;
 
+import com.google.common.hash.Hashing;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +64,7 @@ import org.slf4j.LoggerFactory;
 public class StudyRepository {
     // Tests work with study.yml
     public static final String STUDY_DEFINITION_FILE_NAME = "study.yml";
+    public static final String INDEX_DIRECTORY_NAME = ".jabref-index";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StudyRepository.class);
 
@@ -70,6 +84,8 @@ public class StudyRepository {
     private final FileUpdateMonitor fileUpdateMonitor;
     private final BibEntryTypesManager bibEntryTypesManager;
 
+    private boolean incrementalPersistence;
+
     /**
      * Creates a study repository.
      *
@@ -135,36 +151,21 @@ public class StudyRepository {
      * Returns entries stored in the repository for a certain query and fetcher
      */
     public BibDatabaseContext getFetcherResultEntries(String query, String fetcherName) throws IOException {
-        if (Files.exists(getPathToFetcherResultFile(query, fetcherName))) {
-            return OpenDatabase.loadDatabase(getPathToFetcherResultFile(query, fetcherName),
-                    preferences.getImportFormatPreferences(),
-                    fileUpdateMonitor).getDatabaseContext();
-        }
-        return new BibDatabaseContext();
+        return loadResultFile(getPathToFetcherResultFile(query, fetcherName));
     }
 
     /**
      * Returns the merged entries stored in the repository for a certain query
      */
     public BibDatabaseContext getQueryResultEntries(String query) throws IOException {
-        if (Files.exists(getPathToQueryResultFile(query))) {
-            return OpenDatabase.loadDatabase(getPathToQueryResultFile(query),
-                    preferences.getImportFormatPreferences(),
-                    fileUpdateMonitor).getDatabaseContext();
-        }
-        return new BibDatabaseContext();
+        return loadResultFile(getPathToQueryResultFile(query));
     }
 
     /**
      * Returns the merged entries stored in the repository for all queries
      */
     public BibDatabaseContext getStudyResultEntries() throws IOException {
-        if (Files.exists(getPathToStudyResultFile())) {
-            return OpenDatabase.loadDatabase(getPathToStudyResultFile(),
-                    preferences.getImportFormatPreferences(),
-                    fileUpdateMonitor).getDatabaseContext();
-        }
-        return new BibDatabaseContext();
+        return loadResultFile(getPathToStudyResultFile());
     }
 
     /**
@@ -206,6 +207,19 @@ public class StudyRepository {
         return study;
     }
 
+    /**
+     * Enables the incremental persistence of results: new entries are appended to the result files instead of
+     * rewriting them, so that a repeated crawl takes time proportional to the number of new results.
+     * <p>
+     * The citation keys, content hashes, and identifiers of the entries of each result file are kept in a sidecar index
+     * in {@link #INDEX_DIRECTORY_NAME}, which is ignored by git. Thus, an entry is considered a duplicate only if it has
+     * the same content or shares an identifier (e.g., a DOI) with an existing entry. Result files that cannot be
+     * appended to, e.g., because of a save order, are merged and rewritten as a whole.
+     */
+    public void setIncrementalPersistence(boolean incrementalPersistence) {
+        this.incrementalPersistence = incrementalPersistence;
+    }
+
     /**
      * Persists the result locally and remotely by following the steps:
      * Precondition: Currently checking out work branch
@@ -378,45 +392,160 @@ public class StudyRepository {
 
     /**
      * Persists the crawling results in the local file based repository.
+     * <p>
+     * The result files of the fetchers are independent of each other and are written in parallel. Afterwards, the
+     * results of the fetchers are aggregated per query, and the result files of the queries are written in parallel.
+     * Finally, the results of all queries are written to the study result file.
      *
      * @param crawlResults The results that shall be persisted.
      */
     private void persistResults(List<QueryResult> crawlResults) throws IOException, SaveException {
+        List<Callable<Void>> fetcherResultTasks = new ArrayList<>();
+        for (QueryResult result : crawlResults) {
+            for (FetchResult fetcherResult : result.getResultsPerFetcher()) {
+                fetcherResultTasks.add(() -> {
+                    persistResultFile(getPathToFetcherResultFile(result.getQuery(), fetcherResult.getFetcherName()), fetcherResult.getFetchResult(), true);
+                    return null;
+                });
+            }
+        }
+        executeAll(fetcherResultTasks);
+
         DatabaseMerger merger = new DatabaseMerger(preferences.getBibEntryPreferences().getKeywordSeparator());
         BibDatabase newStudyResultEntries = new BibDatabase();
-
+        List<Callable<Void>> queryResultTasks = new ArrayList<>();
         for (QueryResult result : crawlResults) {
             BibDatabase queryResultEntries = new BibDatabase();
             for (FetchResult fetcherResult : result.getResultsPerFetcher()) {
-                BibDatabase fetcherEntries = fetcherResult.getFetchResult();
-                BibDatabaseContext existingFetcherResult = getFetcherResultEntries(result.getQuery(), fetcherResult.getFetcherName());
+                // Aggregate each fetcher result into the query result
+                merger.merge(queryResultEntries, fetcherResult.getFetchResult());
+            }
+            // Aggregate all new entries for every query into the study result
+            merger.merge(newStudyResultEntries, queryResultEntries);
+            queryResultTasks.add(() -> {
+                persistResultFile(getPathToQueryResultFile(result.getQuery()), queryResultEntries, false);
+                return null;
+            });
+        }
+        executeAll(queryResultTasks);
 
-                // Merge new entries into fetcher result file
-                merger.merge(existingFetcherResult.getDatabase(), fetcherEntries);
+        persistResultFile(getPathToStudyResultFile(), newStudyResultEntries, false);
+    }
 
-                // Create citation keys for all entries that do not have one
-                generateCiteKeys(existingFetcherResult, fetcherEntries);
+    /**
+     * Merges the new entries into the given result file.
+     *
+     * @param generateCitationKeys whether keys shall be generated for the new entries that do not have one
+     */
+    private void persistResultFile(Path resultFile, BibDatabase newEntries, boolean generateCitationKeys) throws IOException, SaveException {
+        if (incrementalPersistence) {
+            Path indexFile = getPathToIndexFile(resultFile);
+            Optional<ResultFileIndex> index = ResultFileIndex.load(indexFile, resultFile);
+            if (index.isPresent() && index.get().isAppendable() && !containsCustomEntryType(newEntries, index.get().getMode())) {
+                appendToResultFile(resultFile, index.get(), newEntries, generateCitationKeys);
+                index.get().store(indexFile, resultFile);
+                return;
+            }
+        }
 
-                // Aggregate each fetcher result into the query result
-                merger.merge(queryResultEntries, fetcherEntries);
+        BibDatabaseContext existingEntries = loadResultFile(resultFile);
+        // Merge new entries into the result file
+        new DatabaseMerger(preferences.getBibEntryPreferences().getKeywordSeparator()).merge(existingEntries.getDatabase(), newEntries);
+        if (generateCitationKeys) {
+            generateCiteKeys(existingEntries, newEntries);
+        }
+        writeResultToFile(resultFile, existingEntries);
 
-                writeResultToFile(getPathToFetcherResultFile(result.getQuery(), fetcherResult.getFetcherName()), existingFetcherResult);
+        if (incrementalPersistence) {
+            // Index the written file, so that the next crawl can append to it
+            ResultFileIndex.of(existingEntries, preferences.getCitationKeyPatternPreferences().getKeyPatterns())
+                           .store(getPathToIndexFile(resultFile), resultFile);
+        }
+    }
+
+    /**
+     * Appends the entries that are not yet contained in the result file without parsing or rewriting the file.
+     * <p>
+     * In contrast to merging the whole file, only exact duplicates and duplicates sharing an identifier (e.g., a DOI)
+     * are detected.
+     */
+    private void appendToResultFile(Path resultFile, ResultFileIndex index, BibDatabase newEntries, boolean generateCitationKeys) throws SaveException {
+        // Appendable files have no library-specific key patterns
+        CitationKeyGenerator citationKeyGenerator = new CitationKeyGenerator(
+                preferences.getCitationKeyPatternPreferences().getKeyPatterns(),
+                newEntries,
+                index::getNumberOfCitationKeyOccurrences,
+                preferences.getCitationKeyPatternPreferences());
+        List<BibEntry> entriesToAppend = new ArrayList<>();
+        for (BibEntry entry : newEntries.getEntries()) {
+            boolean isNew = !entry.isEmpty() && !index.contains(entry);
+            if (generateCitationKeys && !entry.hasCitationKey()) {
+                citationKeyGenerator.generateAndSetKey(entry);
+            }
+            if (isNew) {
+                index.add(entry);
+                entriesToAppend.add(entry);
             }
-            BibDatabaseContext existingQueryEntries = getQueryResultEntries(result.getQuery());
+        }
+        if (entriesToAppend.isEmpty()) {
+            return;
+        }
 
-            // Merge new entries into query result file
-            merger.merge(existingQueryEntries.getDatabase(), queryResultEntries);
-            // Aggregate all new entries for every query into the study result
-            merger.merge(newStudyResultEntries, queryResultEntries);
+        try {
+            appendEntries(resultFile, entriesToAppend, index.getMode());
+        } catch (IOException ex) {
+            throw new SaveException("Problems saving", ex);
+        }
+    }
 
-            writeResultToFile(getPathToQueryResultFile(result.getQuery()), existingQueryEntries);
+    private void appendEntries(Path resultFile, List<BibEntry> entries, BibDatabaseMode mode) throws IOException {
+        boolean isEmptyFile = Files.size(resultFile) == 0;
+        try (Writer writer = Files.newBufferedWriter(resultFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND)) {
+            BibWriter bibWriter = new BibWriter(writer, OS.NEWLINE);
+            if (!isEmptyFile) {
+                // Separate the new entries from the existing ones by an empty line as BibtexDatabaseWriter does
+                bibWriter.finishLine();
+            }
+            BibEntryWriter bibEntryWriter = new BibEntryWriter(new FieldWriter(preferences.getFieldPreferences()), bibEntryTypesManager);
+            for (BibEntry entry : entries) {
+                bibEntryWriter.write(entry, bibWriter, mode, preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
+            }
         }
-        BibDatabaseContext existingStudyResultEntries = getStudyResultEntries();
+    }
 
-        // Merge new entries into study result file
-        merger.merge(existingStudyResultEntries.getDatabase(), newStudyResultEntries);
+    private boolean containsCustomEntryType(BibDatabase entries, BibDatabaseMode mode) {
+        return entries.getEntries().stream().anyMatch(entry -> bibEntryTypesManager.isCustomType(entry.getType(), mode));
+    }
 
-        writeResultToFile(getPathToStudyResultFile(), existingStudyResultEntries);
+    private BibDatabaseContext loadResultFile(Path resultFile) throws IOException {
+        if (Files.exists(resultFile)) {
+            return OpenDatabase.loadDatabase(resultFile,
+                    preferences.getImportFormatPreferences(),
+                    fileUpdateMonitor).getDatabaseContext();
+        }
+        return new BibDatabaseContext();
+    }
+
+    /**
+     * Runs the given tasks in parallel and rethrows the first exception of a task.
+     */
+    private void executeAll(List<Callable<Void>> tasks) throws IOException, SaveException {
+        for (Future<Void> future : HeadlessExecutorService.INSTANCE.executeAll(tasks)) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while persisting the results", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                }
+                if (e.getCause() instanceof SaveException saveException) {
+                    throw saveException;
+                }
+                throw new IOException("Could not persist the results", e.getCause());
+            }
+        }
     }
 
     private void generateCiteKeys(BibDatabaseContext existingEntries, BibDatabase targetEntries) {
@@ -457,6 +586,20 @@ public class StudyRepository {
         return repositoryPath.resolve(Crawler.FILENAME_STUDY_RESULT_BIB);
     }
 
+    /**
+     * Returns the path to the sidecar index of the given result file. The index directory is ignored by git.
+     */
+    private Path getPathToIndexFile(Path resultFile) throws IOException {
+        Path indexDirectory = repositoryPath.resolve(INDEX_DIRECTORY_NAME);
+        Path gitIgnore = indexDirectory.resolve(".gitignore");
+        if (Files.notExists(gitIgnore)) {
+            Files.createDirectories(indexDirectory);
+            Files.writeString(gitIgnore, "*" + OS.NEWLINE);
+        }
+        String relativePath = repositoryPath.relativize(resultFile).toString();
+        return indexDirectory.resolve(Hashing.sha256().hashString(relativePath, StandardCharsets.UTF_8) + ".index");
+    }
+
     private Path getPathToQueryDirectory(String query) {
         return repositoryPath.resolve(trimNameAndAddID(query));
     }
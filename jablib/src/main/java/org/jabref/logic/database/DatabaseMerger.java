@@ -54,10 +54,14 @@ public class DatabaseMerger {
     }
 
     private void mergeEntries(BibDatabase target, BibDatabase other) {
-        DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
-        List<BibEntry> newEntries = other.getEntries().stream()
+        // The mode and the duplicate candidates of the target are determined once for all entries of the other database
+        DuplicateCandidateIndex duplicateCandidateIndex = new DuplicateCandidateIndex(
+                new DuplicateCheck(new BibEntryTypesManager()),
+                target.getEntries(),
+                BibDatabaseModeDetection.inferMode(target));
+        List<BibEntry> newEntries = other.getEntries().parallelStream()
                                          // Remove all entries that are already part of the database (duplicate)
-                                         .filter(entry -> duplicateCheck.containsDuplicate(target, entry, BibDatabaseModeDetection.inferMode(target)).isEmpty())
+                                         .filter(entry -> duplicateCandidateIndex.findDuplicate(entry).isEmpty())
                                          .collect(Collectors.toList());
         target.insertEntries(newEntries);
     }
@@ -0,0 +1,69 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.types.EntryType;
+
+/**
+ * Finds duplicates of entries among a fixed set of entries, with the same result as
+ * {@link DuplicateCheck#containsDuplicate(org.jabref.model.database.BibDatabase, BibEntry, BibDatabaseMode)}.
+ * <p>
+ * {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)} considers two entries duplicates only if they
+ * share the value of an identifier field (e.g., DOI) or have the same entry type. Thus, the entries are indexed once by
+ * their identifiers and by their type: an entry with a shared identifier is found by a lookup, and the pairwise
+ * comparison is restricted to the entries of the same type. The database mode is passed once instead of being inferred
+ * for each lookup.
+ * <p>
+ * The index is not updated when the entries change. Lookups are thread-safe.
+ */
+public class DuplicateCandidateIndex {
+
+    private final DuplicateCheck duplicateCheck;
+    private final BibDatabaseMode databaseMode;
+
+    private final Map<EntryType, List<BibEntry>> entriesByType = new HashMap<>();
+    private final Map<Field, Map<String, BibEntry>> entriesByIdentifier = new HashMap<>();
+
+    public DuplicateCandidateIndex(DuplicateCheck duplicateCheck, Collection<BibEntry> entries, BibDatabaseMode databaseMode) {
+        this.duplicateCheck = duplicateCheck;
+        this.databaseMode = databaseMode;
+        for (BibEntry entry : entries) {
+            entriesByType.computeIfAbsent(entry.getType(), _ -> new ArrayList<>()).add(entry);
+            for (Field field : entry.getFields()) {
+                if (field.getProperties().contains(FieldProperty.IDENTIFIER)) {
+                    // Keep the first entry, as containsDuplicate returns the first duplicate
+                    entriesByIdentifier.computeIfAbsent(field, _ -> new HashMap<>())
+                                       .putIfAbsent(entry.getField(field).orElseThrow(), entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a duplicate of the given entry among the indexed entries. If there are several duplicates, an entry
+     * sharing an identifier is preferred.
+     */
+    public Optional<BibEntry> findDuplicate(BibEntry entry) {
+        for (Field field : entry.getFields()) {
+            if (field.getProperties().contains(FieldProperty.IDENTIFIER)) {
+                BibEntry duplicate = entriesByIdentifier.getOrDefault(field, Map.of()).get(entry.getField(field).orElseThrow());
+                if (duplicate != null) {
+                    return Optional.of(duplicate);
+                }
+            }
+        }
+        return entriesByType.getOrDefault(entry.getType(), List.of())
+                            .stream()
+                            .filter(candidate -> duplicateCheck.isDuplicate(entry, candidate, databaseMode))
+                            .findFirst();
+    }
+}
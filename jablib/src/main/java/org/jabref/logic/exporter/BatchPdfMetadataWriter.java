@@ -0,0 +1,217 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.transform.TransformerException;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.io.FileUtil;
+import org.jabref.logic.xmp.XmpPreferences;
+import org.jabref.logic.xmp.XmpUtilWriter;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.LinkedFile;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
+import org.apache.pdfbox.pdmodel.PDDocumentNameDictionary;
+import org.apache.pdfbox.pdmodel.PDEmbeddedFilesNameTreeNode;
+import org.apache.pdfbox.pdmodel.common.PDMetadata;
+import org.apache.pdfbox.pdmodel.common.filespecification.PDComplexFileSpecification;
+import org.apache.pdfbox.pdmodel.common.filespecification.PDEmbeddedFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the metadata of entries to many linked PDF files.
+ * <p>
+ * In contrast to {@link XmpPdfExporter} and {@link EmbeddedBibFilePdfExporter}, which each load and save the PDF, each
+ * PDF is loaded once, the XMP metadata and the embedded bib file are applied together, and the PDF is saved once. Only
+ * the changed objects are appended to the PDF (incremental save); if this is not possible, the whole PDF is rewritten.
+ * The PDFs are processed in parallel on a pool with a bounded number of threads, which limits the number of PDFs held in
+ * memory at the same time.
+ */
+public class BatchPdfMetadataWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchPdfMetadataWriter.class);
+
+    private final XmpUtilWriter xmpUtilWriter;
+    private final EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter;
+    private final boolean writeXmp;
+    private final boolean embedBibFile;
+    private final int parallelism;
+
+    public BatchPdfMetadataWriter(XmpPreferences xmpPreferences,
+                                  BibDatabaseMode databaseMode,
+                                  BibEntryTypesManager entryTypesManager,
+                                  FieldPreferences fieldPreferences,
+                                  boolean writeXmp,
+                                  boolean embedBibFile,
+                                  int parallelism) {
+        this.xmpUtilWriter = new XmpUtilWriter(xmpPreferences);
+        this.embeddedBibFilePdfExporter = new EmbeddedBibFilePdfExporter(databaseMode, entryTypesManager, fieldPreferences);
+        this.writeXmp = writeXmp;
+        this.embedBibFile = embedBibFile;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Determines the existing PDF files linked to the given entries. An entry linking several PDFs is contained in the
+     * list of each of them, a PDF linked by several entries has all of them in its list.
+     */
+    public static Map<Path, List<BibEntry>> getLinkedPdfs(BibDatabaseContext databaseContext,
+                                                           FilePreferences filePreferences,
+                                                           Collection<BibEntry> entries) {
+        Map<Path, List<BibEntry>> entriesByPdf = new LinkedHashMap<>();
+        for (BibEntry entry : entries) {
+            for (LinkedFile linkedFile : entry.getFiles()) {
+                linkedFile.findIn(databaseContext, filePreferences)
+                          .filter(FileUtil::isPDFFile)
+                          .map(path -> path.toAbsolutePath().normalize())
+                          .ifPresent(path -> {
+                              List<BibEntry> entriesOfPdf = entriesByPdf.computeIfAbsent(path, _ -> new ArrayList<>());
+                              // The entry may link the same PDF several times
+                              if (entriesOfPdf.isEmpty() || (entriesOfPdf.getLast() != entry)) {
+                                  entriesOfPdf.add(entry);
+                              }
+                          });
+            }
+        }
+        return entriesByPdf;
+    }
+
+    /**
+     * Writes the metadata of the entries to the respective PDF.
+     *
+     * @param entriesByPdf the entries to write to each PDF, e.g., determined by {@link #getLinkedPdfs(BibDatabaseContext, FilePreferences, Collection)}
+     * @param database     the database of the entries, used to resolve strings
+     * @return the result for each PDF in the order of the given map
+     */
+    public List<WriteResult> write(Map<Path, List<BibEntry>> entriesByPdf, BibDatabase database) {
+        List<WriteResult> results = new ArrayList<>(entriesByPdf.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            List<Future<WriteResult>> futures = new ArrayList<>(entriesByPdf.size());
+            entriesByPdf.forEach((pdf, entries) -> futures.add(executor.submit(() -> write(pdf, entries, database))));
+            for (Future<WriteResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Writing metadata to PDFs was interrupted", e);
+        } catch (ExecutionException e) {
+            // write(Path, List, BibDatabase) catches all exceptions
+            throw new IllegalStateException(e.getCause());
+        }
+        return results;
+    }
+
+    private WriteResult write(Path pdf, List<BibEntry> entries, BibDatabase database) {
+        if (!Files.exists(pdf)) {
+            return new WriteResult(pdf, entries, Optional.of(Localization.lang("File not found")));
+        }
+
+        // Read from another file
+        // Reason: Apache PDFBox does not support writing while the file is opened
+        // See https://issues.apache.org/jira/browse/PDFBOX-4028
+        Path newFile = null;
+        try {
+            newFile = Files.createTempFile("JabRef", "pdf");
+            try (PDDocument document = Loader.loadPDF(pdf.toFile())) {
+                if (writeXmp) {
+                    xmpUtilWriter.writeXmp(document, entries, database);
+                }
+                if (embedBibFile) {
+                    embeddedBibFilePdfExporter.embedEntries(entries, document, pdf);
+                }
+                save(document, pdf, newFile);
+            }
+            FileUtil.copyFile(newFile, pdf, true);
+            return new WriteResult(pdf, entries, Optional.empty());
+        } catch (IOException | TransformerException | RuntimeException e) {
+            LOGGER.warn("Could not write metadata to {}", pdf, e);
+            return new WriteResult(pdf, entries, Optional.of(e.getLocalizedMessage()));
+        } finally {
+            if (newFile != null) {
+                try {
+                    Files.deleteIfExists(newFile);
+                } catch (IOException e) {
+                    LOGGER.debug("Could not delete temporary file {}", newFile, e);
+                }
+            }
+        }
+    }
+
+    private static void save(PDDocument document, Path pdf, Path newFile) throws IOException {
+        markMetadataAsUpdated(document);
+        try (OutputStream outputStream = Files.newOutputStream(newFile)) {
+            document.saveIncremental(outputStream);
+            return;
+        } catch (IOException | IllegalStateException e) {
+            LOGGER.debug("Incremental save of {} not possible, rewriting the whole file", pdf, e);
+        }
+        document.save(newFile.toFile());
+    }
+
+    /**
+     * An incremental save only writes objects marked as updated, which have to be reachable from the document catalog
+     */
+    private static void markMetadataAsUpdated(PDDocument document) throws IOException {
+        PDDocumentCatalog catalog = document.getDocumentCatalog();
+        catalog.getCOSObject().setNeedToBeUpdated(true);
+        document.getDocumentInformation().getCOSObject().setNeedToBeUpdated(true);
+
+        PDMetadata metadata = catalog.getMetadata();
+        if (metadata != null) {
+            metadata.getCOSObject().setNeedToBeUpdated(true);
+        }
+
+        PDDocumentNameDictionary nameDictionary = catalog.getNames();
+        if (nameDictionary == null) {
+            return;
+        }
+        nameDictionary.getCOSObject().setNeedToBeUpdated(true);
+        PDEmbeddedFilesNameTreeNode efTree = nameDictionary.getEmbeddedFiles();
+        if (efTree == null) {
+            return;
+        }
+        efTree.getCOSObject().setNeedToBeUpdated(true);
+        Map<String, PDComplexFileSpecification> names = efTree.getNames();
+        if ((names == null) || !names.containsKey(EmbeddedBibFilePdfExporter.EMBEDDED_FILE_NAME)) {
+            return;
+        }
+        PDComplexFileSpecification fileSpecification = names.get(EmbeddedBibFilePdfExporter.EMBEDDED_FILE_NAME);
+        fileSpecification.getCOSObject().setNeedToBeUpdated(true);
+        PDEmbeddedFile embeddedFile = fileSpecification.getEmbeddedFile();
+        if (embeddedFile != null) {
+            embeddedFile.getCOSObject().setNeedToBeUpdated(true);
+        }
+    }
+
+    /**
+     * @param errorMessage empty if the metadata was written successfully
+     */
+    public record WriteResult(Path pdf, List<BibEntry> entries, Optional<String> errorMessage) {
+        public boolean isSuccessful() {
+            return errorMessage.isEmpty();
+        }
+    }
+}
@@ -17,10 +17,10 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.bibtex.comparator.BibEntrySorter;
 import org.jabref.logic.bibtex.comparator.BibtexStringComparator;
 import org.jabref.logic.bibtex.comparator.CrossRefEntryComparator;
 import org.jabref.logic.bibtex.comparator.FieldComparator;
-import org.jabref.logic.bibtex.comparator.FieldComparatorStack;
 import org.jabref.logic.bibtex.comparator.IdComparator;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
@@ -139,11 +139,7 @@ public abstract class BibDatabaseWriter {
         Objects.requireNonNull(saveOrder);
 
         List<Comparator<BibEntry>> comparators = getSaveComparators(saveOrder);
-        FieldComparatorStack<BibEntry> comparatorStack = new FieldComparatorStack<>(comparators);
-
-        List<BibEntry> sorted = new ArrayList<>(entriesToSort);
-        sorted.sort(comparatorStack);
-        return sorted;
+        return BibEntrySorter.sort(entriesToSort, comparators);
     }
 
     public List<FieldChange> getSaveActionsFieldChanges() {
@@ -8,12 +8,17 @@ import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -30,6 +35,9 @@ import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
 
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,14 +52,33 @@ public class TemplateExporter extends Exporter {
     private static final String FORMATTERS_EXTENSION = ".formatters";
     private static final String BEGIN_INFIX = ".begin";
     private static final String END_INFIX = ".end";
+    private static final int RENDER_CHUNK_SIZE = 1000;
+    private static final int COMPILED_LAYOUTS_CACHE_SIZE = 16;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
+    /**
+     * Used by exports without a given abbreviation repository. Loaded once, as loading it copies the built-in journal
+     * lists to temporary files, and a new repository would discard the compiled layouts on each export.
+     */
+    private static final Supplier<JournalAbbreviationRepository> BUILT_IN_ABBREVIATION_REPOSITORY =
+            Suppliers.memoize(JournalAbbreviationLoader::loadBuiltInRepository);
+
     private final String lfFileName;
     private final String directory;
     private final LayoutFormatterPreferences layoutPreferences;
     private final SelfContainedSaveOrder saveOrder;
     private boolean customExport;
+
+    /**
+     * Parsing a layout file and instantiating its formatters is expensive. Compiled layouts are reused between the
+     * export calls of this exporter as long as the layout file is unchanged. They refer to the layout preferences of
+     * this exporter and to the abbreviation repository they were compiled with.
+     */
+    private final Cache<CompiledLayoutKey, Optional<Layout>> compiledLayouts = CacheBuilder.newBuilder()
+                                                                                           .maximumSize(COMPILED_LAYOUTS_CACHE_SIZE)
+                                                                                           .build();
+    private JournalAbbreviationRepository compiledLayoutsAbbreviationRepository;
     private BlankLineBehaviour blankLineBehaviour;
 
     /**
@@ -163,19 +190,11 @@ public class TemplateExporter extends Exporter {
      * @throws IOException if the reader could not be created (e.g., file is not found)
      */
     private Reader getReader(String filename) throws IOException {
-        // If this is a custom export, just use the given filename:
-        String dir;
-        if (customExport) {
-            dir = "";
-        } else {
-            dir = LAYOUT_PREFIX + (directory == null ? "" : directory + '/');
-        }
-
         // Attempt to get a Reader for the file path given, either by
         // loading it as a resource (from within JAR), or as a normal file. If
         // unsuccessful (e.g. file not found), an IOException is thrown.
 
-        String name = dir + filename;
+        String name = getLayoutPath(filename);
 
         Path path = Path.of(name);
         if (Files.exists(path)) {
@@ -184,15 +203,26 @@ public class TemplateExporter extends Exporter {
 
         InputStream inputStream = TemplateExporter.class.getResourceAsStream(name);
         if (inputStream == null) {
-            throw new IOException("Cannot find layout file: '" + name + "'.");
+            throw new NoSuchFileException(name, null, "Cannot find layout file: '" + name + "'.");
         }
 
         return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
     }
 
+    private String getLayoutPath(String filename) {
+        // If this is a custom export, just use the given filename:
+        String dir;
+        if (customExport) {
+            dir = "";
+        } else {
+            dir = LAYOUT_PREFIX + (directory == null ? "" : directory + '/');
+        }
+        return dir + filename;
+    }
+
     @Override
     public void export(BibDatabaseContext databaseContext, Path file, List<BibEntry> entries) throws IOException {
-        export(databaseContext, file, entries, List.of(), JournalAbbreviationLoader.loadBuiltInRepository());
+        export(databaseContext, file, entries, List.of(), BUILT_IN_ABBREVIATION_REPOSITORY.get());
     }
 
     @Override
@@ -211,8 +241,6 @@ public class TemplateExporter extends Exporter {
         }
 
         try (AtomicFileWriter ps = new AtomicFileWriter(file, encodingToUse)) {
-            Layout beginLayout = null;
-
             // Check if this export filter has bundled name formatters:
             // Add these to the preferences, so all layouts have access to the custom name formatters:
             readFormatterFile();
@@ -220,17 +248,12 @@ public class TemplateExporter extends Exporter {
             List<String> missingFormatters = new ArrayList<>(1);
 
             // Print header
-            try (Reader reader = getReader(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION)) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                beginLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was cast, export filter doesn't have a begin
-                // file.
-            }
+            // If there is no layout, the export filter doesn't have a begin file.
+            Optional<Layout> beginLayout = getOptionalLayout(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
             // Write the header
-            if (beginLayout != null) {
-                ps.write(beginLayout.doLayout(databaseContext, encodingToUse));
-                missingFormatters.addAll(beginLayout.getMissingFormatters());
+            if (beginLayout.isPresent()) {
+                ps.write(beginLayout.get().doLayout(databaseContext, encodingToUse));
+                missingFormatters.addAll(beginLayout.get().getMissingFormatters());
             }
 
             /*
@@ -240,74 +263,49 @@ public class TemplateExporter extends Exporter {
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(entries, saveOrder);
 
             // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
-            if (defLayout != null) {
-                missingFormatters.addAll(defLayout.getMissingFormatters());
-                if (!missingFormatters.isEmpty()) {
-                    LOGGER.warn("Missing formatters found: {}", missingFormatters);
-                }
+            Layout defLayout = getLayout(lfFileName + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository)
+                    .orElseThrow(() -> new IOException("Cannot find layout file: '" + lfFileName + LAYOUT_EXTENSION + "'."));
+            missingFormatters.addAll(defLayout.getMissingFormatters());
+            if (!missingFormatters.isEmpty()) {
+                LOGGER.warn("Missing formatters found: {}", missingFormatters);
             }
-            Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
 
-            Number.serialExportNumber = 0;
+            // Resolve the layout of each entry type up front, so that the entries can be rendered in parallel
+            Map<EntryType, Layout> layouts = new HashMap<>();
             for (BibEntry entry : sorted) {
-                Number.serialExportNumber++; // Increment entry counter.
-                // Get the layout
                 EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
-                    }
+                if (!layouts.containsKey(type)) {
+                    // We try to get a type-specific layout for this entry. If there is none, we go with the default one.
+                    Optional<Layout> typeLayout = getOptionalLayout(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
+                    typeLayout.ifPresent(layout -> missingFormatters.addAll(layout.getMissingFormatters()));
+                    layouts.put(type, typeLayout.orElse(defLayout));
                 }
+            }
 
-                // Write the entry
-                if (layout != null) {
-                    if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
-                        for (String line : lines) {
-                            if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
-                            }
-                        }
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
-                    }
+            // Entries are rendered in parallel in chunks, the results are written in order.
+            // Layouts with group blocks depend on the previously rendered entry and are rendered sequentially.
+            boolean renderInParallel = layouts.values().stream().noneMatch(Layout::dependsOnPreviousEntry);
+            for (int chunkStart = 0; chunkStart < sorted.size(); chunkStart += RENDER_CHUNK_SIZE) {
+                int chunkEnd = Math.min(chunkStart + RENDER_CHUNK_SIZE, sorted.size());
+                IntStream indices = IntStream.range(chunkStart, chunkEnd);
+                if (renderInParallel) {
+                    indices = indices.parallel();
+                }
+                List<String> renderedEntries = indices.mapToObj(index -> renderEntry(sorted.get(index), index + 1, layouts, databaseContext))
+                                                      .toList();
+                for (String renderedEntry : renderedEntries) {
+                    ps.write(renderedEntry);
                 }
             }
 
             // Print footer
-            Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                endLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was thrown, export filter doesn't have an end
-                // file.
-            }
+            // If there is no layout, the export filter doesn't have an end file.
+            Optional<Layout> endLayout = getOptionalLayout(lfFileName + END_INFIX + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
 
             // Write footer
-            if (endLayout != null) {
-                ps.write(endLayout.doLayout(databaseContext, encodingToUse));
-                missingFormatters.addAll(endLayout.getMissingFormatters());
+            if (endLayout.isPresent()) {
+                ps.write(endLayout.get().doLayout(databaseContext, encodingToUse));
+                missingFormatters.addAll(endLayout.get().getMissingFormatters());
             }
 
             layoutPreferences.clearCustomExportNameFormatters();
@@ -318,6 +316,87 @@ public class TemplateExporter extends Exporter {
         }
     }
 
+    private String renderEntry(BibEntry entry, int entryNumber, Map<EntryType, Layout> layouts, BibDatabaseContext databaseContext) {
+        Layout layout = layouts.get(entry.getType());
+        Number.setEntryNumberOfCurrentThread(entryNumber);
+        try {
+            String rendered = layout.doLayout(entry, databaseContext.getDatabase());
+            if (blankLineBehaviour != BlankLineBehaviour.DELETE_BLANKS) {
+                return rendered;
+            }
+            StringBuilder builder = new StringBuilder(rendered.length());
+            for (String line : rendered.split(BLANK_LINE_PATTERN)) {
+                if (!line.isBlank() && !line.isEmpty()) {
+                    builder.append(line).append(OS.NEWLINE);
+                }
+            }
+            return builder.toString();
+        } finally {
+            Number.clearEntryNumberOfCurrentThread();
+        }
+    }
+
+    /**
+     * Returns the compiled layout of the given layout file. Compiled layouts are cached, keyed by the layout file, its
+     * modification time and the file directories of the library. The cache is discarded when another abbreviation
+     * repository is used, as the repository is created anew when the journal lists change.
+     *
+     * @return an empty optional if the layout file does not exist
+     */
+    private synchronized Optional<Layout> getLayout(String filename,
+                                       List<Path> fileDirForDatabase,
+                                       JournalAbbreviationRepository abbreviationRepository) throws IOException {
+        String name = getLayoutPath(filename);
+        CompiledLayoutKey key = new CompiledLayoutKey(
+                name,
+                getLastModified(Path.of(name)),
+                getLastModified(Path.of(lfFileName + FORMATTERS_EXTENSION)),
+                List.copyOf(fileDirForDatabase));
+        if (abbreviationRepository != compiledLayoutsAbbreviationRepository) {
+            compiledLayouts.invalidateAll();
+            compiledLayoutsAbbreviationRepository = abbreviationRepository;
+        }
+        Optional<Layout> cachedLayout = compiledLayouts.getIfPresent(key);
+        if (cachedLayout != null) {
+            return cachedLayout;
+        }
+
+        Optional<Layout> layout;
+        try (Reader reader = getReader(filename)) {
+            LayoutHelper layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
+            layout = Optional.ofNullable(layoutHelper.getLayoutFromText());
+        } catch (NoSuchFileException ex) {
+            layout = Optional.empty();
+        }
+        compiledLayouts.put(key, layout);
+        return layout;
+    }
+
+    /**
+     * Returns the compiled layout of an optional layout file (begin, end, and entry type specific layouts).
+     *
+     * @return an empty optional if the layout file does not exist or cannot be read
+     */
+    private Optional<Layout> getOptionalLayout(String filename,
+                                               List<Path> fileDirForDatabase,
+                                               JournalAbbreviationRepository abbreviationRepository) {
+        try {
+            return getLayout(filename, fileDirForDatabase, abbreviationRepository);
+        } catch (IOException ex) {
+            LOGGER.debug("Could not read layout file {}", filename, ex);
+            return Optional.empty();
+        }
+    }
+
+    private static long getLastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException | InvalidPathException e) {
+            // Not existing or a resource within the JAR
+            return -1;
+        }
+    }
+
     /**
      * See if there is a name formatter file bundled with this export format.
      * If so, read all the name formatters so they can be used by the filter layouts.
@@ -361,4 +440,11 @@ public class TemplateExporter extends Exporter {
     public String getLayoutFileNameWithExtension() {
         return lfFileName + LAYOUT_EXTENSION;
     }
+
+    private record CompiledLayoutKey(
+            String layoutFile,
+            long layoutFileLastModified,
+            long formattersFileLastModified,
+            List<Path> fileDirForDatabase) {
+    }
 }
@@ -5,6 +5,7 @@ import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +37,14 @@ public interface IdBasedParserFetcher extends IdBasedFetcher, ParserFetcher {
      */
     Parser getParser();
 
+    /**
+     * The data of an identifier rarely changes, thus it is cached longer than search results.
+     */
+    @Override
+    default Duration getCacheTimeToLive() {
+        return Duration.ofDays(1);
+    }
+
     @Override
     default Optional<BibEntry> performSearchById(String identifier) throws FetcherException {
         if (StringUtil.isBlank(identifier)) {
@@ -47,7 +56,7 @@ public interface IdBasedParserFetcher extends IdBasedFetcher, ParserFetcher {
         } catch (URISyntaxException | MalformedURLException e) {
             throw new FetcherException("Search URI is malformed", e);
         }
-        try (InputStream stream = getUrlDownload(urlForIdentifier).asInputStream()) {
+        try (InputStream stream = getCachedUrlDownload(urlForIdentifier).asInputStream()) {
             List<BibEntry> fetchedEntries = getParser().parseEntries(stream);
             if (fetchedEntries.isEmpty()) {
                 return Optional.empty();
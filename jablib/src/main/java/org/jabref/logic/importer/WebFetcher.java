@@ -1,6 +1,7 @@
 package org.jabref.logic.importer;
 
 import java.net.URL;
+import java.time.Duration;
 import java.util.Optional;
 
 import org.jabref.logic.help.HelpFile;
@@ -34,4 +35,23 @@ public interface WebFetcher {
     default URLDownload getUrlDownload(URL url) {
         return new URLDownload(url);
     }
+
+    /**
+     * Returns how long a response of this fetcher may be served from the {@link org.jabref.logic.net.HttpResponseCache}
+     * without asking the server again, unless the server states a lifetime itself. Overwrite to adapt it to how often
+     * the results of the web resource change.
+     */
+    default Duration getCacheTimeToLive() {
+        return Duration.ofHours(1);
+    }
+
+    /**
+     * Constructs an {@link URLDownload} using {@link #getUrlDownload(URL)}, whose response may be served from the
+     * response cache.
+     */
+    default URLDownload getCachedUrlDownload(URL url) {
+        URLDownload urlDownload = getUrlDownload(url);
+        urlDownload.enableCaching(getCacheTimeToLive());
+        return urlDownload;
+    }
 }
@@ -1,6 +1,8 @@
 package org.jabref.logic.importer.fetcher;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
@@ -18,12 +20,12 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
-import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
 import org.jabref.logic.cleanup.EprintCleanup;
 import org.jabref.logic.help.HelpFile;
+import org.jabref.logic.importer.FetcherClientException;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.FulltextFetcher;
 import org.jabref.logic.importer.IdBasedFetcher;
@@ -44,6 +46,7 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.identifier.ArXivIdentifier;
 import org.jabref.model.entry.identifier.DOI;
 import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.http.SimpleHttpResponse;
 import org.jabref.model.paging.Page;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.OptionalUtil;
@@ -54,6 +57,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 /**
@@ -553,21 +557,36 @@ public class ArXivFetcher implements FulltextFetcher, PagedSearchBasedFetcher, I
                 throw new FetcherException("Invalid URL", e);
             }
 
-            try {
-                DocumentBuilder builder = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
-
-                HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-                if (connection.getResponseCode() == 400) {
-                    // Bad request error from server, try to get more information
-                    throw getException(builder.parse(connection.getErrorStream()));
-                } else {
-                    return builder.parse(connection.getInputStream());
-                }
+            // URLDownload serves repeated queries from the response cache, waits for the rate limit of the arXiv API and
+            // retries if the API is overloaded
+            try (InputStream stream = getCachedUrlDownload(url).asInputStream()) {
+                return DOCUMENT_BUILDER_FACTORY.newDocumentBuilder().parse(stream);
+            } catch (FetcherClientException exception) {
+                throw getBadRequestException(exception);
             } catch (SAXException | ParserConfigurationException | IOException exception) {
                 throw new FetcherException(url, "arXiv API request failed", exception);
             }
         }
 
+        /**
+         * In case of a bad request, the arXiv API describes the error in the response. If it can be read, the exception
+         * carries the description.
+         */
+        private FetcherException getBadRequestException(FetcherClientException exception) {
+            Optional<String> errorResponse = exception.getHttpResponse()
+                                                      .filter(response -> response.statusCode() == HttpURLConnection.HTTP_BAD_REQUEST)
+                                                      .map(SimpleHttpResponse::responseBody);
+            if (errorResponse.isEmpty()) {
+                return exception;
+            }
+            try {
+                return getException(DOCUMENT_BUILDER_FACTORY.newDocumentBuilder().parse(new InputSource(new StringReader(errorResponse.get()))));
+            } catch (SAXException | ParserConfigurationException | IOException e) {
+                LOGGER.debug("Could not read the error response of the arXiv API", e);
+                return exception;
+            }
+        }
+
         private FetcherException getException(Document error) {
             List<Node> entries = XMLUtil.asList(error.getElementsByTagName("entry"));
 
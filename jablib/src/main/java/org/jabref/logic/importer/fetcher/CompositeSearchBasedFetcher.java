@@ -3,6 +3,9 @@ package org.jabref.logic.importer.fetcher;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -10,6 +13,7 @@ import org.jabref.logic.help.HelpFile;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.ImporterPreferences;
 import org.jabref.logic.importer.SearchBasedFetcher;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.entry.BibEntry;
 
 import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
@@ -53,17 +57,34 @@ public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
 
     @Override
     public List<BibEntry> performSearch(QueryNode luceneQuery) throws FetcherException {
+        // The fetchers block on network I/O, thus they run on the executor for web requests instead of the common ForkJoinPool
+        List<Callable<List<BibEntry>>> searches = fetchers.stream()
+                                                          .<Callable<List<BibEntry>>>map(searchBasedFetcher -> () -> performSearch(searchBasedFetcher, luceneQuery))
+                                                          .toList();
         // All entries have to be converted into one format, this is necessary for the format conversion
-        return fetchers.parallelStream()
-                       .flatMap(searchBasedFetcher -> {
-                           try {
-                               return searchBasedFetcher.performSearch(luceneQuery).stream();
-                           } catch (FetcherException e) {
-                               LOGGER.warn("%s API request failed".formatted(searchBasedFetcher.getName()), e);
-                               return Stream.empty();
-                           }
-                       })
-                       .limit(maximumNumberOfReturnedResults)
-                       .collect(Collectors.toList());
+        return HeadlessExecutorService.INSTANCE.executeAllWebRequests(searches).stream()
+                                               .flatMap(CompositeSearchBasedFetcher::getResults)
+                                               .limit(maximumNumberOfReturnedResults)
+                                               .collect(Collectors.toList());
+    }
+
+    private static List<BibEntry> performSearch(SearchBasedFetcher searchBasedFetcher, QueryNode luceneQuery) {
+        try {
+            return searchBasedFetcher.performSearch(luceneQuery);
+        } catch (FetcherException e) {
+            LOGGER.warn("%s API request failed".formatted(searchBasedFetcher.getName()), e);
+            return List.of();
+        }
+    }
+
+    private static Stream<BibEntry> getResults(Future<List<BibEntry>> future) {
+        try {
+            return future.get().stream();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.warn("Search failed", e.getCause());
+        }
+        return Stream.empty();
     }
 }
@@ -1,7 +1,5 @@
 package org.jabref.logic.importer.fetcher;
 
-import java.io.IOException;
-import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
@@ -58,8 +56,8 @@ public class DoiFetcher implements IdBasedFetcher, EntryBasedFetcher {
      * By default, it seems that CrossRef DOI Content Negotiation responses are returned by their API pools, more specifically the public one
      * (by default). See https://www.crossref.org/documentation/retrieve-metadata/content-negotiation/
      * Experimentally, the rating applied to this pool is defined by response headers "X-Rate-Limit-Interval" and "X-Rate-Limit-Limit", which seems
-     * to default to 50 request / second. However, because of its dynamic nature, this rate could change between API calls, so we need to update it
-     * atomically when that happens (as multiple threads might access it at the same time)
+     * to default to 50 request / second. The rate is updated from the headers of the responses received from the API; responses served from the
+     * response cache send no request and thus do not count against the limit.
      */
     private static final RateLimiter CROSSREF_DCN_RATE_LIMITER = RateLimiter.create(50.0);
 
@@ -79,31 +77,22 @@ public class DoiFetcher implements IdBasedFetcher, EntryBasedFetcher {
         return Optional.of(HelpFile.FETCHER_DOI);
     }
 
-    private void doAPILimiting(String identifier) {
+    /**
+     * Waits for the rate limit of the registration agency before each request sent to its API. Responses served from the
+     * response cache do not count against the limit.
+     */
+    private void limitRequestRate(URLDownload download, String agency) {
         // Without a generic API Rate Limiter implemented on the project, use Guava's RateLimiter for avoiding
         // API throttling when multiple threads are working, specially during DOI Content Negotiations
-        Optional<DOI> doi = DOI.parse(identifier);
-
-        try {
-            Optional<String> agency;
-            if (doi.isPresent() && (agency = getAgency(doi.get())).isPresent()) {
-                double waitingTime = 0.0;
-                if ("datacite".equalsIgnoreCase(agency.get())) {
-                    waitingTime = DATA_CITE_DCN_RATE_LIMITER.acquire();
-                } else if ("crossref".equalsIgnoreCase(agency.get())) {
-                    waitingTime = CROSSREF_DCN_RATE_LIMITER.acquire();
-                } // mEDRA does not explicit an API rating
-
-                LOGGER.trace("Thread %s, searching for DOI '%s', waited %.2fs because of API rate limiter".formatted(
-                        Thread.currentThread().threadId(), identifier, waitingTime));
-            }
-        } catch (FetcherException | MalformedURLException e) {
-            LOGGER.warn("Could not limit DOI API access rate", e);
-        }
+        if ("datacite".equalsIgnoreCase(agency)) {
+            download.setBeforeRequest(DATA_CITE_DCN_RATE_LIMITER::acquire);
+        } else if ("crossref".equalsIgnoreCase(agency)) {
+            download.setBeforeRequest(CROSSREF_DCN_RATE_LIMITER::acquire);
+            download.setResponseListener(this::updateCrossrefAPIRate);
+        } // mEDRA does not explicit an API rating
     }
 
     protected CompletableFuture<Optional<BibEntry>> asyncPerformSearchById(String identifier) {
-        doAPILimiting(identifier);
         return CompletableFuture.supplyAsync(() -> {
             try {
                 return performSearchById(identifier);
@@ -138,24 +127,15 @@ public class DoiFetcher implements IdBasedFetcher, EntryBasedFetcher {
             }
 
             // BibTeX data
-            URLDownload download = getUrlDownload(doiURL);
+            URLDownload download = getCachedUrlDownload(doiURL);
             download.addHeader("Accept", MediaTypes.APPLICATION_BIBTEX);
-
-            String bibtexString;
-            URLConnection openConnection;
-
-            openConnection = download.openConnection();
-            bibtexString = URLDownload.asString(openConnection).trim();
+            agency.ifPresent(name -> limitRequestRate(download, name));
+            String bibtexString = download.asString().trim();
 
             // BibTeX entry
             fetchedEntry = BibtexParser.singleFromString(bibtexString, preferences);
             fetchedEntry.ifPresent(this::doPostCleanup);
 
-            // Crossref has a dynamic API rate limit
-            if (agency.isPresent() && "crossref".equalsIgnoreCase(agency.get())) {
-                updateCrossrefAPIRate(openConnection);
-            }
-
             // Check if the entry is an APS journal and add the article id as the page count if page field is missing
             if (fetchedEntry.isPresent() && fetchedEntry.get().hasField(StandardField.DOI)) {
                 BibEntry entry = fetchedEntry.get();
@@ -164,12 +144,9 @@ public class DoiFetcher implements IdBasedFetcher, EntryBasedFetcher {
                 }
             }
 
-            if (openConnection instanceof HttpURLConnection connection) {
-                connection.disconnect();
-            }
             return fetchedEntry;
-        } catch (IOException e) {
-            throw new FetcherException(doiURL, Localization.lang("Connection error"), e);
+        } catch (MalformedURLException e) {
+            throw new FetcherException("Malformed URL", e);
         } catch (ParseException e) {
             throw new FetcherException(doiURL, "Could not parse BibTeX entry", e);
         } catch (JSONException e) {
@@ -220,7 +197,7 @@ public class DoiFetcher implements IdBasedFetcher, EntryBasedFetcher {
     public Optional<String> getAgency(DOI doi) throws FetcherException, MalformedURLException {
         Optional<String> agency = Optional.empty();
         try {
-            URLDownload download = getUrlDownload(URLUtil.create(DOI.AGENCY_RESOLVER + "/" + URLEncoder.encode(doi.asString(),
+            URLDownload download = getCachedUrlDownload(URLUtil.create(DOI.AGENCY_RESOLVER + "/" + URLEncoder.encode(doi.asString(),
                     StandardCharsets.UTF_8)));
             JSONObject response = new JSONArray(download.asString()).getJSONObject(0);
             if (response != null) {
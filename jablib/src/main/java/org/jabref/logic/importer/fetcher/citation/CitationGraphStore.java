@@ -0,0 +1,176 @@
+package org.jabref.logic.importer.fetcher.citation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.identifier.DOI;
+import org.jabref.model.entry.types.EntryTypeFactory;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.h2.mvstore.MVStoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the citation graph fetched by a {@link CitationFetcher} on disk, so that the relations of a paper are fetched
+ * once and not in every session, and are shared by all libraries.
+ * <p>
+ * The papers are identified by their DOI. For each paper, the citing papers ({@link CitationFetcher.SearchType#CITED_BY})
+ * and the cited papers ({@link CitationFetcher.SearchType#CITES}) are stored separately, each with the time it was
+ * fetched. Relations older than the time to live are stale and should be fetched again; they are still returned until
+ * they are replaced.
+ * <p>
+ * This class is thread-safe.
+ */
+public class CitationGraphStore implements AutoCloseable {
+
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofDays(7);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CitationGraphStore.class);
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final MVStore mvStore;
+    private final Map<CitationFetcher.SearchType, MVMap<String, byte[]>> relations;
+    private final Duration timeToLive;
+    private final Clock clock;
+
+    /**
+     * @param storePath the file storing the graph. If the file cannot be opened, the graph is kept in memory.
+     */
+    public CitationGraphStore(Path storePath) {
+        this(storePath, DEFAULT_TIME_TO_LIVE, Clock.systemUTC());
+    }
+
+    CitationGraphStore(Path storePath, Duration timeToLive, Clock clock) {
+        this.mvStore = openStore(storePath);
+        this.relations = Map.of(
+                CitationFetcher.SearchType.CITES, mvStore.openMap("references"),
+                CitationFetcher.SearchType.CITED_BY, mvStore.openMap("citations"));
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    private static MVStore openStore(Path storePath) {
+        try {
+            Files.createDirectories(storePath.getParent());
+            return new MVStore.Builder()
+                    .fileName(storePath.toString())
+                    .open();
+        } catch (IOException | MVStoreException e) {
+            LOGGER.warn("Could not open citation graph {}. Citation relations will be fetched again in the next session.", storePath, e);
+            return new MVStore.Builder()
+                    .fileName(null) // creates an in memory store
+                    .open();
+        }
+    }
+
+    /**
+     * Returns the stored relations of the paper with the given DOI, even if they are stale.
+     */
+    public Optional<List<BibEntry>> get(DOI doi, CitationFetcher.SearchType searchType) {
+        return getRelations(doi, searchType).map(StoredRelations::entries);
+    }
+
+    /**
+     * Checks whether the relations of the paper with the given DOI are stored and not older than the time to live.
+     */
+    public boolean isFresh(DOI doi, CitationFetcher.SearchType searchType) {
+        return getRelations(doi, searchType)
+                .map(stored -> stored.fetchedAt().plus(timeToLive).isAfter(clock.instant()))
+                .orElse(false);
+    }
+
+    /**
+     * Stores the fetched relations of the paper with the given DOI, replacing the previously stored ones.
+     */
+    public void put(DOI doi, CitationFetcher.SearchType searchType, List<BibEntry> entries) {
+        try {
+            relations.get(searchType).put(getKey(doi), new StoredRelations(clock.instant(), entries).serialize());
+        } catch (IOException e) {
+            LOGGER.warn("Could not store relations of {}", doi.asString(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        mvStore.close();
+    }
+
+    private Optional<StoredRelations> getRelations(DOI doi, CitationFetcher.SearchType searchType) {
+        return Optional.ofNullable(relations.get(searchType).get(getKey(doi)))
+                       .flatMap(StoredRelations::deserialize);
+    }
+
+    private static String getKey(DOI doi) {
+        // DOIs are case-insensitive
+        return doi.asString().toLowerCase(Locale.ROOT);
+    }
+
+    private record StoredRelations(Instant fetchedAt, List<BibEntry> entries) {
+
+        byte[] serialize() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream output = new DataOutputStream(bytes)) {
+                output.writeInt(FORMAT_VERSION);
+                output.writeLong(fetchedAt.toEpochMilli());
+                output.writeInt(entries.size());
+                for (BibEntry entry : entries) {
+                    output.writeUTF(entry.getType().getName());
+                    output.writeInt(entry.getFieldMap().size());
+                    for (Map.Entry<Field, String> field : entry.getFieldMap().entrySet()) {
+                        output.writeUTF(field.getKey().getName());
+                        // Abstracts can be longer than the 64 KiB supported by writeUTF
+                        byte[] value = field.getValue().getBytes(StandardCharsets.UTF_8);
+                        output.writeInt(value.length);
+                        output.write(value);
+                    }
+                }
+            }
+            return bytes.toByteArray();
+        }
+
+        static Optional<StoredRelations> deserialize(byte[] serialized) {
+            try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(serialized))) {
+                if (input.readInt() != FORMAT_VERSION) {
+                    return Optional.empty();
+                }
+                Instant fetchedAt = Instant.ofEpochMilli(input.readLong());
+                int numberOfEntries = input.readInt();
+                List<BibEntry> entries = new ArrayList<>(numberOfEntries);
+                for (int i = 0; i < numberOfEntries; i++) {
+                    BibEntry entry = new BibEntry(EntryTypeFactory.parse(input.readUTF()));
+                    int numberOfFields = input.readInt();
+                    for (int j = 0; j < numberOfFields; j++) {
+                        Field field = FieldFactory.parseField(input.readUTF());
+                        String value = new String(input.readNBytes(input.readInt()), StandardCharsets.UTF_8);
+                        entry.setField(field, value);
+                    }
+                    entries.add(entry);
+                }
+                return Optional.of(new StoredRelations(fetchedAt, entries));
+            } catch (IOException e) {
+                LOGGER.debug("Could not read stored relations", e);
+                return Optional.empty();
+            }
+        }
+    }
+}
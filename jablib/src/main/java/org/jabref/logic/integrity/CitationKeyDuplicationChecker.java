@@ -1,5 +1,6 @@
 package org.jabref.logic.integrity;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -9,7 +10,10 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 
-public class CitationKeyDuplicationChecker implements EntryChecker {
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+
+public class CitationKeyDuplicationChecker implements EntryChecker, DatabaseChecker {
 
     private final BibDatabase database;
 
@@ -31,4 +35,22 @@ public class CitationKeyDuplicationChecker implements EntryChecker {
         }
         return List.of();
     }
+
+    /**
+     * Checks all entries of the database. The occurrences of the citation keys are counted once, instead of scanning
+     * the database for each entry as {@link #check(BibEntry)} does.
+     */
+    @Override
+    public List<IntegrityMessage> check(BibDatabase database) {
+        Multiset<String> citationKeys = HashMultiset.create();
+        database.getEntries().forEach(entry -> entry.getCitationKey().ifPresent(citationKeys::add));
+
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (BibEntry entry : database.getEntries()) {
+            entry.getCitationKey()
+                 .filter(citationKey -> citationKeys.count(citationKey) > 1)
+                 .ifPresent(_ -> result.add(new IntegrityMessage(Localization.lang("Duplicate citation key"), entry, StandardField.KEY)));
+        }
+        return result;
+    }
 }
@@ -1,49 +1,97 @@
 package org.jabref.logic.integrity;
 
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.integrity.IntegrityCheckCache.CachedMessages;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 
+/**
+ * Runs all integrity checkers on the entries of a library.
+ * <p>
+ * The results of the checkers which only depend on the content of an entry are cached per entry and reused as long as
+ * the entry does not change. To reuse them across checks, pass the same {@link IntegrityCheckCache} for a library. Checkers depending on other entries of the library (e.g., duplicate citation keys or
+ * entry links) or on linked files are evaluated on each check. {@link #check()} checks the entries in parallel.
+ */
 public class IntegrityCheck {
 
     private final BibDatabaseContext bibDatabaseContext;
-    private final FieldCheckers fieldCheckers;
+    private final List<FieldChecker> fieldCheckers;
     private final List<EntryChecker> entryCheckers;
 
+    /**
+     * Linked files may change on disk without a change of the entry
+     */
+    private final List<FieldChecker> fileCheckers;
+
+    /**
+     * Checkers whose result depends on more than the content of the checked entry
+     */
+    private final List<EntryChecker> contextDependentCheckers;
+    private final CitationKeyDuplicationChecker citationKeyDuplicationChecker;
+
+    private final IntegrityCheckCache cache;
+    private final Map<String, CachedMessages> cachedMessages;
+
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
                           CitationKeyPatternPreferences citationKeyPatternPreferences,
                           JournalAbbreviationRepository journalAbbreviationRepository,
                           boolean allowIntegerEdition) {
-        this.bibDatabaseContext = bibDatabaseContext;
+        this(bibDatabaseContext, filePreferences, citationKeyPatternPreferences, journalAbbreviationRepository, allowIntegerEdition, new IntegrityCheckCache());
+    }
 
-        fieldCheckers = new FieldCheckers(bibDatabaseContext,
+    /**
+     * @param cache the messages of previous checks of the library
+     */
+    public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
+                          FilePreferences filePreferences,
+                          CitationKeyPatternPreferences citationKeyPatternPreferences,
+                          JournalAbbreviationRepository journalAbbreviationRepository,
+                          boolean allowIntegerEdition,
+                          IntegrityCheckCache cache) {
+        this.bibDatabaseContext = bibDatabaseContext;
+        Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
+        this.cache = cache;
+        this.cachedMessages = cache.getMessages(IntegrityCheckCache.Configuration.of(
+                bibDatabaseContext.getMode(),
+                encoding,
+                allowIntegerEdition,
+                journalAbbreviationRepository));
+
+        List<FieldChecker> allFieldCheckers = new FieldCheckers(bibDatabaseContext,
                 filePreferences,
                 journalAbbreviationRepository,
-                allowIntegerEdition);
+                allowIntegerEdition).getAll();
+        fieldCheckers = allFieldCheckers.stream().filter(checker -> !StandardField.FILE.equals(checker.field)).toList();
+        fileCheckers = allFieldCheckers.stream().filter(checker -> StandardField.FILE.equals(checker.field)).toList();
+
+        citationKeyDuplicationChecker = new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase());
+        contextDependentCheckers = List.of(
+                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
+                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences));
 
         entryCheckers = new ArrayList<>(List.of(
                 new CitationKeyChecker(),
                 new TypeChecker(),
                 new BibStringChecker(),
                 new HTMLCharacterChecker(),
-                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
-                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
-                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()),
                 new AmpersandChecker(),
                 new LatexIntegrityChecker(),
                 new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository)));
 
         if (bibDatabaseContext.isBiblatexMode()) {
-            entryCheckers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
+            entryCheckers.add(new UTF8Checker(encoding));
         } else {
             entryCheckers.addAll(List.of(
                     new ASCIICharacterChecker(),
@@ -55,15 +103,10 @@ public class IntegrityCheck {
     }
 
     List<IntegrityMessage> check() {
-        List<IntegrityMessage> result = new ArrayList<>();
-
         BibDatabase database = bibDatabaseContext.getDatabase();
 
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
-        }
+        List<IntegrityMessage> result = new ArrayList<>(checkEntries(new ArrayList<>(database.getEntries())));
         result.addAll(checkDatabase(database));
-
         return result;
     }
 
@@ -73,18 +116,62 @@ public class IntegrityCheck {
             return result;
         }
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
-            result.addAll(fieldChecker.check(entry));
-        }
+        result.addAll(checkEntryWithoutDuplicateKeys(entry));
+        result.addAll(citationKeyDuplicationChecker.check(entry));
+        return result;
+    }
 
-        for (EntryChecker entryChecker : entryCheckers) {
+    /**
+     * Checks the given entries in parallel. In contrast to {@link #checkEntry(BibEntry)}, duplicate citation keys are
+     * not reported here, but by {@link #checkDatabase(BibDatabase)}, which finds them for all entries at once.
+     * The messages are returned in the order of the entries.
+     */
+    public List<IntegrityMessage> checkEntries(List<BibEntry> entries) {
+        return entries.parallelStream()
+                      .flatMap(entry -> checkEntryWithoutDuplicateKeys(entry).stream())
+                      .toList();
+    }
+
+    /**
+     * Finds the problems concerning several entries. As all entries are checked, the cached messages of removed entries
+     * are discarded.
+     */
+    public List<IntegrityMessage> checkDatabase(BibDatabase database) {
+        cache.retain(database.getEntries().stream().map(BibEntry::getId).collect(Collectors.toSet()));
+
+        List<IntegrityMessage> result = new ArrayList<>(citationKeyDuplicationChecker.check(database));
+        result.addAll(new DoiDuplicationChecker().check(database));
+        return result;
+    }
+
+    private List<IntegrityMessage> checkEntryWithoutDuplicateKeys(BibEntry entry) {
+        List<IntegrityMessage> result = new ArrayList<>(getContentDependentMessages(entry));
+
+        for (EntryChecker entryChecker : contextDependentCheckers) {
             result.addAll(entryChecker.check(entry));
         }
-
+        for (FieldChecker fileChecker : fileCheckers) {
+            result.addAll(fileChecker.check(entry));
+        }
         return result;
     }
 
-    public List<IntegrityMessage> checkDatabase(BibDatabase database) {
-        return new DoiDuplicationChecker().check(database);
+    private List<IntegrityMessage> getContentDependentMessages(BibEntry entry) {
+        int contentHash = entry.hashCode();
+        CachedMessages cached = cachedMessages.get(entry.getId());
+        if ((cached != null) && (cached.contentHash() == contentHash)) {
+            return cached.messages();
+        }
+
+        List<IntegrityMessage> messages = new ArrayList<>();
+        for (FieldChecker fieldChecker : fieldCheckers) {
+            messages.addAll(fieldChecker.check(entry));
+        }
+        for (EntryChecker entryChecker : entryCheckers) {
+            messages.addAll(entryChecker.check(entry));
+        }
+
+        cachedMessages.put(entry.getId(), new CachedMessages(contentHash, List.copyOf(messages)));
+        return messages;
     }
 }
@@ -0,0 +1,64 @@
+package org.jabref.logic.integrity;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.model.database.BibDatabaseMode;
+
+/**
+ * Keeps the messages of the checkers which only depend on the content of an entry between the integrity checks of a
+ * library, so that a repeated check only runs these checkers on the changed entries.
+ * <p>
+ * The messages are bound to the configuration of the checkers. If any part of it changes (e.g., the library is
+ * switched to biblatex mode or custom journal abbreviations are added), all messages are discarded.
+ */
+public class IntegrityCheckCache {
+
+    private final Map<String, CachedMessages> messagesByEntryId = new ConcurrentHashMap<>();
+    private Configuration configuration;
+
+    /**
+     * @return the cached messages by entry id, valid for the given configuration of the checkers
+     */
+    synchronized Map<String, CachedMessages> getMessages(Configuration configuration) {
+        if (!configuration.equals(this.configuration)) {
+            messagesByEntryId.clear();
+            this.configuration = configuration;
+        }
+        return messagesByEntryId;
+    }
+
+    /**
+     * Removes the messages of entries no longer in the library
+     */
+    void retain(Set<String> entryIds) {
+        messagesByEntryId.keySet().retainAll(entryIds);
+    }
+
+    /**
+     * Everything besides the entry the cached messages depend on
+     *
+     * @param journalAbbreviationRepository compared by identity, as a repository is replaced when the journal lists change
+     * @param customAbbreviationsHash       the hash of the custom abbreviations, which are added to the repository
+     */
+    record Configuration(BibDatabaseMode mode,
+                         Charset encoding,
+                         boolean allowIntegerEdition,
+                         JournalAbbreviationRepository journalAbbreviationRepository,
+                         int customAbbreviationsHash) {
+
+        static Configuration of(BibDatabaseMode mode, Charset encoding, boolean allowIntegerEdition, JournalAbbreviationRepository journalAbbreviationRepository) {
+            return new Configuration(mode, encoding, allowIntegerEdition, journalAbbreviationRepository, journalAbbreviationRepository.getCustomAbbreviations().hashCode());
+        }
+    }
+
+    /**
+     * The messages of an entry together with the hash of the entry content they were computed for
+     */
+    record CachedMessages(int contentHash, List<IntegrityMessage> messages) {
+    }
+}
@@ -138,6 +138,14 @@ public class Layout {
         return sb.toString();
     }
 
+    /**
+     * Group blocks (<code>\begingroup</code>) are only output if the group value differs from the one of the previously
+     * rendered entry. Layouts containing them therefore have to render the entries one after another.
+     */
+    public boolean dependsOnPreviousEntry() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::containsGroup);
+    }
+
     public List<String> getMissingFormatters() {
         return new ArrayList<>(missingFormatters);
     }
@@ -542,6 +542,16 @@ class LayoutEntry {
         return invalidFormatter;
     }
 
+    /**
+     * @return true if this entry or one of its nested entries is a group block (<code>\begingroup</code>)
+     */
+    public boolean containsGroup() {
+        if (type == LayoutHelper.IS_GROUP_START) {
+            return true;
+        }
+        return (layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::containsGroup);
+    }
+
     public static List<List<String>> parseMethodsCalls(String calls) {
         List<List<String>> result = new ArrayList<>();
 
@@ -5,11 +5,24 @@ import org.jabref.logic.layout.ParamLayoutFormatter;
 /**
  * Formatter that outputs a sequence number for the current entry. The sequence number is
  * tied to the entry's position in the order, not to the number of calls to this formatter.
+ * <p>
+ * If entries are rendered in parallel, the number is set per rendering thread using
+ * {@link #setEntryNumberOfCurrentThread(int)}. Otherwise, {@link #serialExportNumber} is used.
  */
 public class Number implements ParamLayoutFormatter {
 
     public static int serialExportNumber;
 
+    private static final ThreadLocal<Integer> ENTRY_NUMBER_OF_CURRENT_THREAD = new ThreadLocal<>();
+
+    public static void setEntryNumberOfCurrentThread(int entryNumber) {
+        ENTRY_NUMBER_OF_CURRENT_THREAD.set(entryNumber);
+    }
+
+    public static void clearEntryNumberOfCurrentThread() {
+        ENTRY_NUMBER_OF_CURRENT_THREAD.remove();
+    }
+
     @Override
     public void setArgument(String arg) {
         // No effect currently.
@@ -17,6 +30,7 @@ public class Number implements ParamLayoutFormatter {
 
     @Override
     public String format(String fieldText) {
-        return String.valueOf(serialExportNumber);
+        Integer entryNumber = ENTRY_NUMBER_OF_CURRENT_THREAD.get();
+        return String.valueOf(entryNumber != null ? entryNumber : serialExportNumber);
     }
 }
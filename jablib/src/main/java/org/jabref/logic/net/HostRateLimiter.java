@@ -0,0 +1,78 @@
+package org.jabref.logic.net;
+
+import java.net.URL;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.util.concurrent.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the rate of requests per host, shared by all downloads of JabRef.
+ * <p>
+ * Each host has a token bucket ({@link RateLimiter}), which allows short bursts and then throttles to the configured
+ * number of requests per second. This avoids being throttled by web APIs (HTTP 429) when many requests are sent in
+ * parallel, e.g., during the crawl of a systematic literature review. The rates of well-known APIs follow their usage
+ * policies; all other hosts use {@link #DEFAULT_REQUESTS_PER_SECOND}.
+ */
+public class HostRateLimiter {
+
+    public static final double DEFAULT_REQUESTS_PER_SECOND = 10.0;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HostRateLimiter.class);
+
+    private static final Map<String, Double> REQUESTS_PER_SECOND = new ConcurrentHashMap<>(Map.of(
+            // https://info.arxiv.org/help/api/tou.html: "no more than 1 request every 3 seconds"
+            "export.arxiv.org", 1.0 / 3,
+            // https://www.crossref.org/documentation/retrieve-metadata/rest-api/tips-for-using-the-crossref-rest-api/
+            "api.crossref.org", 5.0,
+            // Limits per registration agency are applied by the DoiFetcher
+            "doi.org", 50.0,
+            // https://www.semanticscholar.org/product/api: shared limit for unauthenticated requests
+            "api.semanticscholar.org", 1.0,
+            // https://github.com/inspirehep/rest-api-doc#rate-limiting: 15 requests in a 5 second window
+            "inspirehep.net", 3.0));
+
+    private static final Map<String, RateLimiter> RATE_LIMITERS = new ConcurrentHashMap<>();
+
+    private HostRateLimiter() {
+    }
+
+    /**
+     * Waits until a request to the host of the given URL is allowed. Returns immediately for URLs without host, e.g.,
+     * local files.
+     */
+    public static void acquire(URL url) {
+        String host = url.getHost();
+        if ((host == null) || host.isEmpty()) {
+            return;
+        }
+        double waitingTime = getRateLimiter(host).acquire();
+        if (waitingTime > 0) {
+            LOGGER.trace("Waited {}s for request to {} because of rate limit", waitingTime, host);
+        }
+    }
+
+    /**
+     * Sets the maximum rate of requests to the given host, e.g., if an API key grants a higher rate.
+     */
+    public static void setRequestsPerSecond(String host, double requestsPerSecond) {
+        String normalizedHost = host.toLowerCase(Locale.ROOT);
+        REQUESTS_PER_SECOND.put(normalizedHost, requestsPerSecond);
+        RateLimiter rateLimiter = RATE_LIMITERS.get(normalizedHost);
+        if (rateLimiter != null) {
+            rateLimiter.setRate(requestsPerSecond);
+        }
+    }
+
+    public static double getRequestsPerSecond(String host) {
+        return REQUESTS_PER_SECOND.getOrDefault(host.toLowerCase(Locale.ROOT), DEFAULT_REQUESTS_PER_SECOND);
+    }
+
+    private static RateLimiter getRateLimiter(String host) {
+        String normalizedHost = host.toLowerCase(Locale.ROOT);
+        return RATE_LIMITERS.computeIfAbsent(normalizedHost, _ -> RateLimiter.create(getRequestsPerSecond(normalizedHost)));
+    }
+}
@@ -0,0 +1,300 @@
+package org.jabref.logic.net;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.jabref.model.strings.StringUtil;
+
+import com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Disk-backed cache for the bodies of successful HTTP GET responses.
+ * <p>
+ * Each response is stored in a file of the cache directory named after the hash of the request (URL and request
+ * headers). The URL itself is not stored, as it may contain API keys. A cached response is served without contacting
+ * the server as long as it is fresh: its lifetime is the {@code max-age} of the {@code Cache-Control} header of the
+ * response or, if the server does not state one, the time to live requested by the download (see
+ * {@link URLDownload#enableCaching(Duration)}). A stale response is revalidated using its {@code ETag} and
+ * {@code Last-Modified} headers, so that the server can answer with {@code 304 Not Modified} instead of sending the body
+ * again. Responses with {@code Cache-Control: no-store} are not stored, responses with {@code no-cache} are revalidated
+ * on each request.
+ * <p>
+ * The cache can be shared by several JabRef processes: files are replaced atomically, and an unreadable file is treated
+ * as a missing entry.
+ */
+public class HttpResponseCache {
+
+    /**
+     * Entries not updated for this time are removed when the cache is opened
+     */
+    public static final Duration DEFAULT_MAX_ENTRY_AGE = Duration.ofDays(30);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseCache.class);
+
+    private static final String FILE_EXTENSION = ".response";
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path directory;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong revalidatedHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public HttpResponseCache(Path directory) {
+        this(directory, DEFAULT_MAX_ENTRY_AGE);
+    }
+
+    /**
+     * @param maxEntryAge entries not updated for this time are removed
+     */
+    public HttpResponseCache(Path directory, Duration maxEntryAge) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            LOGGER.warn("Could not create HTTP cache directory {}", directory, e);
+        }
+        removeEntriesOlderThan(maxEntryAge);
+    }
+
+    /**
+     * Returns the number of requests answered from the cache so far.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(hits.get(), revalidatedHits.get(), misses.get());
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        removeEntriesOlderThan(Duration.ZERO);
+    }
+
+    Optional<CachedResponse> get(String requestKey) {
+        Path file = getFile(requestKey);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(file))) {
+            if (input.readInt() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            Optional<String> eTag = readOptionalString(input);
+            Optional<String> lastModified = readOptionalString(input);
+            Instant storedAt = Instant.ofEpochMilli(input.readLong());
+            long maxAgeSeconds = input.readLong();
+            boolean noCache = input.readBoolean();
+            int bodyLength = input.readInt();
+            byte[] body = input.readNBytes(bodyLength);
+            if (body.length != bodyLength) {
+                // Truncated file
+                return Optional.empty();
+            }
+            return Optional.of(new CachedResponse(
+                    body,
+                    eTag,
+                    lastModified,
+                    storedAt,
+                    maxAgeSeconds < 0 ? Optional.empty() : Optional.of(Duration.ofSeconds(maxAgeSeconds)),
+                    noCache));
+        } catch (IOException e) {
+            LOGGER.debug("Could not read cached response {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    void put(String requestKey, CachedResponse response) {
+        Path file = getFile(requestKey);
+        Path temporaryFile = null;
+        try {
+            temporaryFile = Files.createTempFile(directory, "response", ".tmp");
+            try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(temporaryFile))) {
+                output.writeInt(FORMAT_VERSION);
+                writeOptionalString(output, response.eTag());
+                writeOptionalString(output, response.lastModified());
+                output.writeLong(response.storedAt().toEpochMilli());
+                output.writeLong(response.maxAge().map(Duration::toSeconds).orElse(-1L));
+                output.writeBoolean(response.noCache());
+                output.writeInt(response.body().length);
+                output.write(response.body());
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.debug("Could not store response in cache {}", file, e);
+            if (temporaryFile != null) {
+                try {
+                    Files.deleteIfExists(temporaryFile);
+                } catch (IOException deleteException) {
+                    LOGGER.debug("Could not delete temporary file {}", temporaryFile, deleteException);
+                }
+            }
+        }
+    }
+
+    void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    void recordRevalidatedHit() {
+        revalidatedHits.incrementAndGet();
+    }
+
+    void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    private Path getFile(String requestKey) {
+        return directory.resolve(Hashing.sha256().hashString(requestKey, StandardCharsets.UTF_8) + FILE_EXTENSION);
+    }
+
+    private void removeEntriesOlderThan(Duration maxEntryAge) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        FileTime threshold = FileTime.from(Instant.now().minus(maxEntryAge));
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(FILE_EXTENSION))
+                 .forEach(file -> {
+                     try {
+                         if (Files.getLastModifiedTime(file).compareTo(threshold) <= 0) {
+                             Files.deleteIfExists(file);
+                         }
+                     } catch (IOException e) {
+                         LOGGER.debug("Could not remove cached response {}", file, e);
+                     }
+                 });
+        } catch (IOException e) {
+            LOGGER.warn("Could not clean up HTTP cache directory {}", directory, e);
+        }
+    }
+
+    private static Optional<String> readOptionalString(DataInputStream input) throws IOException {
+        return input.readBoolean() ? Optional.of(input.readUTF()) : Optional.empty();
+    }
+
+    private static void writeOptionalString(DataOutputStream output, Optional<String> value) throws IOException {
+        output.writeBoolean(value.isPresent());
+        if (value.isPresent()) {
+            output.writeUTF(value.get());
+        }
+    }
+
+    /**
+     * @param maxAge  the lifetime stated by the server, empty if the server did not state one
+     * @param noCache true if the response has to be revalidated on each request
+     */
+    record CachedResponse(byte[] body,
+                          Optional<String> eTag,
+                          Optional<String> lastModified,
+                          Instant storedAt,
+                          Optional<Duration> maxAge,
+                          boolean noCache) {
+
+        /**
+         * Creates the entry for a response that was just received.
+         *
+         * @return empty if the server does not allow storing the response
+         */
+        static Optional<CachedResponse> of(byte[] body, URLConnection connection, Instant now) {
+            CacheControl cacheControl = CacheControl.parse(connection.getHeaderField("Cache-Control"));
+            if (cacheControl.noStore()) {
+                return Optional.empty();
+            }
+            return Optional.of(new CachedResponse(
+                    body,
+                    getHeader(connection, "ETag"),
+                    getHeader(connection, "Last-Modified"),
+                    now,
+                    cacheControl.maxAge(),
+                    cacheControl.noCache()));
+        }
+
+        /**
+         * Creates the entry after the server confirmed that the body did not change ({@code 304 Not Modified}).
+         * The server may send updated headers with this response.
+         */
+        CachedResponse revalidated(URLConnection connection, Instant now) {
+            CacheControl cacheControl = CacheControl.parse(connection.getHeaderField("Cache-Control"));
+            return new CachedResponse(
+                    body,
+                    getHeader(connection, "ETag").or(this::eTag),
+                    getHeader(connection, "Last-Modified").or(this::lastModified),
+                    now,
+                    cacheControl.maxAge().or(this::maxAge),
+                    cacheControl.noCache() || noCache);
+        }
+
+        /**
+         * @param timeToLive the lifetime to use if the server did not state one
+         */
+        boolean isFresh(Instant now, Duration timeToLive) {
+            if (noCache) {
+                return false;
+            }
+            return storedAt.plus(maxAge.orElse(timeToLive)).isAfter(now);
+        }
+
+        private static Optional<String> getHeader(URLConnection connection, String name) {
+            return Optional.ofNullable(connection.getHeaderField(name)).filter(StringUtil::isNotBlank);
+        }
+    }
+
+    private record CacheControl(boolean noStore, boolean noCache, Optional<Duration> maxAge) {
+
+        static CacheControl parse(String header) {
+            if (StringUtil.isBlank(header)) {
+                return new CacheControl(false, false, Optional.empty());
+            }
+            boolean noStore = false;
+            boolean noCache = false;
+            Optional<Duration> maxAge = Optional.empty();
+            for (String directive : header.toLowerCase(Locale.ROOT).split(",")) {
+                String trimmed = directive.trim();
+                if ("no-store".equals(trimmed)) {
+                    noStore = true;
+                } else if ("no-cache".equals(trimmed)) {
+                    noCache = true;
+                } else if (trimmed.startsWith("max-age=")) {
+                    try {
+                        maxAge = Optional.of(Duration.ofSeconds(Long.parseLong(trimmed.substring("max-age=".length()).replace("\"", ""))));
+                    } catch (NumberFormatException e) {
+                        LOGGER.debug("Invalid max-age in Cache-Control header {}", header, e);
+                    }
+                }
+            }
+            return new CacheControl(noStore, noCache, maxAge);
+        }
+    }
+
+    /**
+     * @param hits            requests answered from the cache without contacting the server
+     * @param revalidatedHits requests for which the server confirmed that the cached response is still valid
+     * @param misses          requests for which the response was downloaded
+     */
+    public record Statistics(long hits, long revalidatedHits, long misses) {
+
+        /**
+         * Returns the share of requests for which the body did not have to be downloaded, or 0 if there were no requests.
+         */
+        public double hitRate() {
+            long requests = hits + revalidatedHits + misses;
+            return requests == 0 ? 0 : (double) (hits + revalidatedHits) / requests;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.jabref.logic.net;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -27,11 +28,15 @@ import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
@@ -44,6 +49,7 @@ import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.http.SimpleHttpResponse;
 import org.jabref.model.strings.StringUtil;
 
+import jakarta.annotation.Nullable;
 import kong.unirest.core.HttpResponse;
 import kong.unirest.core.Unirest;
 import kong.unirest.core.UnirestException;
@@ -62,7 +68,8 @@ import org.slf4j.LoggerFactory;
  * </code>
  * <br/><br/>
  * Almost each call to a public method creates a new HTTP connection (except for {@link #asString(Charset, URLConnection) asString},
- * which uses an already opened connection). Nothing is cached.
+ * which uses an already opened connection). Nothing is cached, unless caching is {@link #enableCaching(Duration) enabled}
+ * for the download and a {@link #setResponseCache(HttpResponseCache) response cache} is set.
  */
 public class URLDownload {
 
@@ -70,12 +77,22 @@ public class URLDownload {
     private static final Logger LOGGER = LoggerFactory.getLogger(URLDownload.class);
     private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
     private static final int MAX_RETRIES = 3;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final Duration RETRY_BASE_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private static volatile HttpResponseCache responseCache;
 
     private final URL source;
     private final Map<String, String> parameters = new HashMap<>();
     private String postData = "";
     private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
     private SSLContext sslContext;
+    private Duration cacheTimeToLive;
+    private Runnable beforeRequest = () -> {
+    };
+    private Consumer<URLConnection> responseListener = connection -> {
+    };
 
     static {
         Unirest.config()
@@ -109,10 +126,51 @@ public class URLDownload {
         }
     }
 
+    /**
+     * Sets the cache used by all downloads with {@link #enableCaching(Duration) enabled caching}.
+     *
+     * @param cache the cache, {@code null} to disable caching
+     */
+    public static void setResponseCache(@Nullable HttpResponseCache cache) {
+        responseCache = cache;
+    }
+
+    public static Optional<HttpResponseCache> getResponseCache() {
+        return Optional.ofNullable(responseCache);
+    }
+
     public URL getSource() {
         return source;
     }
 
+    /**
+     * Serves {@link #asInputStream()} and {@link #asString()} from the {@link #setResponseCache(HttpResponseCache) response cache}
+     * if possible. This only applies to HTTP GET requests.
+     *
+     * @param timeToLive how long the response may be used without asking the server again, unless the server states a
+     *                   lifetime itself. {@link Duration#ZERO} asks the server on each request, which can still avoid
+     *                   downloading the body again.
+     */
+    public void enableCaching(Duration timeToLive) {
+        this.cacheTimeToLive = timeToLive;
+    }
+
+    /**
+     * Runs the given action before each request sent to the server, e.g., to wait for the rate limit of an API. Responses
+     * served from the {@link #setResponseCache(HttpResponseCache) response cache} do not send a request.
+     */
+    public void setBeforeRequest(Runnable beforeRequest) {
+        this.beforeRequest = beforeRequest;
+    }
+
+    /**
+     * Passes the connection of each response received from the server to the given listener, e.g., to read the rate
+     * limit stated in the headers
+     */
+    public void setResponseListener(Consumer<URLConnection> responseListener) {
+        this.responseListener = responseListener;
+    }
+
     public Optional<String> getMimeType() {
         String contentType;
 
@@ -123,6 +181,7 @@ public class URLDownload {
             String locationHeader;
             do {
                 retries++;
+                HostRateLimiter.acquire(URLUtil.create(urlToCheck));
                 HttpResponse<String> response = Unirest.head(urlToCheck).asString();
                 // Check if we have redirects, e.g. arxiv will give otherwise content type html for the original url
                 // We need to do it "manually", because ".followRedirects(true)" only works for GET not for HEAD
@@ -142,6 +201,7 @@ public class URLDownload {
 
         // Use GET request as alternative if no HEAD request is available
         try {
+            HostRateLimiter.acquire(source);
             contentType = Unirest.get(source.toString()).asString().getHeaders().get("Content-Type").getFirst();
             if (!StringUtil.isNullOrEmpty(contentType)) {
                 return Optional.of(contentType);
@@ -171,7 +231,7 @@ public class URLDownload {
      * @return the status code of the response
      */
     public boolean canBeReached() throws UnirestException {
-
+        HostRateLimiter.acquire(source);
         int statusCode = Unirest.head(source.toString()).asString().getStatus();
         return (statusCode >= 200) && (statusCode < 300);
     }
@@ -200,7 +260,7 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString() throws FetcherException {
-        return asString(StandardCharsets.UTF_8, this.openConnection());
+        return asString(StandardCharsets.UTF_8);
     }
 
     /**
@@ -210,6 +270,10 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString(Charset encoding) throws FetcherException {
+        Optional<HttpResponseCache> cache = getCacheForRequest();
+        if (cache.isPresent()) {
+            return asString(encoding, new ByteArrayInputStream(downloadWithCache(cache.get())));
+        }
         return asString(encoding, this.openConnection());
     }
 
@@ -231,7 +295,15 @@ public class URLDownload {
      * @return the downloaded string
      */
     public static String asString(Charset encoding, URLConnection connection) throws FetcherException {
-        try (InputStream input = new BufferedInputStream(connection.getInputStream());
+        try {
+            return asString(encoding, new BufferedInputStream(connection.getInputStream()));
+        } catch (IOException e) {
+            throw new FetcherException("Error downloading", e);
+        }
+    }
+
+    private static String asString(Charset encoding, InputStream inputStream) throws FetcherException {
+        try (InputStream input = inputStream;
              Writer output = new StringWriter()) {
             copy(input, output, encoding);
             return output.toString();
@@ -274,6 +346,12 @@ public class URLDownload {
      * Takes the web resource as the source for a monitored input stream.
      */
     public ProgressInputStream asInputStream() throws FetcherException {
+        Optional<HttpResponseCache> cache = getCacheForRequest();
+        if (cache.isPresent()) {
+            byte[] body = downloadWithCache(cache.get());
+            return new ProgressInputStream(new ByteArrayInputStream(body), body.length);
+        }
+
         HttpURLConnection urlConnection = (HttpURLConnection) this.openConnection();
 
         int responseCode;
@@ -349,17 +427,12 @@ public class URLDownload {
      * @return an open connection
      */
     public URLConnection openConnection() throws FetcherException {
-        URLConnection connection;
-        try {
-            connection = getUrlConnection();
-        } catch (IOException e) {
-            throw new FetcherException("Error opening connection", e);
-        }
+        URLConnection connection = connect(Map.of());
 
         if (connection instanceof HttpURLConnection httpURLConnection) {
             int status;
             try {
-                // this does network i/o: GET + read returned headers
+                // already read by connect
                 status = httpURLConnection.getResponseCode();
             } catch (IOException e) {
                 LOGGER.error("Error getting response code", e);
@@ -380,20 +453,158 @@ public class URLDownload {
                     throw new FetcherException("Could not open URL Download", e);
                 }
             } else if (status >= 400) {
-                // in case of an error, propagate the error message
-                SimpleHttpResponse httpResponse = new SimpleHttpResponse(httpURLConnection);
-                LOGGER.info("{}: {}", FetcherException.getRedactedUrl(this.source), httpResponse);
-                if (status < 500) {
-                    throw new FetcherClientException(this.source, httpResponse);
-                } else {
-                    throw new FetcherServerException(this.source, httpResponse);
-                }
+                throw createErrorStatusException(httpURLConnection, status);
             }
         }
         return connection;
     }
 
-    private URLConnection getUrlConnection() throws IOException {
+    /**
+     * In case of an error, propagates the error message
+     */
+    private FetcherException createErrorStatusException(HttpURLConnection connection, int status) {
+        SimpleHttpResponse httpResponse = new SimpleHttpResponse(connection);
+        LOGGER.info("{}: {}", FetcherException.getRedactedUrl(this.source), httpResponse);
+        if (status < 500) {
+            return new FetcherClientException(this.source, httpResponse);
+        } else {
+            return new FetcherServerException(this.source, httpResponse);
+        }
+    }
+
+    private Optional<HttpResponseCache> getCacheForRequest() {
+        HttpResponseCache cache = responseCache;
+        if ((cache == null) || (cacheTimeToLive == null) || !postData.isEmpty()) {
+            return Optional.empty();
+        }
+        String protocol = source.getProtocol();
+        if (!"http".equalsIgnoreCase(protocol) && !"https".equalsIgnoreCase(protocol)) {
+            return Optional.empty();
+        }
+        return Optional.of(cache);
+    }
+
+    /**
+     * Returns the body of the response, using the cached response if it is fresh or the server confirms that it did
+     * not change. Otherwise, the response is downloaded and stored in the cache.
+     */
+    private byte[] downloadWithCache(HttpResponseCache cache) throws FetcherException {
+        // Requests differing in headers (e.g., "Accept") may get different responses
+        String requestKey = source + " " + new TreeMap<>(parameters);
+        Optional<HttpResponseCache.CachedResponse> cachedResponse = cache.get(requestKey);
+        if (cachedResponse.isPresent() && cachedResponse.get().isFresh(Instant.now(), cacheTimeToLive)) {
+            cache.recordHit();
+            return cachedResponse.get().body();
+        }
+
+        Map<String, String> conditionalHeaders = new HashMap<>();
+        cachedResponse.ifPresent(response -> {
+            response.eTag().ifPresent(eTag -> conditionalHeaders.put("If-None-Match", eTag));
+            response.lastModified().ifPresent(lastModified -> conditionalHeaders.put("If-Modified-Since", lastModified));
+        });
+        HttpURLConnection connection = (HttpURLConnection) connect(conditionalHeaders);
+
+        try {
+            int status = connection.getResponseCode();
+            if ((status == HttpURLConnection.HTTP_NOT_MODIFIED) && cachedResponse.isPresent()) {
+                cache.recordRevalidatedHit();
+                cache.put(requestKey, cachedResponse.get().revalidated(connection, Instant.now()));
+                return cachedResponse.get().body();
+            }
+            if (status >= 400) {
+                throw createErrorStatusException(connection, status);
+            }
+            cache.recordMiss();
+            if (status != HttpURLConnection.HTTP_OK) {
+                // E.g., a redirect to another protocol, which is not followed by HttpURLConnection
+                connection.disconnect();
+                try (InputStream input = openConnection().getInputStream()) {
+                    return input.readAllBytes();
+                }
+            }
+            byte[] body;
+            try (InputStream input = connection.getInputStream()) {
+                body = input.readAllBytes();
+            }
+            HttpResponseCache.CachedResponse.of(body, connection, Instant.now())
+                                            .ifPresent(response -> cache.put(requestKey, response));
+            return body;
+        } catch (IOException e) {
+            throw new FetcherException("Error downloading", e);
+        }
+    }
+
+    /**
+     * Opens the connection and, for HTTP, sends the request and reads the status. Waits for the
+     * {@link HostRateLimiter rate limit} of the host before each request. If the server is overloaded (HTTP 429 or 503),
+     * the request is retried after the delay requested by the server or an exponential backoff with random jitter, so
+     * that parallel requests do not retry at the same time.
+     *
+     * @param additionalHeaders headers to send in addition to the headers of this download
+     */
+    private URLConnection connect(Map<String, String> additionalHeaders) throws FetcherException {
+        for (int attempt = 0; ; attempt++) {
+            HostRateLimiter.acquire(source);
+            beforeRequest.run();
+            URLConnection connection;
+            try {
+                connection = getUrlConnection(additionalHeaders);
+            } catch (IOException e) {
+                throw new FetcherException("Error opening connection", e);
+            }
+            if (!(connection instanceof HttpURLConnection httpURLConnection)) {
+                return connection;
+            }
+
+            int status;
+            try {
+                // this does network i/o: GET + read returned headers
+                status = httpURLConnection.getResponseCode();
+            } catch (IOException e) {
+                LOGGER.error("Error getting response code", e);
+                throw new FetcherException("Error getting response code", e);
+            }
+            responseListener.accept(connection);
+            if (((status != HTTP_TOO_MANY_REQUESTS) && (status != HttpURLConnection.HTTP_UNAVAILABLE)) || (attempt >= MAX_RETRIES)) {
+                return connection;
+            }
+            Optional<Duration> retryDelay = getRetryDelay(httpURLConnection, attempt);
+            if (retryDelay.isEmpty()) {
+                return connection;
+            }
+            LOGGER.debug("{} answered {}, retrying in {} ms", FetcherException.getRedactedUrl(source), status, retryDelay.get().toMillis());
+            httpURLConnection.disconnect();
+            try {
+                Thread.sleep(retryDelay.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FetcherException("Interrupted while waiting to retry the request", e);
+            }
+        }
+    }
+
+    /**
+     * @return empty if the server requests a delay longer than {@link #MAX_RETRY_DELAY}
+     */
+    private static Optional<Duration> getRetryDelay(HttpURLConnection connection, int attempt) {
+        Duration delay = RETRY_BASE_DELAY.multipliedBy(1L << attempt);
+        String retryAfter = connection.getHeaderField("Retry-After");
+        if (StringUtil.isNotBlank(retryAfter)) {
+            try {
+                delay = Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+            } catch (NumberFormatException e) {
+                // An HTTP date is not supported, use the backoff
+                LOGGER.debug("Could not parse Retry-After header {}", retryAfter, e);
+            }
+        }
+        if (delay.compareTo(MAX_RETRY_DELAY) > 0) {
+            return Optional.empty();
+        }
+        Duration jitter = Duration.ofMillis(ThreadLocalRandom.current().nextLong(RETRY_BASE_DELAY.toMillis() / 2 + 1));
+        return Optional.of(delay.plus(jitter));
+    }
+
+    private URLConnection getUrlConnection(Map<String, String> additionalHeaders) throws IOException {
         URLConnection connection = this.source.openConnection();
 
         if (connection instanceof HttpURLConnection httpConnection) {
@@ -408,6 +619,7 @@ public class URLDownload {
         for (Entry<String, String> entry : this.parameters.entrySet()) {
             connection.setRequestProperty(entry.getKey(), entry.getValue());
         }
+        additionalHeaders.forEach(connection::setRequestProperty);
         if (!this.postData.isEmpty()) {
             connection.setDoOutput(true);
             try (DataOutputStream wr = new DataOutputStream(connection.getOutputStream())) {
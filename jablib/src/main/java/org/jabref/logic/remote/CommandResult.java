@@ -0,0 +1,31 @@
+package org.jabref.logic.remote;
+
+import java.io.IOException;
+
+/**
+ * The result of a command executed by a JabKit daemon, see {@link RemoteMessage#EXECUTE_COMMAND}.
+ *
+ * @param exitCode    the exit code of the command
+ * @param output      everything the command wrote to the standard output
+ * @param errorOutput everything the command wrote to the standard error output
+ */
+public record CommandResult(int exitCode, String output, String errorOutput) {
+
+    /**
+     * @return the content of a {@link RemoteMessage#COMMAND_RESULT} message: the exit code, the output and the error output
+     */
+    public String[] toMessage() {
+        return new String[] {String.valueOf(exitCode), output, errorOutput};
+    }
+
+    public static CommandResult fromMessage(Object message) throws IOException {
+        if ((message instanceof String[] strings) && (strings.length == 3)) {
+            try {
+                return new CommandResult(Integer.parseInt(strings[0]), strings[1], strings[2]);
+            } catch (NumberFormatException e) {
+                throw new IOException("Exit code of the command result is not a number. Got " + strings[0], e);
+            }
+        }
+        throw new IOException("Content of 'COMMAND_RESULT' is not of type String[3]. Got " + message);
+    }
+}
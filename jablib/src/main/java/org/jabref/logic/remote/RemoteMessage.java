@@ -16,5 +16,13 @@ public enum RemoteMessage {
     /**
      * Request server to identify itself. No message content.
      */
-    PING
+    PING,
+    /**
+     * Execute a command in a JabKit daemon. The message content is of type {@code String[]}: the token of the daemon, the working directory of the client, and the arguments of the command.
+     */
+    EXECUTE_COMMAND,
+    /**
+     * As a response to {@link #EXECUTE_COMMAND}. The message content is of type {@code String[]}, see {@link CommandResult#toMessage()}.
+     */
+    COMMAND_RESULT
 }
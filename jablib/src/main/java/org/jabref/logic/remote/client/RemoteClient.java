@@ -3,10 +3,13 @@ package org.jabref.logic.remote.client;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.file.Path;
+import java.util.Optional;
 
 import javafx.util.Pair;
 
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.remote.CommandResult;
 import org.jabref.logic.remote.Protocol;
 import org.jabref.logic.remote.RemoteMessage;
 import org.jabref.logic.remote.RemotePreferences;
@@ -63,9 +66,45 @@ public class RemoteClient {
         }
     }
 
+    /**
+     * Attempt to execute a command in an already running JabKit daemon. In contrast to the other messages, there is no
+     * timeout for the response, as commands such as fetching or searching can take arbitrarily long.
+     *
+     * @param token            the secret of the daemon, which proves that the client may execute commands
+     * @param workingDirectory the directory relative paths in the arguments are relative to
+     * @param args             command line arguments of the command
+     * @return the result of the command, or an empty Optional if the daemon could not be reached or rejected the command
+     */
+    public Optional<CommandResult> executeCommand(String token, Path workingDirectory, String[] args) {
+        String[] message = new String[args.length + 2];
+        message[0] = token;
+        message[1] = workingDirectory.toAbsolutePath().toString();
+        System.arraycopy(args, 0, message, 2, args.length);
+
+        try (Protocol protocol = openNewConnection(0)) {
+            protocol.sendMessage(RemoteMessage.EXECUTE_COMMAND, message);
+            Pair<RemoteMessage, Object> response = protocol.receiveMessage();
+            if (response.getKey() != RemoteMessage.COMMAND_RESULT) {
+                LOGGER.debug("Server at port {} does not execute commands. Got {}", port, response.getKey());
+                return Optional.empty();
+            }
+            return Optional.of(CommandResult.fromMessage(response.getValue()));
+        } catch (IOException e) {
+            LOGGER.debug("Could not send command {} to the server at port {}", String.join(", ", args), port, e);
+            return Optional.empty();
+        }
+    }
+
     private Protocol openNewConnection() throws IOException {
+        return openNewConnection(TIMEOUT);
+    }
+
+    /**
+     * @param readTimeout the timeout for reading the response in milliseconds, 0 for no timeout
+     */
+    private Protocol openNewConnection(int readTimeout) throws IOException {
         Socket socket = new Socket();
-        socket.setSoTimeout(TIMEOUT);
+        socket.setSoTimeout(readTimeout);
         socket.connect(new InetSocketAddress(RemotePreferences.getIpAddress(), port), TIMEOUT);
         return new Protocol(socket);
     }
@@ -4,9 +4,14 @@ import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
 
 import javafx.util.Pair;
 
+import org.jabref.logic.remote.CommandResult;
 import org.jabref.logic.remote.Protocol;
 import org.jabref.logic.remote.RemoteMessage;
 import org.jabref.logic.remote.RemotePreferences;
@@ -23,10 +28,24 @@ public class RemoteListenerServer implements Runnable {
 
     private final RemoteMessageHandler messageHandler;
     private final ServerSocket serverSocket;
+    private final String commandToken;
 
+    /**
+     * Creates a server which does not execute commands ({@link RemoteMessage#EXECUTE_COMMAND}).
+     */
     public RemoteListenerServer(RemoteMessageHandler messageHandler, int port) throws IOException {
-        this.serverSocket = new ServerSocket(port, BACKLOG, RemotePreferences.getIpAddress());
+        this(messageHandler, port, BACKLOG, null);
+    }
+
+    /**
+     * @param backlog      the number of connections waiting while a message is handled. Further connections are refused.
+     * @param commandToken the secret each command has to carry, as anyone on this machine can connect to the port.
+     *                     If null, all commands are rejected.
+     */
+    public RemoteListenerServer(RemoteMessageHandler messageHandler, int port, int backlog, String commandToken) throws IOException {
+        this.serverSocket = new ServerSocket(port, backlog, RemotePreferences.getIpAddress());
         this.messageHandler = messageHandler;
+        this.commandToken = commandToken;
     }
 
     @Override
@@ -40,9 +59,14 @@ public class RemoteListenerServer implements Runnable {
                         handleMessage(protocol, input.getKey(), input.getValue());
                     }
                 } catch (SocketException ex) {
-                    return;
-                } catch (IOException e) {
-                    LOGGER.warn("RemoteListenerServer crashed", e);
+                    if (serverSocket.isClosed()) {
+                        return;
+                    }
+                    // The connection to a client failed, e.g., because the client was killed while its command ran
+                    LOGGER.warn("Connection to client failed", ex);
+                } catch (IOException | RuntimeException e) {
+                    // A failing message must not stop the server from handling the following ones
+                    LOGGER.warn("Could not handle message", e);
                 }
             }
         } finally {
@@ -63,11 +87,28 @@ public class RemoteListenerServer implements Runnable {
                     throw new IOException("Argument for 'SEND_COMMAND_LINE_ARGUMENTS' is not of type String[]. Got " + argument);
                 }
                 break;
+            case EXECUTE_COMMAND:
+                if ((argument instanceof String[] strings) && (strings.length > 1)) {
+                    if (!isCommandTokenValid(strings[0])) {
+                        throw new IOException("Rejected command with invalid token");
+                    }
+                    CommandResult result = messageHandler.executeCommand(Path.of(strings[1]), Arrays.copyOfRange(strings, 2, strings.length));
+                    protocol.sendMessage(RemoteMessage.COMMAND_RESULT, result.toMessage());
+                } else {
+                    throw new IOException("Argument for 'EXECUTE_COMMAND' is not a String[] with token and working directory. Got " + argument);
+                }
+                break;
             default:
                 throw new IOException("Unhandled message to server " + type);
         }
     }
 
+    private boolean isCommandTokenValid(String token) {
+        // Constant-time comparison, so that the token cannot be guessed from the response times
+        return (commandToken != null)
+                && MessageDigest.isEqual(commandToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+
     public void closeServerSocket() {
         try {
             serverSocket.close();
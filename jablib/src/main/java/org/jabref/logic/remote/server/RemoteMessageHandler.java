@@ -1,6 +1,20 @@
 package org.jabref.logic.remote.server;
 
+import java.nio.file.Path;
+
+import org.jabref.logic.remote.CommandResult;
+
 @FunctionalInterface
 public interface RemoteMessageHandler {
     void handleCommandLineArguments(String[] message);
+
+    /**
+     * Executes a command of JabKit. Only the JabKit daemon executes commands; other instances reject them.
+     *
+     * @param workingDirectory the working directory of the client. Relative paths in the arguments are relative to it.
+     * @param arguments        the command line arguments of the command
+     */
+    default CommandResult executeCommand(Path workingDirectory, String[] arguments) {
+        return new CommandResult(1, "", "This instance of JabRef does not execute commands.\n");
+    }
 }
@@ -26,6 +26,7 @@ import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
@@ -56,9 +57,20 @@ public class IndexManager {
                         TaskExecutor executor,
                         CliPreferences preferences,
                         PostgreServer postgreServer) {
+        this(databaseContext, executor, preferences, postgreServer, preferences.getFilePreferences().fulltextIndexLinkedFilesProperty());
+    }
+
+    /**
+     * @param shouldIndexLinkedFiles whether the content of the linked files is indexed. The index is updated when it changes.
+     */
+    public IndexManager(BibDatabaseContext databaseContext,
+                        TaskExecutor executor,
+                        CliPreferences preferences,
+                        PostgreServer postgreServer,
+                        BooleanProperty shouldIndexLinkedFiles) {
         this.taskExecutor = executor;
         this.databaseContext = databaseContext;
-        this.shouldIndexLinkedFiles = preferences.getFilePreferences().fulltextIndexLinkedFilesProperty();
+        this.shouldIndexLinkedFiles = shouldIndexLinkedFiles;
         this.preferencesListener = (observable, oldValue, newValue) -> bindToPreferences(newValue);
         this.shouldIndexLinkedFiles.addListener(preferencesListener);
 
@@ -177,6 +189,35 @@ public class IndexManager {
         }
     }
 
+    /**
+     * Updates the index for a batch of changes in one task instead of one task per change.
+     */
+    public void updateEntries(EntriesChangedEvent event) {
+        new BackgroundTask<>() {
+            @Override
+            public Object call() {
+                event.getFieldChangedEvents().forEach(change -> bibFieldsIndexer.updateEntry(change.getBibEntry(), change.getField()));
+                return null;
+            }
+        }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(event.getBibEntries())))
+         .executeWith(taskExecutor);
+
+        if (shouldIndexLinkedFiles.get()) {
+            List<FieldChangedEvent> fileChanges = event.getFieldChangedEvents().stream()
+                                                       .filter(change -> change.getField().equals(StandardField.FILE))
+                                                       .toList();
+            if (!fileChanges.isEmpty()) {
+                new BackgroundTask<>() {
+                    @Override
+                    public Object call() {
+                        fileChanges.forEach(change -> linkedFilesIndexer.updateEntry(change.getBibEntry(), change.getOldValue(), change.getNewValue(), this));
+                        return null;
+                    }
+                }.executeWith(taskExecutor);
+            }
+        }
+    }
+
     public void rebuildFullTextIndex() {
         if (shouldIndexLinkedFiles.get()) {
             new BackgroundTask<>() {
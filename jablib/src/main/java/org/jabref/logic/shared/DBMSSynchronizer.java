@@ -23,6 +23,7 @@ import org.jabref.logic.shared.exception.OfflineLockException;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEvent;
@@ -108,6 +109,21 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    /**
+     * Listening method. Updates the shared {@link BibEntry}s changed in a batch, each of them once.
+     */
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        if (isEventSourceAccepted(event) && checkCurrentConnection()) {
+            synchronizeLocalMetaData();
+            pullWithLastEntry();
+            event.getBibEntries().stream()
+                 .filter(this::isPresentLocalBibEntry)
+                 .forEach(this::synchronizeSharedEntry);
+            synchronizeLocalDatabase();
+        }
+    }
+
     /**
      * Listening method. Deletes the given list of {@link BibEntry} from shared database.
      */
@@ -0,0 +1,236 @@
+package org.jabref.logic.texparser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.texparser.Citation;
+import org.jabref.model.texparser.LatexParserResult;
+import org.jabref.model.texparser.LatexParserResults;
+
+import com.google.common.hash.Hashing;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.h2.mvstore.MVStoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link LatexParser} which keeps the results of parsed LaTeX files on disk, so that only new or changed files have
+ * to be parsed again, e.g., after a restart of JabRef.
+ * <p>
+ * For each file, the modification time, the size, and the hash of the content are stored together with the
+ * citations, the nested files, and the bibliography files. A file is parsed again only if its modification time or
+ * size changed and its content hash differs from the stored one. Several files are parsed in parallel.
+ * <p>
+ * This class is thread-safe.
+ */
+public class LatexCitationIndex implements LatexParser, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LatexCitationIndex.class);
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String FILES_MAP_NAME = "files";
+
+    private final LatexParser latexParser;
+    private final MVStore mvStore;
+    private final MVMap<String, byte[]> indexedFiles;
+
+    /**
+     * @param storePath the file storing the index. If the file cannot be opened, the index is kept in memory.
+     */
+    public LatexCitationIndex(Path storePath) {
+        this(storePath, new DefaultLatexParser());
+    }
+
+    LatexCitationIndex(Path storePath, LatexParser latexParser) {
+        this.latexParser = latexParser;
+        this.mvStore = openStore(storePath);
+        this.indexedFiles = mvStore.openMap(FILES_MAP_NAME);
+    }
+
+    private static MVStore openStore(Path storePath) {
+        try {
+            Files.createDirectories(storePath.getParent());
+            return new MVStore.Builder()
+                    .fileName(storePath.toString())
+                    .open();
+        } catch (IOException | MVStoreException e) {
+            LOGGER.warn("Could not open LaTeX citation index {}. Citations will be parsed again in the next session.", storePath, e);
+            return new MVStore.Builder()
+                    .fileName(null) // creates an in memory store
+                    .open();
+        }
+    }
+
+    @Override
+    public LatexParserResult parse(String citeString) {
+        return latexParser.parse(citeString);
+    }
+
+    @Override
+    public Optional<LatexParserResult> parse(Path latexFile) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(latexFile, BasicFileAttributes.class);
+        } catch (IOException e) {
+            remove(latexFile);
+            return latexParser.parse(latexFile);
+        }
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        long size = attributes.size();
+
+        String indexKey = getIndexKey(latexFile);
+        Optional<IndexedFile> indexedFile = Optional.ofNullable(indexedFiles.get(indexKey))
+                                                    .flatMap(serialized -> IndexedFile.deserialize(serialized, latexFile));
+        if (indexedFile.isPresent() && (indexedFile.get().lastModified() == lastModified) && (indexedFile.get().size() == size)) {
+            return Optional.of(indexedFile.get().result());
+        }
+
+        String contentHash;
+        try {
+            contentHash = Hashing.sha256().hashBytes(Files.readAllBytes(latexFile)).toString();
+        } catch (IOException e) {
+            LOGGER.debug("Could not read {}", latexFile, e);
+            return latexParser.parse(latexFile);
+        }
+        if (indexedFile.isPresent() && indexedFile.get().contentHash().equals(contentHash)) {
+            // Only the modification time changed, e.g., by a checkout of a version control system
+            store(indexKey, new IndexedFile(lastModified, size, contentHash, indexedFile.get().result()));
+            return Optional.of(indexedFile.get().result());
+        }
+
+        Optional<LatexParserResult> result = latexParser.parse(latexFile);
+        result.ifPresent(parsedFile -> store(indexKey, new IndexedFile(lastModified, size, contentHash, parsedFile)));
+        return result;
+    }
+
+    /**
+     * Parses the given files in parallel. Files which did not change since they were parsed the last time are not
+     * parsed again.
+     */
+    @Override
+    public LatexParserResults parse(List<Path> latexFiles) {
+        List<Map.Entry<Path, LatexParserResult>> parsedFiles = latexFiles.parallelStream()
+                                                                         .flatMap(file -> parse(file).map(result -> Map.entry(file, result)).stream())
+                                                                         .toList();
+        LatexParserResults results = new LatexParserResults();
+        parsedFiles.forEach(parsedFile -> results.add(parsedFile.getKey(), parsedFile.getValue()));
+        return results;
+    }
+
+    /**
+     * Removes the given file from the index, e.g., after the file was deleted.
+     */
+    public void remove(Path latexFile) {
+        indexedFiles.remove(getIndexKey(latexFile));
+    }
+
+    public int size() {
+        return indexedFiles.size();
+    }
+
+    @Override
+    public void close() {
+        mvStore.close();
+    }
+
+    private void store(String indexKey, IndexedFile indexedFile) {
+        try {
+            indexedFiles.put(indexKey, indexedFile.serialize());
+        } catch (IOException e) {
+            LOGGER.debug("Could not store parsed file {}", indexKey, e);
+        }
+    }
+
+    private static String getIndexKey(Path latexFile) {
+        return latexFile.toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * The nested files and the bibliography files are stored relative to the directory of the LaTeX file, as the parser
+     * resolves them relative to the path of the LaTeX file it was given.
+     */
+    private record IndexedFile(long lastModified, long size, String contentHash, LatexParserResult result) {
+
+        byte[] serialize() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream output = new DataOutputStream(bytes)) {
+                Path directory = getDirectory(result.getPath());
+                output.writeInt(FORMAT_VERSION);
+                output.writeLong(lastModified);
+                output.writeLong(size);
+                output.writeUTF(contentHash);
+                output.writeInt(result.getCitations().size());
+                for (Map.Entry<String, Citation> citation : result.getCitations().entries()) {
+                    output.writeUTF(citation.getKey());
+                    output.writeInt(citation.getValue().line());
+                    output.writeInt(citation.getValue().colStart());
+                    output.writeInt(citation.getValue().colEnd());
+                    // Lines can be longer than the 64 KiB supported by writeUTF
+                    byte[] lineText = citation.getValue().lineText().getBytes(StandardCharsets.UTF_8);
+                    output.writeInt(lineText.length);
+                    output.write(lineText);
+                }
+                writePaths(output, directory, result.getNestedFiles());
+                writePaths(output, directory, result.getBibFiles());
+            }
+            return bytes.toByteArray();
+        }
+
+        static Optional<IndexedFile> deserialize(byte[] serialized, Path latexFile) {
+            try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(serialized))) {
+                if (input.readInt() != FORMAT_VERSION) {
+                    return Optional.empty();
+                }
+                Path directory = getDirectory(latexFile);
+                long lastModified = input.readLong();
+                long size = input.readLong();
+                String contentHash = input.readUTF();
+                LatexParserResult result = new LatexParserResult(latexFile);
+                int numberOfCitations = input.readInt();
+                for (int i = 0; i < numberOfCitations; i++) {
+                    String key = input.readUTF();
+                    int line = input.readInt();
+                    int colStart = input.readInt();
+                    int colEnd = input.readInt();
+                    String lineText = new String(input.readNBytes(input.readInt()), StandardCharsets.UTF_8);
+                    result.addKey(key, latexFile, line, colStart, colEnd, lineText);
+                }
+                int numberOfNestedFiles = input.readInt();
+                for (int i = 0; i < numberOfNestedFiles; i++) {
+                    result.addNestedFile(directory.resolve(input.readUTF()).normalize());
+                }
+                int numberOfBibFiles = input.readInt();
+                for (int i = 0; i < numberOfBibFiles; i++) {
+                    result.addBibFile(directory.resolve(input.readUTF()).normalize());
+                }
+                return Optional.of(new IndexedFile(lastModified, size, contentHash, result));
+            } catch (IOException | IllegalArgumentException e) {
+                LOGGER.debug("Could not read indexed file {}", latexFile, e);
+                return Optional.empty();
+            }
+        }
+
+        private static void writePaths(DataOutputStream output, Path directory, List<Path> paths) throws IOException {
+            output.writeInt(paths.size());
+            for (Path path : paths) {
+                output.writeUTF(directory.relativize(path).toString());
+            }
+        }
+
+        private static Path getDirectory(Path latexFile) {
+            Path directory = latexFile.getParent();
+            return directory == null ? Path.of("") : directory;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.slf4j.LoggerFactory;
 /// This is a wrapper around [ExecutorService]
 ///
 /// Offers both high-priority and low-priority thread pools.
+/// Tasks blocking on network I/O (e.g., web fetchers) run on virtual threads, see [#executeAllWebRequests(Collection)].
 public class HeadlessExecutorService implements Executor {
 
     public static final HeadlessExecutorService INSTANCE = new HeadlessExecutorService();
@@ -43,6 +44,14 @@ public class HeadlessExecutorService implements Executor {
         return thread;
     });
 
+    /// Virtual threads do not block a platform thread while waiting for the network.
+    /// The rate of requests per host is limited by [org.jabref.logic.net.HostRateLimiter] instead of the number of threads.
+    private final ExecutorService webRequestExecutorService = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual()
+                  .name("JabRef web request ", 0)
+                  .uncaughtExceptionHandler(new FallbackExceptionHandler())
+                  .factory());
+
     private final Timer timer = new Timer("timer", true);
 
     private Thread remoteThread;
@@ -104,6 +113,36 @@ public class HeadlessExecutorService implements Executor {
         }
     }
 
+    /**
+     * Executes tasks sending web requests, e.g., searches of several fetchers, and waits until all are done.
+     *
+     * @param tasks The tasks to execute
+     * @return A List of Future objects that provide the returning values in the order of the tasks.
+     */
+    public <T> List<Future<T>> executeAllWebRequests(Collection<Callable<T>> tasks) {
+        Objects.requireNonNull(tasks);
+        try {
+            return webRequestExecutorService.invokeAll(tasks);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        }
+    }
+
+    /**
+     * Executes tasks sending web requests and waits until all are done or the timeout expires. Tasks not done at the
+     * timeout are cancelled.
+     */
+    public <T> List<Future<T>> executeAllWebRequests(Collection<Callable<T>> tasks, int timeout, TimeUnit timeUnit) {
+        Objects.requireNonNull(tasks);
+        try {
+            return webRequestExecutorService.invokeAll(tasks, timeout, timeUnit);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        }
+    }
+
     public void executeInterruptableTask(final Runnable runnable, String taskName) {
         this.lowPriorityExecutorService.execute(new NamedRunnable(taskName, runnable));
     }
@@ -154,6 +193,9 @@ public class HeadlessExecutorService implements Executor {
         LOGGER.trace("Gracefully shut down low priority executor service");
         gracefullyShutdown(this.lowPriorityExecutorService);
 
+        LOGGER.trace("Gracefully shut down web request executor service");
+        gracefullyShutdown(this.webRequestExecutorService);
+
         LOGGER.trace("Canceling timer");
         timer.cancel();
 
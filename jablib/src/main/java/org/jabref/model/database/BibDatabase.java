@@ -25,6 +25,7 @@ import javafx.collections.ObservableList;
 
 import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
@@ -40,7 +41,6 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -65,6 +65,9 @@ public class BibDatabase {
     // Not included in equals, because it is not relevant for the content of the database
     private final EventBus eventBus = new EventBus();
 
+    // Changes of entries collected during runBatchedUpdate on the respective thread
+    private final ThreadLocal<List<FieldChangedEvent>> batchedFieldChanges = new ThreadLocal<>();
+
     // Reverse index for citation links
     private final Map<String, Set<BibEntry>> citationIndex = new ConcurrentHashMap<>();
 
@@ -191,7 +194,7 @@ public class BibDatabase {
     public synchronized void insertEntries(List<BibEntry> newEntries, EntriesEventSource eventSource) {
         Objects.requireNonNull(newEntries);
         for (BibEntry entry : newEntries) {
-            entry.registerListener(this);
+            entry.registerDatabase(this);
         }
         if (newEntries.isEmpty()) {
             eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
@@ -597,6 +600,7 @@ public class BibDatabase {
      * <p>
      * - {@link EntriesAddedEvent}
      * - {@link EntryChangedEvent}
+     * - {@link EntriesChangedEvent}
      * - {@link EntriesRemovedEvent}
      *
      * @param listener listener (subscriber) to add
@@ -623,8 +627,42 @@ public class BibDatabase {
         }
     }
 
-    @Subscribe
-    private void relayEntryChangeEvent(FieldChangedEvent event) {
+    /**
+     * Runs the given update of entries as one batch. The changes of fields made by the update on the calling thread are
+     * not relayed as individual {@link FieldChangedEvent}s, but as a single {@link EntriesChangedEvent} posted after
+     * the update finished. Listeners registered directly at the entries are still notified of each change.
+     * <p>
+     * This avoids that listeners of the database (e.g., the search index, the groups, autosave and the synchronization
+     * with a shared database) react to each change when many entries are changed at once.
+     */
+    public void runBatchedUpdate(Runnable update) {
+        if (batchedFieldChanges.get() != null) {
+            // Nested batch: the changes are part of the outer batch
+            update.run();
+            return;
+        }
+
+        List<FieldChangedEvent> changes = new ArrayList<>();
+        batchedFieldChanges.set(changes);
+        try {
+            update.run();
+        } finally {
+            batchedFieldChanges.remove();
+            if (!changes.isEmpty()) {
+                eventBus.post(new EntriesChangedEvent(changes));
+            }
+        }
+    }
+
+    /**
+     * Posts the change of an entry of this database to the listeners of the database. Called by the entry.
+     */
+    public void relayEntryChangeEvent(FieldChangedEvent event) {
+        List<FieldChangedEvent> changes = batchedFieldChanges.get();
+        if (changes != null) {
+            changes.add(event);
+            return;
+        }
         eventBus.post(event);
     }
 
@@ -3,11 +3,15 @@ package org.jabref.model.database;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.logic.FilePreferences;
@@ -19,9 +23,15 @@ import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.AutomaticGroup;
+import org.jabref.model.groups.AutomaticGroupIndex;
+import org.jabref.model.groups.GroupMembershipIndex;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.event.GroupUpdatedEvent;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.study.Study;
 
+import com.google.common.eventbus.Subscribe;
 import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,6 +68,10 @@ public class BibDatabaseContext {
     private DatabaseSynchronizer dbmsSynchronizer;
     private CoarseChangeFilter dbmsListener;
     private DatabaseLocation location;
+    private GroupMembershipIndex groupMembershipIndex;
+    // By the settings of the automatic groups, see AutomaticGroup#getSubgroupSettings
+    private final Map<Object, AutomaticGroupIndex> automaticGroupIndexes = new HashMap<>();
+    private final GroupsListener groupsListener = new GroupsListener();
 
     public BibDatabaseContext() {
         this(new BibDatabase());
@@ -120,8 +134,16 @@ public class BibDatabaseContext {
         return metaData;
     }
 
-    public void setMetaData(MetaData metaData) {
-        this.metaData = Objects.requireNonNull(metaData);
+    public synchronized void setMetaData(MetaData metaData) {
+        Objects.requireNonNull(metaData);
+        if (automaticGroupIndexes.isEmpty()) {
+            this.metaData = metaData;
+            return;
+        }
+        this.metaData.unregisterListener(groupsListener);
+        this.metaData = metaData;
+        metaData.registerListener(groupsListener);
+        closeUnusedAutomaticGroupIndexes();
     }
 
     public boolean isBiblatexMode() {
@@ -254,6 +276,48 @@ public class BibDatabaseContext {
         return database.getEntries();
     }
 
+    /**
+     * Returns the index of the group memberships of the entries of this library. The index is created on first use and
+     * kept up to date with the changes of the entries.
+     */
+    public synchronized GroupMembershipIndex getGroupMembershipIndex() {
+        if (groupMembershipIndex == null) {
+            groupMembershipIndex = new GroupMembershipIndex(database);
+        }
+        return groupMembershipIndex;
+    }
+
+    /**
+     * Returns the index of the subgroups of the given automatic group for the entries of this library. Automatic groups
+     * with the same settings share an index, which is created on first use and kept up to date with the changes of the
+     * entries. When the groups of the library change, the indexes no automatic group uses anymore are closed.
+     */
+    public synchronized AutomaticGroupIndex getAutomaticGroupIndex(AutomaticGroup group) {
+        if (automaticGroupIndexes.isEmpty()) {
+            metaData.registerListener(groupsListener);
+        }
+        return automaticGroupIndexes.computeIfAbsent(group.getSubgroupSettings(), _ -> new AutomaticGroupIndex(group, database));
+    }
+
+    private synchronized void closeUnusedAutomaticGroupIndexes() {
+        Set<Object> usedSettings = metaData.getGroups().stream()
+                                           .flatMap(GroupTreeNode::iterateOverTree)
+                                           .map(GroupTreeNode::getGroup)
+                                           .filter(AutomaticGroup.class::isInstance)
+                                           .map(group -> ((AutomaticGroup) group).getSubgroupSettings())
+                                           .collect(Collectors.toSet());
+        automaticGroupIndexes.entrySet().removeIf(index -> {
+            if (usedSettings.contains(index.getKey())) {
+                return false;
+            }
+            index.getValue().close();
+            return true;
+        });
+        if (automaticGroupIndexes.isEmpty()) {
+            metaData.unregisterListener(groupsListener);
+        }
+    }
+
     /**
      * @return The path to store the lucene index files. One directory for each library.
      */
@@ -317,4 +381,11 @@ public class BibDatabaseContext {
     public String getUid() {
         return uid;
     }
+
+    private class GroupsListener {
+        @Subscribe
+        public void listen(GroupUpdatedEvent event) {
+            closeUnusedAutomaticGroupIndexes();
+        }
+    }
 }
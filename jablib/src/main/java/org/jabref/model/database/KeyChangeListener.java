@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
@@ -33,6 +34,11 @@ public class KeyChangeListener {
         }
     }
 
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        event.getFieldChangedEvents().forEach(this::listen);
+    }
+
     @Subscribe
     public void listen(EntriesRemovedEvent event) {
         List<BibEntry> entries = event.getBibEntries();
@@ -0,0 +1,52 @@
+package org.jabref.model.database.event;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.event.FieldChangedEvent;
+
+/**
+ * <code>EntriesChangedEvent</code> is fired once after a batch of changes to the fields of entries has been applied
+ * (see {@link org.jabref.model.database.BibDatabase#runBatchedUpdate(Runnable)}). It replaces the
+ * {@link FieldChangedEvent}s of the batch, which are not posted individually on the database.
+ */
+public class EntriesChangedEvent extends EntriesEvent {
+
+    private final List<FieldChangedEvent> fieldChangedEvents;
+
+    /**
+     * @param fieldChangedEvents the changes of the batch in the order they were applied
+     */
+    public EntriesChangedEvent(List<FieldChangedEvent> fieldChangedEvents) {
+        this(fieldChangedEvents, EntriesEventSource.LOCAL);
+    }
+
+    /**
+     * @param fieldChangedEvents the changes of the batch in the order they were applied
+     * @param location           Location affected by this event
+     */
+    public EntriesChangedEvent(List<FieldChangedEvent> fieldChangedEvents, EntriesEventSource location) {
+        super(getChangedEntries(fieldChangedEvents), location);
+        this.fieldChangedEvents = List.copyOf(fieldChangedEvents);
+    }
+
+    public List<FieldChangedEvent> getFieldChangedEvents() {
+        return fieldChangedEvents;
+    }
+
+    /**
+     * Each changed entry once, compared by identity as entries with equal content are different entries of the database
+     */
+    private static List<BibEntry> getChangedEntries(List<FieldChangedEvent> fieldChangedEvents) {
+        Set<BibEntry> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        return fieldChangedEvents.stream()
+                                 .map(FieldChangedEvent::getBibEntry)
+                                 .filter(seen::add)
+                                 .toList();
+    }
+}
@@ -8,6 +8,9 @@ import org.jabref.logic.formatter.bibtexfields.RemoveWordEnclosingAndOuterEnclos
 import org.jabref.model.strings.LatexToUnicodeAdapter;
 import org.jabref.model.strings.StringUtil;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 /**
  * This is an immutable class that keeps information regarding single author. It is just a container for the information, with very simple methods to access it.
  * <p>
@@ -16,6 +19,12 @@ import org.jabref.model.strings.StringUtil;
 @AllowedToUseLogic("because it needs to use formatter")
 public class Author {
 
+    /**
+     * Name parts repeat a lot in large libraries (same family names, given names, abbreviations). They are shared using a
+     * weak interner, which, in contrast to {@link String#intern()}, does not keep them alive forever.
+     */
+    private static final Interner<String> NAME_PART_INTERNER = Interners.newWeakInterner();
+
     /**
      * Object indicating the <code>others</code> author. This is a BibTeX feature mostly rendered in "et al." in LaTeX.
      * Example: <code>authors = {Oliver Kopp and others}</code>. This is then appearing as "Oliver Kopp et al.".
@@ -47,38 +56,45 @@ public class Author {
         boolean keepBracesAtLastPart = StringUtil.isBlank(givenName) && StringUtil.isBlank(givenNameAbbreviated) && StringUtil.isBlank(namePrefix) && !StringUtil.isBlank(familyName) && StringUtil.isBlank(nameSuffix);
 
         if (!StringUtil.isBlank(givenName)) {
-            this.givenName = addDotIfAbbreviation(FORMATTER.format(givenName));
+            this.givenName = intern(addDotIfAbbreviation(FORMATTER.format(givenName)));
         } else {
             this.givenName = null;
         }
         if (!StringUtil.isBlank(givenNameAbbreviated)) {
-            this.givenNameAbbreviated = FORMATTER.format(givenNameAbbreviated);
+            this.givenNameAbbreviated = intern(FORMATTER.format(givenNameAbbreviated));
         } else {
             this.givenNameAbbreviated = null;
         }
         if (!StringUtil.isBlank(namePrefix)) {
-            this.namePrefix = FORMATTER.format(namePrefix);
+            this.namePrefix = intern(FORMATTER.format(namePrefix));
         } else {
             this.namePrefix = null;
         }
         if (keepBracesAtLastPart) {
             // We do not remove braces here to keep institutions protected
             // https://github.com/JabRef/jabref/issues/10031
-            this.familyName = familyName;
+            this.familyName = intern(familyName);
         } else {
             if (!StringUtil.isBlank(familyName)) {
-                this.familyName = FORMATTER.format(familyName);
+                this.familyName = intern(FORMATTER.format(familyName));
             } else {
                 this.familyName = null;
             }
         }
         if (!StringUtil.isBlank(nameSuffix)) {
-            this.nameSuffix = FORMATTER.format(nameSuffix);
+            this.nameSuffix = intern(FORMATTER.format(nameSuffix));
         } else {
             this.nameSuffix = null;
         }
     }
 
+    private static String intern(String namePart) {
+        if (namePart == null) {
+            return null;
+        }
+        return NAME_PART_INTERNER.intern(namePart);
+    }
+
     public static String addDotIfAbbreviation(String name) {
         if ((name == null) || name.isEmpty()) {
             return name;
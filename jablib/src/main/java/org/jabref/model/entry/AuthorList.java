@@ -1,11 +1,8 @@
 package org.jabref.model.entry;
 
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -13,6 +10,9 @@ import java.util.stream.Collectors;
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.logic.importer.AuthorListParser;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import org.jspecify.annotations.NonNull;
 
 /**
@@ -120,7 +120,16 @@ import org.jspecify.annotations.NonNull;
 @AllowedToUseLogic("because it needs access to AuthorList parser")
 public class AuthorList implements Iterable<Author> {
 
-    private static final Map<String, AuthorList> AUTHOR_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final int AUTHOR_CACHE_SIZE = 20_000;
+
+    /**
+     * Concurrent, size-bounded cache of parsed author strings. Reads do not block each other, which matters as the
+     * cache is hit from parallel streams (e.g., suggestion providers, indexing).
+     */
+    private static final Cache<String, AuthorList> AUTHOR_CACHE = CacheBuilder.newBuilder()
+                                                                             .maximumSize(AUTHOR_CACHE_SIZE)
+                                                                             .recordStats()
+                                                                             .build();
     private final List<Author> authors;
     private AuthorList latexFreeAuthors;
 
@@ -173,10 +182,22 @@ public class AuthorList implements Iterable<Author> {
      * @return An AuthorList object representing the given authors.
      */
     public static AuthorList parse(@NonNull final String authors) {
-        return AUTHOR_CACHE.computeIfAbsent(authors, string -> {
-            AuthorListParser parser = new AuthorListParser();
-            return parser.parse(string);
-        });
+        AuthorList cachedAuthorList = AUTHOR_CACHE.getIfPresent(authors);
+        if (cachedAuthorList != null) {
+            return cachedAuthorList;
+        }
+        // Concurrent misses for the same string may parse twice; this is cheaper than blocking all readers
+        AuthorListParser parser = new AuthorListParser();
+        AuthorList authorList = parser.parse(authors);
+        AUTHOR_CACHE.put(authors, authorList);
+        return authorList;
+    }
+
+    /**
+     * Returns hit and miss statistics of the cache used by {@link #parse(String)}.
+     */
+    public static CacheStats getCacheStats() {
+        return AUTHOR_CACHE.stats();
     }
 
     /**
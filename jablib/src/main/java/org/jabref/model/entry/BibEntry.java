@@ -48,6 +48,8 @@ import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.MultiKeyMap;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.eventbus.EventBus;
 import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.optional.OptionalBinding;
@@ -89,24 +91,41 @@ public class BibEntry implements Cloneable {
 
     public static final EntryType DEFAULT_TYPE = StandardEntryType.Misc;
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
+
+    /**
+     * Field values up to this length are shared between entries (e.g., years, months, journal names). Longer values
+     * (e.g., abstracts) rarely repeat and are not worth an entry in the interner.
+     */
+    private static final int MAX_INTERNED_VALUE_LENGTH = 128;
+    private static final Interner<String> FIELD_VALUE_INTERNER = Interners.newWeakInterner();
+
     private final SharedBibEntryData sharedBibEntryData;
 
+    // The caches and the event bus are created on first use, as most entries of a large library never need them.
+    // They are published through volatile fields, as entries are read by several threads (e.g., search and export).
+
     /**
      * Map to store the words in every field
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private volatile Map<Field, Set<String>> fieldsAsWords;
 
     /**
      * Cache that stores latex free versions of fields.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile Map<Field, String> latexFreeFields;
 
     /**
      * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private volatile MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords;
+
+    /**
+     * The databases containing this entry, which relay its changes to their listeners. The databases are not
+     * registered at an event bus of the entry, so that an entry only needs an event bus if other listeners register.
+     */
+    private volatile List<BibDatabase> databases = List.of();
 
-    private final EventBus eventBus = new EventBus();
+    private volatile EventBus eventBus;
 
     private String id;
 
@@ -371,7 +390,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -442,7 +461,7 @@ public class BibEntry implements Cloneable {
         this.type.setValue(newType);
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -473,14 +492,14 @@ public class BibEntry implements Cloneable {
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
             return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
+        } else if ((latexFreeFields != null) && latexFreeFields.containsKey(field)) {
             return Optional.ofNullable(latexFreeFields.get(field));
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
                 // TODO: Do we need FieldFactory.isLaTeXField(field) here to filter?
-                String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeValue);
+                String latexFreeValue = intern(LatexToUnicodeAdapter.format(fieldValue.get()));
+                getLatexFreeFieldsCache().put(field, latexFreeValue);
                 return Optional.of(latexFreeValue);
             } else {
                 return Optional.empty();
@@ -624,13 +643,13 @@ public class BibEntry implements Cloneable {
         changed = true;
 
         invalidateFieldCache(field);
-        fields.put(field, value.intern());
+        fields.put(field, intern(value));
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -673,7 +692,7 @@ public class BibEntry implements Cloneable {
         fields.remove(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -944,13 +963,28 @@ public class BibEntry implements Cloneable {
         return Objects.hash(type.getValue(), fields, commentsBeforeEntry);
     }
 
+    /**
+     * Lets the given database relay the changes of this entry. Called by the database when the entry is inserted.
+     */
+    public synchronized void registerDatabase(BibDatabase database) {
+        if (!databases.contains(database)) {
+            List<BibDatabase> newDatabases = new ArrayList<>(databases);
+            newDatabases.add(database);
+            databases = List.copyOf(newDatabases);
+        }
+    }
+
     public void registerListener(Object object) {
-        this.eventBus.register(object);
+        getEventBus().register(object);
     }
 
     public void unregisterListener(Object object) {
+        EventBus currentEventBus = eventBus;
+        if (currentEventBus == null) {
+            return;
+        }
         try {
-            this.eventBus.unregister(object);
+            currentEventBus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
@@ -1007,6 +1041,7 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
+        Map<Field, Set<String>> fieldsAsWords = getFieldsAsWordsCache();
         Set<String> storedList = fieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
@@ -1023,6 +1058,7 @@ public class BibEntry implements Cloneable {
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
+        MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = getFieldsAsKeywordsCache();
         if (field instanceof StandardField standardField) {
             Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
             if (storedList.isPresent()) {
@@ -1045,14 +1081,94 @@ public class BibEntry implements Cloneable {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
-
-        if (field instanceof StandardField standardField) {
+        if (latexFreeFields != null) {
+            latexFreeFields.remove(field);
+        }
+        if (fieldsAsWords != null) {
+            fieldsAsWords.remove(field);
+        }
+        if ((fieldsAsKeywords != null) && (field instanceof StandardField standardField)) {
             fieldsAsKeywords.remove(standardField);
         }
     }
 
+    private Map<Field, String> getLatexFreeFieldsCache() {
+        Map<Field, String> cache = latexFreeFields;
+        if (cache == null) {
+            synchronized (this) {
+                cache = latexFreeFields;
+                if (cache == null) {
+                    cache = new ConcurrentHashMap<>();
+                    latexFreeFields = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    private Map<Field, Set<String>> getFieldsAsWordsCache() {
+        Map<Field, Set<String>> cache = fieldsAsWords;
+        if (cache == null) {
+            synchronized (this) {
+                cache = fieldsAsWords;
+                if (cache == null) {
+                    cache = new HashMap<>();
+                    fieldsAsWords = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    private MultiKeyMap<StandardField, Character, KeywordList> getFieldsAsKeywordsCache() {
+        MultiKeyMap<StandardField, Character, KeywordList> cache = fieldsAsKeywords;
+        if (cache == null) {
+            synchronized (this) {
+                cache = fieldsAsKeywords;
+                if (cache == null) {
+                    cache = new MultiKeyMap<>(StandardField.class);
+                    fieldsAsKeywords = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    private EventBus getEventBus() {
+        EventBus currentEventBus = eventBus;
+        if (currentEventBus == null) {
+            synchronized (this) {
+                currentEventBus = eventBus;
+                if (currentEventBus == null) {
+                    currentEventBus = new EventBus();
+                    eventBus = currentEventBus;
+                }
+            }
+        }
+        return currentEventBus;
+    }
+
+    /**
+     * Relays the event to the databases containing this entry and posts it to the registered listeners. Without
+     * listeners, no event bus exists.
+     */
+    private void postEvent(FieldChangedEvent event) {
+        for (BibDatabase database : databases) {
+            database.relayEntryChangeEvent(event);
+        }
+        EventBus currentEventBus = eventBus;
+        if (currentEventBus != null) {
+            currentEventBus.post(event);
+        }
+    }
+
+    private static String intern(String value) {
+        if (value.length() > MAX_INTERNED_VALUE_LENGTH) {
+            return value;
+        }
+        return FIELD_VALUE_INTERNER.intern(value);
+    }
+
     // region files
     public Optional<FieldChange> setFiles(List<LinkedFile> files) {
         Optional<String> oldValue = this.getField(StandardField.FILE);
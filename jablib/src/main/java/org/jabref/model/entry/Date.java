@@ -13,7 +13,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +27,65 @@ public class Date {
     private static final DateTimeFormatter SIMPLE_DATE_FORMATS;
     private static final Logger LOGGER = LoggerFactory.getLogger(Date.class);
 
+    // Dates are parsed repeatedly (e.g., when sorting or checking integrity), mostly with a small set of distinct strings
+    private static final int PARSE_CACHE_SIZE = 4096;
+    private static final Cache<String, Optional<Date>> PARSE_CACHE = CacheBuilder.newBuilder().maximumSize(PARSE_CACHE_SIZE).build();
+
+    private static final Pattern RANGE_PATTERN = Pattern.compile(
+            "\\d{4}/\\d{4}|" + // uuuu/uuuu
+            "\\d{4}-\\d{2}/\\d{4}-\\d{2}|" + // uuuu-mm/uuuu-mm
+            "\\d{4}-\\d{2}-\\d{2}/\\d{4}-\\d{2}-\\d{2}|" + // uuuu-mm-dd/uuuu-mm-dd
+            "(?i)(January|February|March|April|May|June|July|August|September|October|November|December)" +
+            "( |\\-)(\\d{1,4})/(January|February|March|April|May|June|July|August|September|October|November" +
+            "|December)( |\\-)(\\d{1,4})(?i-)|" + // January 2015/January 2015
+            "(?i)(\\d{1,2})( )(January|February|March|April|May|June|July|August|September|October|November|December)" +
+            "( |\\-)(\\d{1,4})/(\\d{1,2})( )" +
+            "(January|February|March|April|May|June|July|August|September|October|November|December)" +
+            "( |\\-)(\\d{1,4})(?i-)" // 20 January 2015/20 January 2015
+    );
+
+    private static final Pattern SPACED_RANGE_PATTERN = Pattern.compile(
+            "\\d{4} / \\d{4}|" + // uuuu / uuuu
+            "\\d{4}-\\d{2} / \\d{4}-\\d{2}|" + // uuuu-mm / uuuu-mm
+            "\\d{4}-\\d{2}-\\d{2} / \\d{4}-\\d{2}-\\d{2}|" + // uuuu-mm-dd / uuuu-mm-dd
+            "(?i)(January|February|March|April|May|June|July|August|September|October|November|December)" +
+            "( |\\-)(\\d{1,4}) / (January|February|March|April|May|June|July|August|September|October|November" +
+            "|December)( |\\-)(\\d{1,4})(?i-)|" + // January 2015/January 2015
+            "(?i)(\\d{1,2})( )(January|February|March|April|May|June|July|August|September|October|November|December)" +
+            "( |\\-)(\\d{1,4}) / (\\d{1,2})( )" +
+            "(January|February|March|April|May|June|July|August|September|October|November|December)" +
+            "( |\\-)(\\d{1,4})(?i-)" // 20 January 2015/20 January 2015
+    );
+
+    private static final Pattern ERA_RANGE_PATTERN = Pattern.compile(
+            "\\d{1,4} BC/\\d{1,4} AD|" + // 30 BC/5 AD and 0030 BC/0005 AD
+            "\\d{1,4} BC/\\d{1,4} BC|" + // 30 BC/10 BC and 0030 BC/0010 BC
+            "\\d{1,4} AD/\\d{1,4} AD|" + // 5 AD/10 AD and 0005 AD/0010 AD
+            "\\d{1,4}-\\d{1,2} BC/\\d{1,4}-\\d{1,2} AD|" + // 5 AD/10 AD and 0005 AD/0010 AD
+            "\\d{1,4}-\\d{1,2} BC/\\d{1,4}-\\d{1,2} BC|" + // 5 AD/10 AD and 0005 AD/0010 AD
+            "\\d{1,4}-\\d{1,2} AD/\\d{1,4}-\\d{1,2} AD" // 5 AD/10 AD and 0005 AD/0010 AD
+    );
+
+    private static final Pattern SPACED_ERA_RANGE_PATTERN = Pattern.compile(
+            "\\d{1,4} BC / \\d{1,4} AD|" + // 30 BC / 5 AD and 0030 BC / 0005 AD
+            "\\d{1,4} BC / \\d{1,4} BC|" + // 30 BC / 10 BC and 0030 BC / 0010 BC
+            "\\d{1,4} AD / \\d{1,4} AD|" + // 5 AD / 10 AD and 0005 AD / 0010 AD
+            "\\d{1,4}-\\d{1,2} BC / \\d{1,4}-\\d{1,2} AD|" + // 5 AD/10 AD and 0005 AD/0010 AD
+            "\\d{1,4}-\\d{1,2} BC / \\d{1,4}-\\d{1,2} BC|" + // 5 AD/10 AD and 0005 AD/0010 AD
+            "\\d{1,4}-\\d{1,2} AD / \\d{1,4}-\\d{1,2} AD" // 5 AD/10 AD and 0005 AD/0010 AD
+    );
+
+    private static final Pattern YEAR_WITH_SUFFIX_PATTERN = Pattern.compile("\\d{4}-|\\d{4}\\?");
+
+    private static final Pattern ERA_PATTERN = Pattern.compile(
+            "\\d{1,4} BC|" + // covers 1 BC
+            "\\d{1,4} AD|" + // covers 1 BC
+            "\\d{1,4}-\\d{1,2} BC|" +  // covers 0030-01 BC
+            "\\d{1,4}-\\d{1,2} AD" // covers 0005-01 AD
+    );
+
+    private static final Pattern SEASON_PATTERN = Pattern.compile("^(\\d{1,4})-(\\d{1,2})$"); // covers 2025-21
+
     static {
         List<String> formatStrings = Arrays.asList(
                 "uuuu-MM-dd'T'HH:mm[:ss][xxx][xx][X]",  // covers 2018-10-03T07:24:14+03:00
@@ -130,25 +192,87 @@ public class Date {
     public static Optional<Date> parse(String dateString) {
         Objects.requireNonNull(dateString);
 
-        dateString = dateString.strip();
+        String strippedDateString = dateString.strip();
+
+        if (strippedDateString.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Optional<Date> cachedDate = PARSE_CACHE.getIfPresent(strippedDateString);
+        if (cachedDate != null) {
+            return cachedDate;
+        }
+
+        Optional<Date> parsedDate = parseIsoDate(strippedDateString);
+        if (parsedDate.isEmpty()) {
+            parsedDate = parseStrippedDate(strippedDateString);
+        }
+        PARSE_CACHE.put(strippedDateString, parsedDate);
+        return parsedDate;
+    }
 
-        if (dateString.isEmpty()) {
+    /**
+     * Fast path for the most common forms {@code uuuu}, {@code uuuu-M} and {@code uuuu-M-d} which avoids the regular
+     * expressions and the {@link DateTimeFormatter} chain. Returns an empty optional if the string has another form
+     * or an out-of-range month or day, so that the general parser decides how to handle it.
+     */
+    static Optional<Date> parseIsoDate(String dateString) {
+        int length = dateString.length();
+        if ((length < 4) || (length > 10)) {
+            return Optional.empty();
+        }
+
+        int year = parseDigits(dateString, 0, 4);
+        if (year < 0) {
+            return Optional.empty();
+        }
+        if (length == 4) {
+            return Optional.of(new Date(Year.of(year)));
+        }
+        if (dateString.charAt(4) != '-') {
             return Optional.empty();
         }
 
+        int secondDash = dateString.indexOf('-', 5);
+        int monthEnd = secondDash < 0 ? length : secondDash;
+        int month = ((monthEnd - 5) > 2) ? -1 : parseDigits(dateString, 5, monthEnd);
+        if ((month < 1) || (month > 12)) {
+            return Optional.empty();
+        }
+        if (secondDash < 0) {
+            return Optional.of(new Date(YearMonth.of(year, month)));
+        }
+
+        int day = ((length - secondDash - 1) > 2) ? -1 : parseDigits(dateString, secondDash + 1, length);
+        if ((day < 1) || (day > YearMonth.of(year, month).lengthOfMonth())) {
+            return Optional.empty();
+        }
+        return Optional.of(new Date(LocalDate.of(year, month, day)));
+    }
+
+    /**
+     * Parses the ASCII digits between start (inclusive) and end (exclusive).
+     *
+     * @return the parsed number or -1 if the range is empty or contains a non-digit
+     */
+    private static int parseDigits(String string, int start, int end) {
+        if (start >= end) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            char c = string.charAt(i);
+            if ((c < '0') || (c > '9')) {
+                return -1;
+            }
+            result = (result * 10) + (c - '0');
+        }
+        return result;
+    }
+
+    private static Optional<Date> parseStrippedDate(String dateString) {
         // if dateString has range format, treat as date range
-        if (dateString.matches(
-                "\\d{4}/\\d{4}|" + // uuuu/uuuu
-                "\\d{4}-\\d{2}/\\d{4}-\\d{2}|" + // uuuu-mm/uuuu-mm
-                "\\d{4}-\\d{2}-\\d{2}/\\d{4}-\\d{2}-\\d{2}|" + // uuuu-mm-dd/uuuu-mm-dd
-                "(?i)(January|February|March|April|May|June|July|August|September|October|November|December)" +
-                "( |\\-)(\\d{1,4})/(January|February|March|April|May|June|July|August|September|October|November" +
-                "|December)( |\\-)(\\d{1,4})(?i-)|" + // January 2015/January 2015
-                "(?i)(\\d{1,2})( )(January|February|March|April|May|June|July|August|September|October|November|December)" +
-                "( |\\-)(\\d{1,4})/(\\d{1,2})( )" +
-                "(January|February|March|April|May|June|July|August|September|October|November|December)" +
-                "( |\\-)(\\d{1,4})(?i-)" // 20 January 2015/20 January 2015
-        )) {
+        if (RANGE_PATTERN.matcher(dateString).matches()) {
             try {
                 String[] strDates = dateString.split("/");
                 TemporalAccessor parsedDate = SIMPLE_DATE_FORMATS.parse(strDates[0].strip());
@@ -158,18 +282,7 @@ public class Date {
                 LOGGER.warn("Invalid Date format for range", e);
                 return Optional.empty();
             }
-        } else if (dateString.matches(
-                "\\d{4} / \\d{4}|" + // uuuu / uuuu
-                "\\d{4}-\\d{2} / \\d{4}-\\d{2}|" + // uuuu-mm / uuuu-mm
-                "\\d{4}-\\d{2}-\\d{2} / \\d{4}-\\d{2}-\\d{2}|" + // uuuu-mm-dd / uuuu-mm-dd
-                "(?i)(January|February|March|April|May|June|July|August|September|October|November|December)" +
-                "( |\\-)(\\d{1,4}) / (January|February|March|April|May|June|July|August|September|October|November" +
-                "|December)( |\\-)(\\d{1,4})(?i-)|" + // January 2015/January 2015
-                "(?i)(\\d{1,2})( )(January|February|March|April|May|June|July|August|September|October|November|December)" +
-                "( |\\-)(\\d{1,4}) / (\\d{1,2})( )" +
-                "(January|February|March|April|May|June|July|August|September|October|November|December)" +
-                "( |\\-)(\\d{1,4})(?i-)" // 20 January 2015/20 January 2015
-        )) {
+        } else if (SPACED_RANGE_PATTERN.matcher(dateString).matches()) {
             try {
                 String[] strDates = dateString.split(" / ");
                 TemporalAccessor parsedDate = SIMPLE_DATE_FORMATS.parse(strDates[0].strip());
@@ -179,14 +292,7 @@ public class Date {
                 LOGGER.warn("Invalid Date format range", e);
                 return Optional.empty();
             }
-        } else if (dateString.matches(
-                "\\d{1,4} BC/\\d{1,4} AD|" + // 30 BC/5 AD and 0030 BC/0005 AD
-                "\\d{1,4} BC/\\d{1,4} BC|" + // 30 BC/10 BC and 0030 BC/0010 BC
-                "\\d{1,4} AD/\\d{1,4} AD|" + // 5 AD/10 AD and 0005 AD/0010 AD
-                "\\d{1,4}-\\d{1,2} BC/\\d{1,4}-\\d{1,2} AD|" + // 5 AD/10 AD and 0005 AD/0010 AD
-                "\\d{1,4}-\\d{1,2} BC/\\d{1,4}-\\d{1,2} BC|" + // 5 AD/10 AD and 0005 AD/0010 AD
-                "\\d{1,4}-\\d{1,2} AD/\\d{1,4}-\\d{1,2} AD" // 5 AD/10 AD and 0005 AD/0010 AD
-        )) {
+        } else if (ERA_RANGE_PATTERN.matcher(dateString).matches()) {
             try {
                 String[] strDates = dateString.split("/");
                 TemporalAccessor parsedDate = parseDateWithEraIndicator(strDates[0]);
@@ -196,14 +302,7 @@ public class Date {
                 LOGGER.warn("Invalid Date format range", e);
                 return Optional.empty();
             }
-        } else if (dateString.matches(
-                "\\d{1,4} BC / \\d{1,4} AD|" + // 30 BC / 5 AD and 0030 BC / 0005 AD
-                "\\d{1,4} BC / \\d{1,4} BC|" + // 30 BC / 10 BC and 0030 BC / 0010 BC
-                "\\d{1,4} AD / \\d{1,4} AD|" + // 5 AD / 10 AD and 0005 AD / 0010 AD
-                "\\d{1,4}-\\d{1,2} BC / \\d{1,4}-\\d{1,2} AD|" + // 5 AD/10 AD and 0005 AD/0010 AD
-                "\\d{1,4}-\\d{1,2} BC / \\d{1,4}-\\d{1,2} BC|" + // 5 AD/10 AD and 0005 AD/0010 AD
-                "\\d{1,4}-\\d{1,2} AD / \\d{1,4}-\\d{1,2} AD" // 5 AD/10 AD and 0005 AD/0010 AD
-        )) {
+        } else if (SPACED_ERA_RANGE_PATTERN.matcher(dateString).matches()) {
             try {
                 String[] strDates = dateString.split(" / ");
                 TemporalAccessor parsedDate = parseDateWithEraIndicator(strDates[0]);
@@ -216,7 +315,7 @@ public class Date {
         }
 
         // if dateString is single year
-        if (dateString.matches("\\d{4}-|\\d{4}\\?")) {
+        if (YEAR_WITH_SUFFIX_PATTERN.matcher(dateString).matches()) {
             try {
                 String year = dateString.substring(0, dateString.length() - 1);
                 TemporalAccessor parsedDate = SIMPLE_DATE_FORMATS.parse(year);
@@ -228,12 +327,7 @@ public class Date {
         }
 
         // handle the new date formats with era indicators
-        if (dateString.matches(
-                "\\d{1,4} BC|" + // covers 1 BC
-                "\\d{1,4} AD|" + // covers 1 BC
-                "\\d{1,4}-\\d{1,2} BC|" +  // covers 0030-01 BC
-                "\\d{1,4}-\\d{1,2} AD" // covers 0005-01 AD
-        )) {
+        if (ERA_PATTERN.matcher(dateString).matches()) {
             try {
                 // Parse the date with era indicator
                 TemporalAccessor date = parseDateWithEraIndicator(dateString);
@@ -244,9 +338,7 @@ public class Date {
             }
         }
         // handle date whose month is represented as a season.
-        if (dateString.matches(
-                "^(\\d{1,4})-(\\d{1,2})$" // covers 2025-21
-        )) {
+        if (SEASON_PATTERN.matcher(dateString).matches()) {
             try {
                 // parse the date with season
                 Optional<Date> optional = parseDateWithSeason(dateString);
@@ -1,8 +1,11 @@
 package org.jabref.model.groups;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 
 /**
  * This group contains all entries. Always. At any time!
@@ -34,6 +37,11 @@ public class AllEntriesGroup extends AbstractGroup {
         return true;
     }
 
+    @Override
+    public Optional<Set<Field>> getDependentFields() {
+        return Optional.of(Set.of());
+    }
+
     @Override
     public boolean isDynamic() {
         // this is actually a special case; I define it as non-dynamic
@@ -24,8 +24,17 @@ public abstract class AutomaticGroup extends AbstractGroup {
 
     public abstract Set<GroupTreeNode> createSubgroups(BibEntry entry);
 
+    /**
+     * Returns the settings the subgroups depend on. Automatic groups with equal settings create the same subgroups for
+     * an entry. In contrast to {@link #equals(Object)}, all settings affecting the subgroups are compared.
+     */
+    public abstract Object getSubgroupSettings();
+
+    /**
+     * Creates a snapshot of the subgroups of the given entries. Use {@link AutomaticGroupIndex} to get subgroups that are
+     * kept up to date with changes of the entries.
+     */
     public ObservableList<GroupTreeNode> createSubgroups(ObservableList<BibEntry> entries) {
-        // TODO: Propagate changes to entry list (however: there is no flatMap and collect as TransformationList)
         return entries.stream()
                       .flatMap(entry -> createSubgroups(entry).stream())
                       .collect(TreeCollector.mergeIntoTree(GroupTreeNode::isSameGroupAs));
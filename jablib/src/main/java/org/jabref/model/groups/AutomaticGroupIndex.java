@@ -0,0 +1,196 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Maintains the subgroups of an {@link AutomaticGroup} for the entries of a database.
+ * <p>
+ * In contrast to {@link AutomaticGroup#createSubgroups(ObservableList)}, which builds a new tree on each call, the tree
+ * is built once and then updated incrementally: for each subgroup (i.e., each keyword or person, and for hierarchical
+ * keywords each level), the number of entries producing it is tracked. When an entry is added, removed or a field the
+ * automatic group depends on changes, only the subgroups of this entry are updated. A subgroup is added to the tree when
+ * the first entry produces it and removed when the last entry producing it is gone.
+ */
+public class AutomaticGroupIndex {
+
+    private final AutomaticGroup group;
+    private final BibDatabase database;
+
+    private final ObservableList<GroupTreeNode> subgroups = FXCollections.observableArrayList();
+    private final SubgroupNode root = new SubgroupNode(null);
+    private final Map<BibEntry, Set<List<AbstractGroup>>> pathsOfEntry = new IdentityHashMap<>();
+
+    public AutomaticGroupIndex(AutomaticGroup group, BibDatabase database) {
+        this.group = group;
+        this.database = database;
+        synchronized (this) {
+            database.getEntries().forEach(this::addEntry);
+        }
+        database.registerListener(this);
+    }
+
+    /**
+     * Stops listening to changes of the database.
+     */
+    public void close() {
+        database.unregisterListener(this);
+    }
+
+    public AutomaticGroup getGroup() {
+        return group;
+    }
+
+    /**
+     * Returns the top-level subgroups. The list and the children of its nodes are kept up to date with the changes of
+     * the entries. They are modified on the thread changing the database.
+     */
+    public ObservableList<GroupTreeNode> getSubgroups() {
+        return FXCollections.unmodifiableObservableList(subgroups);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        event.getBibEntries().forEach(this::addEntry);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(this::removeEntry);
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        if (!group.dependsOn(event.getField()) || !pathsOfEntry.containsKey(entry)) {
+            return;
+        }
+        Set<List<AbstractGroup>> oldPaths = pathsOfEntry.get(entry);
+        Set<List<AbstractGroup>> newPaths = getPaths(entry);
+        if (oldPaths.equals(newPaths)) {
+            return;
+        }
+        // Add first, so that subgroups produced before and after the change are not removed in between
+        newPaths.stream().filter(path -> !oldPaths.contains(path)).forEach(this::increment);
+        decrementAll(oldPaths.stream().filter(path -> !newPaths.contains(path)).toList());
+        pathsOfEntry.put(entry, newPaths);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesChangedEvent event) {
+        event.getFieldChangedEvents().forEach(this::listen);
+    }
+
+    private void addEntry(BibEntry entry) {
+        if (pathsOfEntry.containsKey(entry)) {
+            return;
+        }
+        Set<List<AbstractGroup>> paths = getPaths(entry);
+        paths.forEach(this::increment);
+        pathsOfEntry.put(entry, paths);
+    }
+
+    private void removeEntry(BibEntry entry) {
+        Set<List<AbstractGroup>> paths = pathsOfEntry.remove(entry);
+        if (paths != null) {
+            decrementAll(paths);
+        }
+    }
+
+    /**
+     * Returns the paths from the top-level subgroup to each subgroup produced by the entry.
+     * Each subgroup is contained once, even if several keywords of the entry share it as a parent.
+     * The paths are ordered as the subgroups are encountered, which keeps the order of the children as in {@link org.jabref.model.util.TreeCollector}.
+     */
+    private Set<List<AbstractGroup>> getPaths(BibEntry entry) {
+        Set<List<AbstractGroup>> paths = new LinkedHashSet<>();
+        for (GroupTreeNode subgroup : group.createSubgroups(entry)) {
+            collectPaths(subgroup, new ArrayList<>(), paths);
+        }
+        return paths;
+    }
+
+    private static void collectPaths(GroupTreeNode node, List<AbstractGroup> parentPath, Set<List<AbstractGroup>> paths) {
+        List<AbstractGroup> path = new ArrayList<>(parentPath);
+        path.add(node.getGroup());
+        paths.add(path);
+        for (GroupTreeNode child : node.getChildren()) {
+            collectPaths(child, path, paths);
+        }
+    }
+
+    private void increment(List<AbstractGroup> path) {
+        SubgroupNode parent = root;
+        for (AbstractGroup subgroup : path) {
+            SubgroupNode node = parent.children.get(subgroup);
+            if (node == null) {
+                node = new SubgroupNode(new GroupTreeNode(subgroup));
+                parent.children.put(subgroup, node);
+                if (parent == root) {
+                    subgroups.add(node.treeNode);
+                } else {
+                    parent.treeNode.addChild(node.treeNode);
+                }
+            }
+            parent = node;
+        }
+        parent.entryCount++;
+    }
+
+    private void decrementAll(Collection<List<AbstractGroup>> paths) {
+        // Descendants first, so that the path to them still exists when they are decremented
+        paths.stream()
+             .sorted(Comparator.<List<AbstractGroup>>comparingInt(List::size).reversed())
+             .forEach(this::decrement);
+    }
+
+    private void decrement(List<AbstractGroup> path) {
+        SubgroupNode parent = root;
+        SubgroupNode node = root;
+        for (AbstractGroup subgroup : path) {
+            parent = node;
+            node = parent.children.get(subgroup);
+            if (node == null) {
+                return;
+            }
+        }
+        node.entryCount--;
+        if (node.entryCount <= 0) {
+            parent.children.remove(path.getLast());
+            if (parent == root) {
+                subgroups.remove(node.treeNode);
+            } else {
+                parent.treeNode.removeChild(node.treeNode);
+            }
+        }
+    }
+
+    private static class SubgroupNode {
+        private final GroupTreeNode treeNode;
+        private final Map<AbstractGroup, SubgroupNode> children = new HashMap<>();
+        private int entryCount;
+
+        SubgroupNode(GroupTreeNode treeNode) {
+            this.treeNode = treeNode;
+        }
+    }
+}
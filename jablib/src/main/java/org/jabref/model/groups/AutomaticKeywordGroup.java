@@ -1,6 +1,7 @@
 package org.jabref.model.groups;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -35,6 +36,14 @@ public class AutomaticKeywordGroup extends AutomaticGroup {
         return field;
     }
 
+    /**
+     * The group itself does not contain any entry, but its subgroups are derived from the field.
+     */
+    @Override
+    public Optional<Set<Field>> getDependentFields() {
+        return Optional.of(Set.of(field));
+    }
+
     @Override
     public AbstractGroup deepCopy() {
         return new AutomaticKeywordGroup(this.name.getValue(), this.context, field, this.keywordDelimiter, keywordHierarchicalDelimiter);
@@ -58,6 +67,11 @@ public class AutomaticKeywordGroup extends AutomaticGroup {
         return Objects.hash(keywordDelimiter, field);
     }
 
+    @Override
+    public Object getSubgroupSettings() {
+        return new SubgroupSettings(field, keywordDelimiter, keywordHierarchicalDelimiter);
+    }
+
     @Override
     public Set<GroupTreeNode> createSubgroups(BibEntry entry) {
         KeywordList keywordList = entry.getFieldAsKeywords(field, keywordDelimiter);
@@ -82,4 +96,7 @@ public class AutomaticKeywordGroup extends AutomaticGroup {
                     .ifPresent(root::addChild);
         return root;
     }
+
+    private record SubgroupSettings(Field field, Character keywordDelimiter, Character keywordHierarchicalDelimiter) {
+    }
 }
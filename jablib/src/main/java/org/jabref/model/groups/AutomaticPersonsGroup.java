@@ -1,6 +1,7 @@
 package org.jabref.model.groups;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -38,6 +39,11 @@ public class AutomaticPersonsGroup extends AutomaticGroup {
         return new AutomaticPersonsGroup(this.name.getValue(), this.context, this.field);
     }
 
+    @Override
+    public Object getSubgroupSettings() {
+        return new SubgroupSettings(field);
+    }
+
     @Override
     public Set<GroupTreeNode> createSubgroups(BibEntry entry) {
         return LastNameGroup.getAsLastNamesLatexFree(field, entry)
@@ -50,4 +56,15 @@ public class AutomaticPersonsGroup extends AutomaticGroup {
     public Field getField() {
         return field;
     }
+
+    /**
+     * The group itself does not contain any entry, but its subgroups are derived from the field.
+     */
+    @Override
+    public Optional<Set<Field>> getDependentFields() {
+        return Optional.of(Set.of(field));
+    }
+
+    private record SubgroupSettings(Field field) {
+    }
 }
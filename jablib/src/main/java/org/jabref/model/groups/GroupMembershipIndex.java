@@ -0,0 +1,240 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.search.matchers.FieldChangeDispatcher;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps track of the entries matched by the groups of a library.
+ * <p>
+ * Each entry of the database gets a dense ordinal. For each {@link GroupTreeNode}, the entries matched by its own group
+ * ({@link AbstractGroup#contains(BibEntry)}) are stored as a {@link BitSet} over these ordinals. The bit sets are
+ * computed on first request and afterwards updated incrementally: when an entry is added, removed or changed, only this
+ * entry is re-evaluated. A changed field is only re-evaluated by the groups depending on it (see
+ * {@link AbstractGroup#getDependentFields()}). The hierarchical membership (see {@link GroupTreeNode#getSearchMatcher()})
+ * is derived from the stored bit sets by union ({@link GroupHierarchyType#INCLUDING}) and intersection
+ * ({@link GroupHierarchyType#REFINING}) instead of evaluating the group matchers on the whole database.
+ * <p>
+ * Memberships of {@link SearchGroup}s and {@link TexGroup}s are not derived from the fields of the entries, but from
+ * the search index and an aux file. They are re-evaluated on each request.
+ */
+public class GroupMembershipIndex {
+
+    private final BibDatabase database;
+
+    private final Map<BibEntry, Integer> ordinals = new IdentityHashMap<>();
+    private final List<BibEntry> entriesByOrdinal = new ArrayList<>();
+    private final BitSet usedOrdinals = new BitSet();
+
+    // Weak keys are compared by identity; nodes which are not referenced anymore (e.g., automatic subgroups) are dropped
+    private final Map<GroupTreeNode, OwnMatches> ownMatches = new MapMaker().weakKeys().makeMap();
+    private final FieldChangeDispatcher<OwnMatches> fieldChangeDispatcher = new FieldChangeDispatcher<>();
+    private boolean fieldChangeDispatcherOutdated;
+
+    public GroupMembershipIndex(BibDatabase database) {
+        this.database = database;
+        synchronized (this) {
+            database.getEntries().forEach(this::assignOrdinal);
+        }
+        database.registerListener(this);
+    }
+
+    /**
+     * Stops listening to changes of the database.
+     */
+    public void close() {
+        database.unregisterListener(this);
+    }
+
+    /**
+     * Returns whether the group of the given node matches the entry, taking the hierarchical information into account.
+     */
+    public synchronized boolean matches(GroupTreeNode node, BibEntry entry) {
+        Integer ordinal = ordinals.get(entry);
+        if (ordinal == null) {
+            return node.matches(entry);
+        }
+        return computeMatches(node).get(ordinal);
+    }
+
+    /**
+     * Returns the number of entries matched by the group of the given node, taking the hierarchical information into account.
+     */
+    public synchronized int getMatchCount(GroupTreeNode node) {
+        return computeMatches(node).cardinality();
+    }
+
+    /**
+     * Returns the entries matched by the group of the given node, taking the hierarchical information into account.
+     * The entries are returned in no particular order.
+     */
+    public synchronized List<BibEntry> getMatchedEntries(GroupTreeNode node) {
+        return toEntries(computeMatches(node));
+    }
+
+    /**
+     * Returns the entries matched by at least one of the given groups.
+     */
+    public synchronized List<BibEntry> getEntriesInAnyGroup(Collection<GroupTreeNode> nodes) {
+        BitSet union = new BitSet();
+        for (GroupTreeNode node : nodes) {
+            union.or(computeMatches(node));
+        }
+        return toEntries(union);
+    }
+
+    /**
+     * Returns the entries matched by all of the given groups.
+     */
+    public synchronized List<BibEntry> getEntriesInAllGroups(Collection<GroupTreeNode> nodes) {
+        if (nodes.isEmpty()) {
+            return List.of();
+        }
+        BitSet intersection = (BitSet) usedOrdinals.clone();
+        for (GroupTreeNode node : nodes) {
+            intersection.and(computeMatches(node));
+        }
+        return toEntries(intersection);
+    }
+
+    /**
+     * Discards the stored matches of the group of the given node. They are recomputed on the next request.
+     * This is necessary if the definition of the group changed without replacing the group object.
+     */
+    public synchronized void invalidate(GroupTreeNode node) {
+        ownMatches.remove(node);
+        fieldChangeDispatcherOutdated = true;
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            int ordinal = assignOrdinal(entry);
+            ownMatches.values().forEach(own -> own.matches().set(ordinal, own.group().contains(entry)));
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            Integer ordinal = ordinals.remove(entry);
+            if (ordinal != null) {
+                usedOrdinals.clear(ordinal);
+                entriesByOrdinal.set(ordinal, null);
+                ownMatches.values().forEach(own -> own.matches().clear(ordinal));
+            }
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        Integer ordinal = ordinals.get(entry);
+        if (ordinal == null) {
+            return;
+        }
+        if (fieldChangeDispatcherOutdated) {
+            fieldChangeDispatcher.clear();
+            ownMatches.values().forEach(own -> fieldChangeDispatcher.register(own, own.group()));
+            fieldChangeDispatcherOutdated = false;
+        }
+        fieldChangeDispatcher.dispatch(event, own -> own.matches().set(ordinal, own.group().contains(entry)));
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesChangedEvent event) {
+        event.getFieldChangedEvents().forEach(this::listen);
+    }
+
+    private int assignOrdinal(BibEntry entry) {
+        Integer existingOrdinal = ordinals.get(entry);
+        if (existingOrdinal != null) {
+            return existingOrdinal;
+        }
+        int ordinal = usedOrdinals.nextClearBit(0);
+        if (ordinal == entriesByOrdinal.size()) {
+            entriesByOrdinal.add(entry);
+        } else {
+            entriesByOrdinal.set(ordinal, entry);
+        }
+        usedOrdinals.set(ordinal);
+        ordinals.put(entry, ordinal);
+        return ordinal;
+    }
+
+    private List<BibEntry> toEntries(BitSet matches) {
+        List<BibEntry> entries = new ArrayList<>(matches.cardinality());
+        for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+            entries.add(entriesByOrdinal.get(ordinal));
+        }
+        return entries;
+    }
+
+    private BitSet computeMatches(GroupTreeNode node) {
+        return computeMatches(node, node.getGroup().getHierarchicalContext());
+    }
+
+    /**
+     * Mirrors the matcher built by {@link GroupTreeNode#getSearchMatcher()} using operations on bit sets.
+     * The returned bit set is a copy and may be modified by the caller.
+     */
+    private BitSet computeMatches(GroupTreeNode node, GroupHierarchyType originalContext) {
+        BitSet matches = (BitSet) getOwnMatches(node).clone();
+        GroupHierarchyType context = node.getGroup().getHierarchicalContext();
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            for (GroupTreeNode child : node.getChildren()) {
+                matches.or(computeMatches(child, originalContext));
+            }
+        } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot() && (originalContext != GroupHierarchyType.INCLUDING)) {
+            // noinspection OptionalGetWithoutIsPresent
+            matches.and(computeMatches(node.getParent().get(), originalContext));
+        }
+        return matches;
+    }
+
+    private BitSet getOwnMatches(GroupTreeNode node) {
+        AbstractGroup group = node.getGroup();
+        if (!isDerivedFromEntries(group)) {
+            return evaluate(group);
+        }
+        OwnMatches own = ownMatches.get(node);
+        // Editing a group replaces the group object of the node
+        if ((own == null) || (own.group() != group)) {
+            own = new OwnMatches(group, evaluate(group));
+            ownMatches.put(node, own);
+            fieldChangeDispatcherOutdated = true;
+        }
+        return own.matches();
+    }
+
+    private BitSet evaluate(AbstractGroup group) {
+        BitSet matches = new BitSet(entriesByOrdinal.size());
+        ordinals.forEach((entry, ordinal) -> {
+            if (group.contains(entry)) {
+                matches.set(ordinal);
+            }
+        });
+        return matches;
+    }
+
+    private static boolean isDerivedFromEntries(AbstractGroup group) {
+        return !(group instanceof SearchGroup) && !(group instanceof TexGroup);
+    }
+
+    private record OwnMatches(AbstractGroup group, BitSet matches) {
+    }
+}
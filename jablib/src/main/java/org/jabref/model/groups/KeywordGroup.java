@@ -1,6 +1,8 @@
 package org.jabref.model.groups;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.model.entry.field.Field;
 
@@ -36,6 +38,11 @@ public abstract class KeywordGroup extends AbstractGroup {
         return true;
     }
 
+    @Override
+    public Optional<Set<Field>> getDependentFields() {
+        return Optional.of(Set.of(searchField));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -1,8 +1,30 @@
 package org.jabref.model.search;
 
+import java.util.Optional;
+import java.util.Set;
+
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 
 @FunctionalInterface
 public interface SearchMatcher {
     boolean isMatch(BibEntry entry);
+
+    /**
+     * Returns the fields read by {@link #isMatch(BibEntry)}. The result of the matcher for an entry can only change if
+     * one of these fields of the entry changes.
+     *
+     * @return the fields the matcher depends on, or an empty Optional if the matcher may depend on any field or on data
+     * outside the entry
+     */
+    default Optional<Set<Field>> getDependentFields() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns whether the result of {@link #isMatch(BibEntry)} may change if the given field of an entry changes.
+     */
+    default boolean dependsOn(Field field) {
+        return getDependentFields().map(fields -> fields.contains(field)).orElse(true);
+    }
 }
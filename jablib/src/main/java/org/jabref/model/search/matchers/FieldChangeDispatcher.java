@@ -0,0 +1,61 @@
+package org.jabref.model.search.matchers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.search.SearchMatcher;
+
+/**
+ * Routes changes of entries to the targets whose matcher depends on the changed field (see
+ * {@link SearchMatcher#getDependentFields()}).
+ * <p>
+ * A target is registered together with its matcher. When a {@link FieldChangedEvent} is dispatched, only the targets
+ * depending on the changed field and the targets with unknown dependencies are visited. Other
+ * {@link EntryChangedEvent}s do not name a field and are dispatched to all targets.
+ *
+ * @param <T> the type of the targets, e.g., cached match results of a group
+ */
+public class FieldChangeDispatcher<T> {
+
+    private final Map<Field, List<T>> targetsByField = new HashMap<>();
+    private final List<T> targetsDependingOnAnyField = new ArrayList<>();
+    private final List<T> allTargets = new ArrayList<>();
+
+    public void register(T target, SearchMatcher matcher) {
+        Optional<Set<Field>> dependentFields = matcher.getDependentFields();
+        if (dependentFields.isPresent()) {
+            for (Field field : dependentFields.get()) {
+                targetsByField.computeIfAbsent(field, _ -> new ArrayList<>()).add(target);
+            }
+        } else {
+            targetsDependingOnAnyField.add(target);
+        }
+        allTargets.add(target);
+    }
+
+    public void clear() {
+        targetsByField.clear();
+        targetsDependingOnAnyField.clear();
+        allTargets.clear();
+    }
+
+    /**
+     * Calls the action for each target that may be affected by the given change.
+     */
+    public void dispatch(EntryChangedEvent event, Consumer<T> action) {
+        if (event instanceof FieldChangedEvent fieldChangedEvent) {
+            targetsByField.getOrDefault(fieldChangedEvent.getField(), List.of()).forEach(action);
+            targetsDependingOnAnyField.forEach(action);
+        } else {
+            allTargets.forEach(action);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package org.jabref.model.search.matchers;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.search.SearchMatcher;
 
 public abstract class MatcherSet implements SearchMatcher {
@@ -33,6 +37,19 @@ public abstract class MatcherSet implements SearchMatcher {
         matchers.add(Objects.requireNonNull(newRule));
     }
 
+    @Override
+    public Optional<Set<Field>> getDependentFields() {
+        Set<Field> fields = new HashSet<>();
+        for (SearchMatcher matcher : matchers) {
+            Optional<Set<Field>> dependentFields = matcher.getDependentFields();
+            if (dependentFields.isEmpty()) {
+                return Optional.empty();
+            }
+            fields.addAll(dependentFields.get());
+        }
+        return Optional.of(fields);
+    }
+
     @Override
     public String toString() {
         return "MatcherSet{" + "matchers=" + matchers + '}';
@@ -1,8 +1,11 @@
 package org.jabref.model.search.matchers;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.search.SearchMatcher;
 
 /**
@@ -24,4 +27,9 @@ public class NotMatcher implements SearchMatcher {
     public boolean isMatch(BibEntry entry) {
         return !otherMatcher.isMatch(entry);
     }
+
+    @Override
+    public Optional<Set<Field>> getDependentFields() {
+        return otherMatcher.getDependentFields();
+    }
 }
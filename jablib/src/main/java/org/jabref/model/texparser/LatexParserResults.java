@@ -13,11 +13,17 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 
+/**
+ * The results of parsing several LaTeX files. The citations of all files are indexed by their key, so that the
+ * citations of a key are looked up without iterating over all files.
+ */
 public class LatexParserResults {
     private final Map<Path, LatexParserResult> parsedTexFiles;
+    private final Multimap<String, Citation> citationsByKey;
 
     public LatexParserResults() {
         this.parsedTexFiles = new HashMap<>();
+        this.citationsByKey = HashMultimap.create();
     }
 
     @VisibleForTesting
@@ -28,34 +34,44 @@ public class LatexParserResults {
         }
     }
 
-    public void add(Path texFile, LatexParserResult parsedFile) {
-        parsedTexFiles.put(texFile, parsedFile);
+    public synchronized void add(Path texFile, LatexParserResult parsedFile) {
+        removeCitations(parsedTexFiles.put(texFile, parsedFile));
+        citationsByKey.putAll(parsedFile.getCitations());
     }
 
-    public LatexParserResult remove(Path texFile) {
-        return parsedTexFiles.remove(texFile);
+    public synchronized LatexParserResult remove(Path texFile) {
+        LatexParserResult removedFile = parsedTexFiles.remove(texFile);
+        removeCitations(removedFile);
+        return removedFile;
     }
 
-    public Set<Path> getBibFiles() {
+    public synchronized void addAll(LatexParserResults results) {
+        results.parsedTexFiles.forEach(this::add);
+    }
+
+    private void removeCitations(LatexParserResult parsedFile) {
+        if (parsedFile != null) {
+            parsedFile.getCitations().forEach(citationsByKey::remove);
+        }
+    }
+
+    public synchronized Set<Path> getBibFiles() {
         Set<Path> bibFiles = new HashSet<>();
         parsedTexFiles.values().forEach(result -> bibFiles.addAll(result.getBibFiles()));
         return bibFiles;
     }
 
-    public Multimap<String, Citation> getCitations() {
-        Multimap<String, Citation> citations = HashMultimap.create();
-        parsedTexFiles.forEach((path, result) -> citations.putAll(result.getCitations()));
-        return citations;
+    public synchronized Multimap<String, Citation> getCitations() {
+        return HashMultimap.create(citationsByKey);
     }
 
-    public Collection<Citation> getCitationsByKey(String key) {
-        Collection<Citation> citations = new ArrayList<>();
-        parsedTexFiles.values().forEach(result -> citations.addAll(result.getCitationsByKey(key)));
-        return citations;
+    public synchronized Collection<Citation> getCitationsByKey(String key) {
+        return new ArrayList<>(citationsByKey.get(key));
     }
 
-    public void clear() {
+    public synchronized void clear() {
         parsedTexFiles.clear();
+        citationsByKey.clear();
     }
 
     @Override
@@ -0,0 +1,52 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.OrFields;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BibEntrySorterTest {
+
+    private final List<BibEntry> entries = List.of(
+            new BibEntry(StandardEntryType.Article).withCitationKey("b").withField(StandardField.AUTHOR, "Müller, Anna").withField(StandardField.YEAR, "2001").withField(StandardField.VOLUME, "10"),
+            new BibEntry(StandardEntryType.Book).withCitationKey("a").withField(StandardField.AUTHOR, "Mueller, Bert").withField(StandardField.YEAR, "1999").withField(StandardField.VOLUME, "x"),
+            new BibEntry(StandardEntryType.Article).withCitationKey("c").withField(StandardField.YEAR, "2001").withField(StandardField.VOLUME, "9"),
+            new BibEntry(StandardEntryType.Misc).withCitationKey("d").withField(StandardField.AUTHOR, "{\\\"O}zdemir, Can").withField(StandardField.CROSSREF, "a"),
+            new BibEntry(StandardEntryType.Article).withCitationKey("e").withField(StandardField.AUTHOR, "Müller, Anna").withField(StandardField.YEAR, "unknown").withField(StandardField.VOLUME, "y"));
+
+    @Test
+    void sortYieldsSameOrderAsComparatorStack() {
+        List<Comparator<BibEntry>> comparators = List.of(
+                new CrossRefEntryComparator(),
+                new FieldComparator(StandardField.AUTHOR),
+                new FieldComparator(new OrFields(StandardField.YEAR), true),
+                new FieldComparator(StandardField.VOLUME),
+                new FieldComparator(InternalField.TYPE_HEADER),
+                new FieldComparator(InternalField.KEY_FIELD));
+
+        List<BibEntry> expected = new ArrayList<>(entries);
+        expected.sort(new FieldComparatorStack<>(comparators));
+
+        assertEquals(expected, BibEntrySorter.sort(entries, comparators));
+    }
+
+    @Test
+    void sortKeysCompareLikeEntries() {
+        FieldComparator comparator = new FieldComparator(StandardField.VOLUME);
+        for (BibEntry first : entries) {
+            for (BibEntry second : entries) {
+                assertEquals(Integer.signum(comparator.compare(first, second)),
+                        Integer.signum(comparator.compareSortKeys(comparator.getSortKey(first), comparator.getSortKey(second))));
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CSLEnginePoolTest {
+
+    private static final String DEFAULT_STYLE = CSLStyleLoader.getDefaultStyle().getSource();
+
+    @Test
+    void releasedEngineIsReused() throws IOException {
+        CSLEnginePool pool = new CSLEnginePool(2);
+        CSLEnginePool.PooledEngine engine = pool.borrow(DEFAULT_STYLE, CitationStyleOutputFormat.HTML);
+        pool.release(engine);
+
+        assertSame(engine, pool.borrow(DEFAULT_STYLE, CitationStyleOutputFormat.HTML));
+    }
+
+    @Test
+    void concurrentBorrowsGetDifferentEngines() throws IOException {
+        CSLEnginePool pool = new CSLEnginePool(2);
+        CSLEnginePool.PooledEngine first = pool.borrow(DEFAULT_STYLE, CitationStyleOutputFormat.HTML);
+        CSLEnginePool.PooledEngine second = pool.borrow(DEFAULT_STYLE, CitationStyleOutputFormat.HTML);
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void differentOutputFormatGetsDifferentEngine() throws IOException {
+        CSLEnginePool pool = new CSLEnginePool(2);
+        CSLEnginePool.PooledEngine html = pool.borrow(DEFAULT_STYLE, CitationStyleOutputFormat.HTML);
+        pool.release(html);
+
+        assertNotSame(html, pool.borrow(DEFAULT_STYLE, CitationStyleOutputFormat.TEXT));
+    }
+
+    @Test
+    void leastRecentlyUsedEngineIsEvicted() throws IOException {
+        CSLEnginePool pool = new CSLEnginePool(1);
+        CSLEnginePool.PooledEngine html = pool.borrow(DEFAULT_STYLE, CitationStyleOutputFormat.HTML);
+        CSLEnginePool.PooledEngine text = pool.borrow(DEFAULT_STYLE, CitationStyleOutputFormat.TEXT);
+        pool.release(html);
+        pool.release(text);
+
+        assertEquals(1, pool.getIdleCount());
+        assertSame(text, pool.borrow(DEFAULT_STYLE, CitationStyleOutputFormat.TEXT));
+        assertNotSame(html, pool.borrow(DEFAULT_STYLE, CitationStyleOutputFormat.HTML));
+    }
+}
@@ -150,6 +150,42 @@ class CleanupWorkerTest {
         assertEquals(List.of(expectedChange), changes);
     }
 
+    @Test
+    void cleanupOfSeveralEntriesAppliesAndReturnsChanges() {
+        CleanupPreferences preset = new CleanupPreferences(CleanupPreferences.CleanupStep.CLEAN_UP_DOI);
+        BibEntry first = new BibEntry().withField(StandardField.DOI, "http://dx.doi.org/10.1016/0001-8708(80)90035-3");
+        BibEntry second = new BibEntry().withField(StandardField.URL, "https://doi.org/10.1109/5.771073");
+        BibEntry unchanged = new BibEntry().withField(StandardField.DOI, "10.1109/5.771073");
+
+        List<FieldChange> changes = worker.cleanup(preset, List.of(first, second, unchanged));
+
+        List<FieldChange> expectedChanges = List.of(
+                new FieldChange(first, StandardField.DOI, "http://dx.doi.org/10.1016/0001-8708(80)90035-3", "10.1016/0001-8708(80)90035-3"),
+                new FieldChange(second, StandardField.URL, "https://doi.org/10.1109/5.771073", null),
+                new FieldChange(second, StandardField.DOI, null, "10.1109/5.771073"));
+        assertEquals(expectedChanges, changes);
+        assertEquals(Optional.of("10.1016/0001-8708(80)90035-3"), first.getField(StandardField.DOI));
+        assertEquals(Optional.of("10.1109/5.771073"), second.getField(StandardField.DOI));
+        assertEquals(Optional.empty(), second.getField(StandardField.URL));
+    }
+
+    @Test
+    void cleanupOfSeveralEntriesSetsModificationDateOfChangedEntries() {
+        TimestampPreferences timestampPreferences = mock(TimestampPreferences.class);
+        when(timestampPreferences.shouldAddModificationDate()).thenReturn(true);
+        when(timestampPreferences.getTimestampField()).thenReturn(StandardField.TIMESTAMP);
+        when(timestampPreferences.now()).thenReturn("2026-10-19");
+        BibEntry changed = new BibEntry().withField(StandardField.DOI, "http://dx.doi.org/10.1016/0001-8708(80)90035-3");
+        BibEntry unchanged = new BibEntry().withField(StandardField.DOI, "10.1109/5.771073");
+        BibDatabaseContext context = new BibDatabaseContext(new BibDatabase(List.of(changed, unchanged)));
+        CleanupWorker worker = new CleanupWorker(context, mock(FilePreferences.class), timestampPreferences);
+
+        worker.cleanup(new CleanupPreferences(CleanupPreferences.CleanupStep.CLEAN_UP_DOI), List.of(changed, unchanged));
+
+        assertEquals(Optional.of("2026-10-19"), changed.getField(StandardField.MODIFICATIONDATE));
+        assertEquals(Optional.empty(), unchanged.getField(StandardField.MODIFICATIONDATE));
+    }
+
     @Test
     void cleanupDoiFindsDoiInURLFieldAndMoveItToDOIField() {
         CleanupPreferences preset = new CleanupPreferences(CleanupPreferences.CleanupStep.CLEAN_UP_DOI);
@@ -5,6 +5,9 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -166,6 +169,35 @@ class StudyRepositoryTest {
         assertEquals(new HashSet<>(getNonDuplicateBibEntryResult().getEntries()), new HashSet<>(getTestStudyRepository().getStudyResultEntries().getEntries()));
     }
 
+    @Test
+    void incrementalPersistenceAppendsOnlyNewEntries() throws GitAPIException, SaveException, IOException, URISyntaxException {
+        Path arXivResultFile = tempRepositoryDirectory.resolve(hashCodeQuantum + " - Quantum").resolve("ArXiv.bib");
+        studyRepository.setIncrementalPersistence(true);
+        studyRepository.persist(getMockResults());
+        String firstCrawlContent = Files.readString(arXivResultFile);
+        // Switching the branches rewrites the result file with the same content
+        Files.writeString(arXivResultFile, firstCrawlContent);
+        Files.setLastModifiedTime(arXivResultFile, FileTime.from(Instant.now().plusSeconds(60)));
+        // Merging the results would replace the file, appending keeps it
+        Object firstCrawlFileKey = Files.readAttributes(arXivResultFile, BasicFileAttributes.class).fileKey();
+
+        List<BibEntry> secondCrawlResults = new ArrayList<>(stripCitationKeys(getArXivQuantumMockResults()));
+        secondCrawlResults.add(new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Richard P. Feynman")
+                .withField(StandardField.TITLE, "Simulating Physics with Computers"));
+        studyRepository.persist(List.of(new QueryResult("Quantum", List.of(new FetchResult("ArXiv", new BibDatabase(secondCrawlResults))))));
+
+        List<BibEntry> expected = new ArrayList<>(getArXivQuantumMockResults());
+        expected.add(new BibEntry(StandardEntryType.Article)
+                .withCitationKey("Feynman")
+                .withField(StandardField.AUTHOR, "Richard P. Feynman")
+                .withField(StandardField.TITLE, "Simulating Physics with Computers"));
+        assertTrue(Files.readString(arXivResultFile).startsWith(firstCrawlContent));
+        assertEquals(firstCrawlFileKey, Files.readAttributes(arXivResultFile, BasicFileAttributes.class).fileKey());
+        assertEquals(expected, getTestStudyRepository().getFetcherResultEntries("Quantum", "ArXiv").getEntries());
+        assertTrue(Files.exists(tempRepositoryDirectory.resolve(StudyRepository.INDEX_DIRECTORY_NAME).resolve(".gitignore")));
+    }
+
     private StudyRepository getTestStudyRepository() throws IOException, URISyntaxException {
         setUpTestStudyDefinitionFile();
         studyRepository = new StudyRepository(
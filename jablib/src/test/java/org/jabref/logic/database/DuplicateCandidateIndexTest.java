@@ -0,0 +1,82 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateCandidateIndexTest {
+
+    private final DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+
+    private BibEntry article;
+    private BibEntry book;
+    private DuplicateCandidateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        article = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.YEAR, "2017");
+        book = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.AUTHOR, "Other Author")
+                .withField(StandardField.TITLE, "A book")
+                .withField(StandardField.DOI, "10.1000/xyz123");
+        index = new DuplicateCandidateIndex(duplicateCheck, List.of(article, book), BibDatabaseMode.BIBTEX);
+    }
+
+    @Test
+    void findsDuplicateOfSameType() {
+        BibEntry duplicate = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.YEAR, "2017");
+
+        assertEquals(Optional.of(article), index.findDuplicate(duplicate));
+    }
+
+    @Test
+    void findsDuplicateWithSameIdentifierOfOtherType() {
+        BibEntry sameDoi = new BibEntry(StandardEntryType.Misc)
+                .withField(StandardField.TITLE, "Something completely different")
+                .withField(StandardField.DOI, "10.1000/xyz123");
+
+        assertEquals(Optional.of(book), index.findDuplicate(sameDoi));
+    }
+
+    @Test
+    void entryOfOtherTypeWithoutSharedIdentifierIsNoDuplicate() {
+        BibEntry inBook = new BibEntry(StandardEntryType.InBook)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.YEAR, "2017");
+
+        assertEquals(Optional.empty(), index.findDuplicate(inBook));
+    }
+
+    @Test
+    void resultMatchesFullScan() {
+        List<BibEntry> candidates = List.of(
+                new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Single Author").withField(StandardField.TITLE, "A serious paper about something"),
+                new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Completely Different").withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla"),
+                new BibEntry(StandardEntryType.Book).withField(StandardField.AUTHOR, "Other Author").withField(StandardField.TITLE, "A book"),
+                new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1000/xyz123"));
+        BibDatabase database = new BibDatabase(List.of(article, book));
+
+        for (BibEntry candidate : candidates) {
+            assertEquals(duplicateCheck.containsDuplicate(database, candidate, BibDatabaseMode.BIBTEX).isPresent(),
+                    index.findDuplicate(candidate).isPresent());
+        }
+    }
+}
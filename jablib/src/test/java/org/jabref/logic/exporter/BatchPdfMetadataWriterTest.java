@@ -0,0 +1,130 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.pdf.PdfEmbeddedBibFileImporter;
+import org.jabref.logic.xmp.XmpPreferences;
+import org.jabref.logic.xmp.XmpUtilReader;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BatchPdfMetadataWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final XmpPreferences xmpPreferences = new XmpPreferences(false, Set.of(), new SimpleObjectProperty<>(','));
+    private BibDatabaseContext databaseContext;
+    private FilePreferences filePreferences;
+    private BatchPdfMetadataWriter writer;
+    private BibEntry first;
+    private BibEntry second;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        filePreferences = mock(FilePreferences.class);
+        when(filePreferences.getUserAndHost()).thenReturn(tempDir.toAbsolutePath().toString());
+        when(filePreferences.shouldStoreFilesRelativeToBibFile()).thenReturn(false);
+
+        first = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("first")
+                .withField(StandardField.TITLE, "First Title")
+                .withFiles(List.of(createPdf("first.pdf")));
+        second = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("second")
+                .withField(StandardField.TITLE, "Second Title")
+                .withFiles(List.of(createPdf("second.pdf")));
+        databaseContext = new BibDatabaseContext();
+        databaseContext.getDatabase().insertEntries(first, second);
+
+        FieldPreferences fieldPreferences = new FieldPreferences(true, List.of(StandardField.MONTH), List.of());
+        writer = new BatchPdfMetadataWriter(xmpPreferences, BibDatabaseMode.BIBTEX, new BibEntryTypesManager(), fieldPreferences, true, true, 2);
+    }
+
+    @Test
+    void linkedPdfsAreCollectedPerFile() {
+        Map<Path, List<BibEntry>> linkedPdfs = BatchPdfMetadataWriter.getLinkedPdfs(databaseContext, filePreferences, List.of(first, second));
+
+        assertEquals(Map.of(
+                tempDir.resolve("first.pdf").toAbsolutePath().normalize(), List.of(first),
+                tempDir.resolve("second.pdf").toAbsolutePath().normalize(), List.of(second)), linkedPdfs);
+    }
+
+    @Test
+    void writesXmpAndEmbeddedBibFileToEachPdf() throws IOException {
+        Map<Path, List<BibEntry>> linkedPdfs = BatchPdfMetadataWriter.getLinkedPdfs(databaseContext, filePreferences, List.of(first, second));
+
+        List<BatchPdfMetadataWriter.WriteResult> results = writer.write(linkedPdfs, databaseContext.getDatabase());
+
+        assertTrue(results.stream().allMatch(BatchPdfMetadataWriter.WriteResult::isSuccessful));
+        Path firstPdf = tempDir.resolve("first.pdf");
+        assertEquals(Optional.of("First Title"), new XmpUtilReader().readXmp(firstPdf, xmpPreferences).getFirst().getTitle());
+
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.fieldPreferences().getNonWrappableFields()).thenReturn(FXCollections.emptyObservableList());
+        List<BibEntry> embeddedEntries = new PdfEmbeddedBibFileImporter(importFormatPreferences).importDatabase(firstPdf).getDatabase().getEntries();
+        assertEquals(Optional.of("first"), embeddedEntries.getFirst().getCitationKey());
+    }
+
+    @Test
+    void changesAreAppendedToOriginalPdf() throws IOException {
+        Path pdf = tempDir.resolve("first.pdf");
+        byte[] original = Files.readAllBytes(pdf);
+
+        writer.write(Map.of(pdf, List.of(first)), databaseContext.getDatabase());
+
+        byte[] updated = Files.readAllBytes(pdf);
+        assertTrue(updated.length > original.length);
+        assertArrayEquals(original, Arrays.copyOf(updated, original.length));
+    }
+
+    @Test
+    void missingPdfIsReportedAsFailure() {
+        Path missing = tempDir.resolve("missing.pdf");
+
+        List<BatchPdfMetadataWriter.WriteResult> results = writer.write(Map.of(missing, List.of(first)), databaseContext.getDatabase());
+
+        assertFalse(results.getFirst().isSuccessful());
+    }
+
+    private LinkedFile createPdf(String fileName) throws IOException {
+        Path pdfFile = tempDir.resolve(fileName);
+        try (PDDocument pdf = new PDDocument()) {
+            pdf.addPage(new PDPage());
+            pdf.save(pdfFile.toAbsolutePath().toString());
+        }
+        return new LinkedFile("", pdfFile, "PDF");
+    }
+}
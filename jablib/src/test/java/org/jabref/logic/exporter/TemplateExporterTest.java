@@ -0,0 +1,49 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.metadata.SaveOrder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class TemplateExporterTest {
+
+    @Test
+    void exportKeepsOrderAndNumberingOfManyEntries(@TempDir Path tempDir) throws IOException {
+        Path layoutFile = tempDir.resolve("numbered.layout");
+        Files.writeString(layoutFile, "\\format[Number]{\\citationkey} \\citationkey\n");
+        TemplateExporter exporter = new TemplateExporter("Numbered",
+                "numbered",
+                layoutFile.toString(),
+                null,
+                StandardFileType.TXT,
+                mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                SaveOrder.getDefaultSaveOrder());
+        exporter.setCustomExport(true);
+
+        // more entries than rendered in one chunk
+        List<BibEntry> entries = IntStream.range(0, 2500)
+                                          .mapToObj(i -> new BibEntry().withCitationKey("key%05d".formatted(i)))
+                                          .toList();
+        Path exportFile = tempDir.resolve("export.txt");
+        exporter.export(new BibDatabaseContext(), exportFile, entries);
+
+        List<String> expected = IntStream.range(0, 2500)
+                                         .mapToObj(i -> "%d key%05d".formatted(i + 1, i))
+                                         .toList();
+        assertEquals(expected, Files.readAllLines(exportFile));
+    }
+}
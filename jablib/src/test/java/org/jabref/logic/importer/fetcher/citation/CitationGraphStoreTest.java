@@ -0,0 +1,119 @@
+package org.jabref.logic.importer.fetcher.citation;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.identifier.DOI;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CitationGraphStoreTest {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofDays(7);
+    private static final DOI DOI_OF_PAPER = new DOI("10.1000/xyz123");
+
+    @TempDir
+    Path tempDir;
+
+    private Path storePath;
+    private Instant now;
+    private CitationGraphStore store;
+
+    private final List<BibEntry> citations = List.of(
+            new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.TITLE, "A citing paper")
+                    .withField(StandardField.DOI, "10.1000/citing"),
+            new BibEntry(StandardEntryType.InProceedings)
+                    .withField(StandardField.AUTHOR, "Another Author")
+                    .withField(StandardField.ABSTRACT, "Ä".repeat(70_000)));
+
+    @BeforeEach
+    void setUp() {
+        storePath = tempDir.resolve("citations").resolve("graph.mv");
+        now = Instant.parse("2024-01-01T00:00:00Z");
+        store = createStore();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    private CitationGraphStore createStore() {
+        return new CitationGraphStore(storePath, TIME_TO_LIVE, new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        });
+    }
+
+    @Test
+    void unknownPaperHasNoRelations() {
+        assertEquals(Optional.empty(), store.get(DOI_OF_PAPER, CitationFetcher.SearchType.CITED_BY));
+        assertFalse(store.isFresh(DOI_OF_PAPER, CitationFetcher.SearchType.CITED_BY));
+    }
+
+    @Test
+    void storedRelationsAreReturned() {
+        store.put(DOI_OF_PAPER, CitationFetcher.SearchType.CITED_BY, citations);
+
+        assertEquals(Optional.of(citations), store.get(DOI_OF_PAPER, CitationFetcher.SearchType.CITED_BY));
+        assertEquals(Optional.empty(), store.get(DOI_OF_PAPER, CitationFetcher.SearchType.CITES));
+    }
+
+    @Test
+    void doiIsCaseInsensitive() {
+        store.put(DOI_OF_PAPER, CitationFetcher.SearchType.CITES, citations);
+
+        assertEquals(Optional.of(citations), store.get(new DOI("10.1000/XYZ123"), CitationFetcher.SearchType.CITES));
+    }
+
+    @Test
+    void relationsAreStaleAfterTimeToLive() {
+        store.put(DOI_OF_PAPER, CitationFetcher.SearchType.CITED_BY, citations);
+        assertTrue(store.isFresh(DOI_OF_PAPER, CitationFetcher.SearchType.CITED_BY));
+
+        now = now.plus(TIME_TO_LIVE).plusSeconds(1);
+
+        assertFalse(store.isFresh(DOI_OF_PAPER, CitationFetcher.SearchType.CITED_BY));
+        assertEquals(Optional.of(citations), store.get(DOI_OF_PAPER, CitationFetcher.SearchType.CITED_BY));
+    }
+
+    @Test
+    void relationsArePersisted() {
+        store.put(DOI_OF_PAPER, CitationFetcher.SearchType.CITED_BY, citations);
+        store.close();
+
+        store = createStore();
+
+        assertEquals(Optional.of(citations), store.get(DOI_OF_PAPER, CitationFetcher.SearchType.CITED_BY));
+        assertTrue(store.isFresh(DOI_OF_PAPER, CitationFetcher.SearchType.CITED_BY));
+    }
+}
@@ -41,4 +41,20 @@ class CitationKeyDuplicationCheckerTest {
                 new IntegrityMessage(Localization.lang("Duplicate citation key"), entry, StandardField.KEY));
         assertEquals(expected, checker.check(entry));
     }
+
+    @Test
+    void databaseCheckReportsEachEntryWithDuplicateCitationKey() {
+        BibEntry entry = new BibEntry().withField(InternalField.KEY_FIELD, "Knuth2014");
+        BibEntry entry2 = new BibEntry().withField(InternalField.KEY_FIELD, "Other2020");
+        BibEntry entry3 = new BibEntry().withField(InternalField.KEY_FIELD, "Knuth2014");
+        BibEntry entry4 = new BibEntry().withField(InternalField.KEY_FIELD, "");
+        BibEntry entry5 = new BibEntry().withField(InternalField.KEY_FIELD, "");
+        BibDatabase bibDatabase = new BibDatabase(List.of(entry, entry2, entry3, entry4, entry5));
+        CitationKeyDuplicationChecker checker = new CitationKeyDuplicationChecker(bibDatabase);
+
+        List<IntegrityMessage> expected = List.of(
+                new IntegrityMessage(Localization.lang("Duplicate citation key"), entry, StandardField.KEY),
+                new IntegrityMessage(Localization.lang("Duplicate citation key"), entry3, StandardField.KEY));
+        assertEquals(expected, checker.check(bibDatabase));
+    }
 }
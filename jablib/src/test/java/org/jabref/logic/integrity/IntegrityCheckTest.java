@@ -12,7 +12,9 @@ import org.jabref.logic.FilePreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.logic.journals.Abbreviation;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
@@ -146,6 +148,40 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void cachedMessagesAreDiscardedWhenModeChanges() {
+        BibDatabaseContext context = withMode(createContext(StandardField.TITLE, "sometitle", IEEETranEntryType.Patent), BibDatabaseMode.BIBTEX);
+        IntegrityCheckCache cache = new IntegrityCheckCache();
+        assertNotEquals(List.of(), createIntegrityCheck(context, JournalAbbreviationLoader.loadBuiltInRepository(), cache).check());
+
+        context.setMode(BibDatabaseMode.BIBLATEX);
+
+        assertEquals(List.of(), createIntegrityCheck(context, JournalAbbreviationLoader.loadBuiltInRepository(), cache).check());
+    }
+
+    @Test
+    void cachedMessagesAreDiscardedWhenCustomAbbreviationIsAdded() {
+        BibDatabaseContext context = withMode(createContext(StandardField.JOURNAL, "Zyxwvu Qqqq Custom", StandardEntryType.Article), BibDatabaseMode.BIBTEX);
+        JournalAbbreviationRepository repository = JournalAbbreviationLoader.loadBuiltInRepository();
+        IntegrityCheckCache cache = new IntegrityCheckCache();
+        assertNotEquals(List.of(), createIntegrityCheck(context, repository, cache).check());
+
+        repository.addCustomAbbreviation(new Abbreviation("Zyxwvu Qqqq Custom", "Zyx. Qqqq Cust."));
+
+        assertEquals(List.of(), createIntegrityCheck(context, repository, cache).check());
+    }
+
+    private IntegrityCheck createIntegrityCheck(BibDatabaseContext context, JournalAbbreviationRepository repository, IntegrityCheckCache cache) {
+        FilePreferences filePreferencesMock = mock(FilePreferences.class);
+        when(filePreferencesMock.shouldStoreFilesRelativeToBibFile()).thenReturn(true);
+        return new IntegrityCheck(context,
+                filePreferencesMock,
+                createCitationKeyPatternPreferences(),
+                repository,
+                false,
+                cache);
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry(type)
                 .withField(field, value);
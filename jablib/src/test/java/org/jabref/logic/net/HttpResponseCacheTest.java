@@ -0,0 +1,175 @@
+package org.jabref.logic.net;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.jabref.logic.importer.FetcherException;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HttpResponseCacheTest {
+
+    private WireMockServer server;
+    private HttpResponseCache cache;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) {
+        server = new WireMockServer(wireMockConfig().dynamicPort());
+        server.start();
+        cache = new HttpResponseCache(tempDir);
+        URLDownload.setResponseCache(cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        URLDownload.setResponseCache(null);
+        server.stop();
+    }
+
+    @Test
+    void freshResponseIsServedFromCache() throws Exception {
+        server.stubFor(get("/entry").willReturn(aResponse().withStatus(200).withBody("content")));
+
+        assertEquals("content\n", download("/entry", Duration.ofHours(1)));
+        assertEquals("content\n", download("/entry", Duration.ofHours(1)));
+
+        server.verify(1, getRequestedFor(urlEqualTo("/entry")));
+        assertEquals(new HttpResponseCache.Statistics(1, 0, 1), cache.getStatistics());
+    }
+
+    @Test
+    void inputStreamIsServedFromCache() throws Exception {
+        server.stubFor(get("/entry").willReturn(aResponse().withStatus(200).withBody("content")));
+        download("/entry", Duration.ofHours(1));
+
+        URLDownload urlDownload = new URLDownload(server.url("/entry"));
+        urlDownload.enableCaching(Duration.ofHours(1));
+        try (InputStream inputStream = urlDownload.asInputStream()) {
+            assertArrayEquals("content".getBytes(StandardCharsets.UTF_8), inputStream.readAllBytes());
+        }
+        server.verify(1, getRequestedFor(urlEqualTo("/entry")));
+    }
+
+    @Test
+    void staleResponseIsRevalidatedWithETag() throws Exception {
+        server.stubFor(get("/entry").withHeader("If-None-Match", absent())
+                                    .willReturn(aResponse().withStatus(200).withHeader("ETag", "\"v1\"").withBody("content")));
+        server.stubFor(get("/entry").withHeader("If-None-Match", equalTo("\"v1\""))
+                                    .willReturn(aResponse().withStatus(304)));
+
+        assertEquals("content\n", download("/entry", Duration.ZERO));
+        assertEquals("content\n", download("/entry", Duration.ZERO));
+
+        server.verify(1, getRequestedFor(urlEqualTo("/entry")).withHeader("If-None-Match", equalTo("\"v1\"")));
+        assertEquals(new HttpResponseCache.Statistics(0, 1, 1), cache.getStatistics());
+    }
+
+    @Test
+    void staleResponseIsRevalidatedWithLastModified() throws Exception {
+        String lastModified = "Wed, 21 Oct 2015 07:28:00 GMT";
+        server.stubFor(get("/entry").withHeader("If-Modified-Since", absent())
+                                    .willReturn(aResponse().withStatus(200).withHeader("Last-Modified", lastModified).withBody("content")));
+        server.stubFor(get("/entry").withHeader("If-Modified-Since", equalTo(lastModified))
+                                    .willReturn(aResponse().withStatus(304)));
+
+        download("/entry", Duration.ZERO);
+
+        assertEquals("content\n", download("/entry", Duration.ZERO));
+        assertEquals(new HttpResponseCache.Statistics(0, 1, 1), cache.getStatistics());
+    }
+
+    @Test
+    void maxAgeOfServerOverridesTimeToLive() throws Exception {
+        server.stubFor(get("/entry").willReturn(aResponse().withStatus(200).withHeader("Cache-Control", "max-age=3600").withBody("content")));
+
+        download("/entry", Duration.ZERO);
+        download("/entry", Duration.ZERO);
+
+        server.verify(1, getRequestedFor(urlEqualTo("/entry")));
+    }
+
+    @Test
+    void noStoreResponseIsNotCached() throws Exception {
+        server.stubFor(get("/entry").willReturn(aResponse().withStatus(200).withHeader("Cache-Control", "no-store").withBody("content")));
+
+        download("/entry", Duration.ofHours(1));
+        download("/entry", Duration.ofHours(1));
+
+        server.verify(2, getRequestedFor(urlEqualTo("/entry")));
+        assertEquals(new HttpResponseCache.Statistics(0, 0, 2), cache.getStatistics());
+    }
+
+    @Test
+    void changedResponseReplacesCachedResponse() throws Exception {
+        server.stubFor(get("/entry").willReturn(aResponse().withStatus(200).withBody("old")));
+        download("/entry", Duration.ZERO);
+        server.stubFor(get("/entry").willReturn(aResponse().withStatus(200).withBody("new")));
+
+        assertEquals("new\n", download("/entry", Duration.ZERO));
+        assertEquals("new\n", download("/entry", Duration.ofHours(1)));
+        server.verify(2, getRequestedFor(urlEqualTo("/entry")));
+    }
+
+    @Test
+    void requestsWithDifferentHeadersAreCachedSeparately() throws Exception {
+        server.stubFor(get("/entry").withHeader("Accept", equalTo("application/json"))
+                                    .willReturn(aResponse().withStatus(200).withBody("json")));
+        server.stubFor(get("/entry").withHeader("Accept", equalTo("application/x-bibtex"))
+                                    .willReturn(aResponse().withStatus(200).withBody("bibtex")));
+
+        URLDownload json = new URLDownload(server.url("/entry"));
+        json.addHeader("Accept", "application/json");
+        json.enableCaching(Duration.ofHours(1));
+        URLDownload bibtex = new URLDownload(server.url("/entry"));
+        bibtex.addHeader("Accept", "application/x-bibtex");
+        bibtex.enableCaching(Duration.ofHours(1));
+
+        assertEquals("json\n", json.asString());
+        assertEquals("bibtex\n", bibtex.asString());
+    }
+
+    @Test
+    void downloadWithoutEnabledCachingIsNotCached() throws Exception {
+        server.stubFor(get("/entry").willReturn(aResponse().withStatus(200).withBody("content")));
+
+        new URLDownload(server.url("/entry")).asString();
+        new URLDownload(server.url("/entry")).asString();
+
+        server.verify(2, getRequestedFor(urlEqualTo("/entry")));
+    }
+
+    @Test
+    void errorResponseIsNotCached() throws Exception {
+        server.stubFor(get("/entry").willReturn(aResponse().withStatus(503)));
+
+        URLDownload urlDownload = new URLDownload(server.url("/entry"));
+        urlDownload.enableCaching(Duration.ofHours(1));
+        assertThrows(FetcherException.class, urlDownload::asString);
+
+        server.stubFor(get("/entry").willReturn(aResponse().withStatus(200).withBody("content")));
+        assertEquals("content\n", download("/entry", Duration.ofHours(1)));
+    }
+
+    private String download(String path, Duration timeToLive) throws Exception {
+        URLDownload urlDownload = new URLDownload(server.url(path));
+        urlDownload.enableCaching(timeToLive);
+        return urlDownload.asString();
+    }
+}
@@ -0,0 +1,67 @@
+package org.jabref.logic.net;
+
+import org.jabref.logic.importer.FetcherClientException;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class URLDownloadRetryTest {
+
+    private WireMockServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = new WireMockServer(wireMockConfig().dynamicPort());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void tooManyRequestsIsRetried() throws Exception {
+        server.stubFor(get("/entry").inScenario("throttled")
+                                    .whenScenarioStateIs(Scenario.STARTED)
+                                    .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "0"))
+                                    .willSetStateTo("available"));
+        server.stubFor(get("/entry").inScenario("throttled")
+                                    .whenScenarioStateIs("available")
+                                    .willReturn(aResponse().withStatus(200).withBody("content")));
+
+        assertEquals("content\n", new URLDownload(server.url("/entry")).asString());
+        server.verify(2, getRequestedFor(urlEqualTo("/entry")));
+    }
+
+    @Test
+    void retryIsGivenUpIfServerRequestsLongDelay() throws Exception {
+        server.stubFor(get("/entry").willReturn(aResponse().withStatus(429).withHeader("Retry-After", "3600")));
+
+        URLDownload urlDownload = new URLDownload(server.url("/entry"));
+
+        assertThrows(FetcherClientException.class, urlDownload::asString);
+        server.verify(1, getRequestedFor(urlEqualTo("/entry")));
+    }
+
+    @Test
+    void clientErrorIsNotRetried() throws Exception {
+        server.stubFor(get("/entry").willReturn(aResponse().withStatus(404)));
+
+        URLDownload urlDownload = new URLDownload(server.url("/entry"));
+
+        assertThrows(FetcherClientException.class, urlDownload::asString);
+        server.verify(1, getRequestedFor(urlEqualTo("/entry")));
+    }
+}
@@ -1,8 +1,11 @@
 package org.jabref.logic.remote;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
 
 import org.jabref.logic.remote.client.RemoteClient;
+import org.jabref.logic.remote.server.RemoteListenerServer;
 import org.jabref.logic.remote.server.RemoteListenerServerManager;
 import org.jabref.logic.remote.server.RemoteMessageHandler;
 import org.jabref.support.DisabledOnCIServer;
@@ -11,9 +14,13 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Tests for the case where the client and server are set-up correctly. Testing the exceptional cases happens in {@link
@@ -83,4 +90,37 @@ class RemoteCommunicationTest {
 
         verify(server).handleCommandLineArguments(message);
     }
+
+    @Test
+    void commandRejectedByServerWithoutToken() {
+        final String[] arguments = new String[]{"search", "--input", "te st.bib"};
+
+        assertEquals(Optional.empty(), client.executeCommand("token", Path.of(""), arguments));
+
+        verify(server, never()).executeCommand(any(), any());
+    }
+
+    @Test
+    void commandExecutedByServerWithToken() throws IOException, InterruptedException {
+        final int port = 34568;
+        final Path workingDirectory = Path.of("D:\\T EST\\测试").toAbsolutePath();
+        final String[] arguments = new String[]{"search", "--input", "te st.bib"};
+        final CommandResult result = new CommandResult(2, "output\n", "error\n");
+        when(server.executeCommand(workingDirectory, arguments)).thenReturn(result);
+
+        RemoteListenerServer commandServer = new RemoteListenerServer(server, port, 1, "secret");
+        Thread serverThread = new Thread(commandServer);
+        serverThread.start();
+        try {
+            RemoteClient commandClient = new RemoteClient(port);
+
+            assertEquals(Optional.empty(), commandClient.executeCommand("guessed", workingDirectory, arguments));
+            verify(server, never()).executeCommand(any(), any());
+
+            assertEquals(Optional.of(result), commandClient.executeCommand("secret", workingDirectory, arguments));
+        } finally {
+            commandServer.closeServerSocket();
+            serverThread.join();
+        }
+    }
 }
@@ -0,0 +1,111 @@
+package org.jabref.logic.texparser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import org.jabref.model.texparser.LatexParserResults;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class LatexCitationIndexTest {
+
+    private static final String PAPER = """
+            \\documentclass{article}
+            \\begin{document}
+            \\cite{Einstein1920}
+            Einstein said \\cite{Einstein1920, Darwin1888} that lorem ipsum.
+            \\input{chapter}
+            \\bibliography{origin}
+            \\end{document}
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private Path storePath;
+    private Path paper;
+    private LatexParser parser;
+    private LatexCitationIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storePath = tempDir.resolve("index").resolve("citations.mv");
+        paper = tempDir.resolve("paper.tex");
+        Files.writeString(paper, PAPER);
+        Files.writeString(tempDir.resolve("chapter.tex"), "\\cite{Newton1999}");
+        Files.writeString(tempDir.resolve("origin.bib"), "");
+        parser = spy(new DefaultLatexParser());
+        index = new LatexCitationIndex(storePath, parser);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    void resultEqualsResultOfParser() {
+        assertEquals(new DefaultLatexParser().parse(paper), index.parse(paper));
+    }
+
+    @Test
+    void unchangedFileIsNotParsedAgain() {
+        index.parse(paper);
+        index.parse(paper);
+
+        verify(parser, times(1)).parse(paper);
+    }
+
+    @Test
+    void indexIsPersisted() {
+        index.parse(paper);
+        index.close();
+
+        LatexParser newParser = spy(new DefaultLatexParser());
+        index = new LatexCitationIndex(storePath, newParser);
+
+        assertEquals(new DefaultLatexParser().parse(paper), index.parse(paper));
+        verify(newParser, never()).parse(paper);
+    }
+
+    @Test
+    void changedFileIsParsedAgain() throws IOException {
+        index.parse(paper);
+        Files.writeString(paper, PAPER.replace("Darwin1888", "Newton1999"));
+        Files.setLastModifiedTime(paper, FileTime.from(Instant.now().plusSeconds(10)));
+
+        assertEquals(new DefaultLatexParser().parse(paper), index.parse(paper));
+        verify(parser, times(2)).parse(paper);
+    }
+
+    @Test
+    void touchedFileIsNotParsedAgain() throws IOException {
+        index.parse(paper);
+        Files.setLastModifiedTime(paper, FileTime.from(Instant.now().plusSeconds(10)));
+
+        assertEquals(new DefaultLatexParser().parse(paper), index.parse(paper));
+        verify(parser, times(1)).parse(paper);
+    }
+
+    @Test
+    void citationsOfSeveralFilesAreLookedUpByKey() {
+        LatexParserResults results = index.parse(List.of(paper, tempDir.resolve("chapter.tex")));
+
+        assertEquals(2, results.getCitationsByKey("Einstein1920").size());
+        assertEquals(1, results.getCitationsByKey("Newton1999").size());
+        assertEquals(new DefaultLatexParser().parse(List.of(paper, tempDir.resolve("chapter.tex"))), results);
+    }
+}
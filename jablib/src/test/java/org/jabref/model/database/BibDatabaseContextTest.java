@@ -6,7 +6,13 @@ import java.util.List;
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.util.Directories;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.IEEETranEntryType;
+import org.jabref.model.groups.AllEntriesGroup;
+import org.jabref.model.groups.AutomaticGroupIndex;
+import org.jabref.model.groups.AutomaticKeywordGroup;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.metadata.MetaData;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +20,8 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -156,4 +164,30 @@ class BibDatabaseContextTest {
         String actualPathStart = actualPath.toString().substring(0, fulltextIndexBaseDirectory.length());
         assertEquals(fulltextIndexBaseDirectory, actualPathStart);
     }
+
+    @Test
+    void automaticGroupsWithSameSettingsShareIndex() {
+        BibDatabaseContext context = new BibDatabaseContext();
+
+        AutomaticGroupIndex index = context.getAutomaticGroupIndex(new AutomaticKeywordGroup("Keywords", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, ',', '>'));
+
+        assertSame(index, context.getAutomaticGroupIndex(new AutomaticKeywordGroup("Other name", GroupHierarchyType.INCLUDING, StandardField.KEYWORDS, ',', '>')));
+        assertNotSame(index, context.getAutomaticGroupIndex(new AutomaticKeywordGroup("Keywords", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, ',', '/')));
+    }
+
+    @Test
+    void indexOfRemovedAutomaticGroupIsClosed() {
+        BibDatabaseContext context = new BibDatabaseContext();
+        AutomaticKeywordGroup group = new AutomaticKeywordGroup("Keywords", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, ',', '>');
+        GroupTreeNode root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        root.addSubgroup(group);
+        context.getMetaData().setGroups(root);
+        AutomaticGroupIndex index = context.getAutomaticGroupIndex(group);
+
+        context.getMetaData().setGroups(GroupTreeNode.fromGroup(new AllEntriesGroup("All entries")));
+        context.getDatabase().insertEntry(new BibEntry().withField(StandardField.KEYWORDS, "A"));
+
+        assertEquals(List.of(), index.getSubgroups());
+        assertNotSame(index, context.getAutomaticGroupIndex(group));
+    }
 }
@@ -9,13 +9,17 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.event.EventListenerTest;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -486,4 +490,83 @@ class BibDatabaseTest {
         assertEquals(1, database.indexOf(entryD));
         assertEquals(-1, database.indexOf(entryA));
     }
+
+    @Test
+    void runBatchedUpdatePostsSingleEventForAllChanges() {
+        BibEntry first = new BibEntry().withField(StandardField.TITLE, "first");
+        BibEntry second = new BibEntry().withField(StandardField.TITLE, "second");
+        database.insertEntries(first, second);
+        List<Object> events = new ArrayList<>();
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(EntryChangedEvent event) {
+                events.add(event);
+            }
+
+            @Subscribe
+            public void listen(EntriesChangedEvent event) {
+                events.add(event);
+            }
+        });
+
+        database.runBatchedUpdate(() -> {
+            first.setField(StandardField.TITLE, "changed");
+            first.setField(StandardField.YEAR, "2024");
+            second.setField(StandardField.TITLE, "changed");
+        });
+
+        assertEquals(1, events.size());
+        EntriesChangedEvent event = (EntriesChangedEvent) events.getFirst();
+        assertEquals(List.of(first, second), event.getBibEntries());
+        assertEquals(3, event.getFieldChangedEvents().size());
+    }
+
+    @Test
+    void changeAfterBatchedUpdateIsPostedIndividually() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        database.runBatchedUpdate(() -> entry.setField(StandardField.TITLE, "batched"));
+        EventListenerTest listener = new EventListenerTest();
+        database.registerListener(listener);
+
+        entry.setField(StandardField.TITLE, "changed");
+
+        assertEquals(entry, listener.getChangedEntry());
+    }
+
+    @Test
+    void changeOfEntryInsertedTwiceIsPostedOnce() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        database.insertEntry(entry);
+        List<FieldChangedEvent> events = new ArrayList<>();
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(FieldChangedEvent event) {
+                events.add(event);
+            }
+        });
+
+        entry.setField(StandardField.TITLE, "changed");
+
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void changeOfEntryIsPostedToAllDatabasesContainingIt() {
+        BibEntry entry = new BibEntry();
+        BibDatabase otherDatabase = new BibDatabase();
+        database.insertEntry(entry);
+        otherDatabase.insertEntry(entry);
+        EventListenerTest listener = new EventListenerTest();
+        EventListenerTest otherListener = new EventListenerTest();
+        database.registerListener(listener);
+        otherDatabase.registerListener(otherListener);
+
+        entry.setField(StandardField.TITLE, "changed");
+
+        assertEquals(entry, listener.getChangedEntry());
+        assertEquals(entry, otherListener.getChangedEntry());
+    }
 }
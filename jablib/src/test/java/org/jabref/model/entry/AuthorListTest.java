@@ -1108,21 +1108,19 @@ public class AuthorListTest {
     }
 
     @Test
-    void parseGarbageCollectAuthorListForUnreachableKey() {
+    void parseCountsCacheHits() {
         final String uniqueAuthorName = "Fleur Hornbach";
-        // Note that "new String()" is needed, uniqueAuthorName is a reference to a String literal
-        AuthorList uniqueAuthor = AuthorList.parse(new String(uniqueAuthorName));
-        System.gc();
-        assertNotSame(uniqueAuthor, AuthorList.parse(uniqueAuthorName));
+        AuthorList.parse(uniqueAuthorName);
+        long hitCount = AuthorList.getCacheStats().hitCount();
+        AuthorList.parse(new String(uniqueAuthorName));
+        assertTrue(AuthorList.getCacheStats().hitCount() > hitCount);
     }
 
     @Test
-    void parseGarbageCollectUnreachableInstitution() {
-        final String uniqueInstitutionName = "{Unique LLC}";
-        // Note that "new String()" is needed, uniqueInstitutionName is a reference to a String literal
-        AuthorList uniqueInstitution = AuthorList.parse(new String(uniqueInstitutionName));
-        System.gc();
-        assertNotSame(uniqueInstitution, AuthorList.parse(uniqueInstitutionName));
+    void parseInternsNameParts() {
+        Author first = AuthorList.parse("Nikolai Vossberg and Anna Smith").getAuthor(0);
+        Author second = AuthorList.parse("Nikolai Vossberg and John Doe").getAuthor(0);
+        assertSame(first.getFamilyName().get(), second.getFamilyName().get());
     }
 
     /**
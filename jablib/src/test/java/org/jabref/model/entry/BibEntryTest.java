@@ -13,6 +13,7 @@ import java.util.stream.Stream;
 import org.jabref.logic.util.URLUtil;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.BibField;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldPriority;
@@ -24,6 +25,7 @@ import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
 
 import com.google.common.collect.Sets;
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -58,6 +60,39 @@ class BibEntryTest {
         assertThrows(NullPointerException.class, () -> entry.setField(null));
     }
 
+    @Test
+    void listenerRegisteredAfterChangesReceivesLaterEvents() {
+        entry.setField(StandardField.TITLE, "before");
+        List<FieldChangedEvent> events = new ArrayList<>();
+        Object listener = new Object() {
+            @Subscribe
+            public void listen(FieldChangedEvent event) {
+                events.add(event);
+            }
+        };
+        entry.registerListener(listener);
+        entry.setField(StandardField.TITLE, "after");
+        entry.unregisterListener(listener);
+        entry.setField(StandardField.TITLE, "unobserved");
+
+        assertEquals(List.of(StandardField.TITLE), events.stream().map(FieldChangedEvent::getField).toList());
+    }
+
+    @Test
+    void unregisterListenerWithoutRegisteredListenersDoesNothing() {
+        entry.unregisterListener(new Object());
+        assertEquals(Optional.empty(), entry.getField(StandardField.TITLE));
+    }
+
+    @Test
+    void latexFreeFieldIsUpdatedAfterChange() {
+        entry.setField(StandardField.TITLE, "{\\\"a}");
+        assertEquals(Optional.of("ä"), entry.getFieldLatexFree(StandardField.TITLE));
+
+        entry.setField(StandardField.TITLE, "{\\\"o}");
+        assertEquals(Optional.of("ö"), entry.getFieldLatexFree(StandardField.TITLE));
+    }
+
     @Test
     void getFieldIsCaseInsensitive() {
         entry.setField(new UnknownField("TeSt"), "value");
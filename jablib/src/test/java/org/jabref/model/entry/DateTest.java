@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -132,4 +133,26 @@ class DateTest {
                 Date.parse(" 2025-05-02 ")
         );
     }
+
+    private static Stream<Arguments> isoDates() {
+        return Stream.of(
+                Arguments.of(Year.of(2015), "2015"),
+                Arguments.of(YearMonth.of(2015, Month.JANUARY), "2015-1"),
+                Arguments.of(YearMonth.of(2015, Month.NOVEMBER), "2015-11"),
+                Arguments.of(LocalDate.of(2015, Month.JANUARY, 5), "2015-1-5"),
+                Arguments.of(LocalDate.of(2016, Month.FEBRUARY, 29), "2016-02-29")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("isoDates")
+    void parseIsoDate(Temporal expected, String provided) {
+        assertEquals(Optional.of(new Date(expected)), Date.parseIsoDate(provided));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2015-13", "2025-21", "2015-02-30", "2015-001", "15-01-2015", "2015/10", "Jan 2015", "2015-10-03T07"})
+    void parseIsoDateLeavesOtherFormsToGeneralParser(String provided) {
+        assertEquals(Optional.empty(), Date.parseIsoDate(provided));
+    }
 }
@@ -0,0 +1,81 @@
+package org.jabref.model.groups;
+
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class AutomaticGroupIndexTest {
+
+    private final BibEntry first = new BibEntry().withField(StandardField.KEYWORDS, "A > B, C");
+    private final BibEntry second = new BibEntry().withField(StandardField.KEYWORDS, "A > D");
+
+    private BibDatabase database;
+    private AutomaticGroupIndex index;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase(List.of(first, second));
+        index = new AutomaticGroupIndex(new AutomaticKeywordGroup("Keywords", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, ',', '>'), database);
+    }
+
+    @Test
+    void subgroupsAreMergedIntoTree() {
+        assertEquals(Set.of("A", "C"), getNames(index.getSubgroups()));
+        assertEquals(Set.of("B", "D"), getNames(getSubgroup("A").getChildren()));
+    }
+
+    @Test
+    void addedEntryAddsSubgroups() {
+        GroupTreeNode groupA = getSubgroup("A");
+        database.insertEntry(new BibEntry().withField(StandardField.KEYWORDS, "A > E, F"));
+
+        assertEquals(Set.of("A", "C", "F"), getNames(index.getSubgroups()));
+        assertSame(groupA, getSubgroup("A"));
+        assertEquals(Set.of("B", "D", "E"), getNames(groupA.getChildren()));
+    }
+
+    @Test
+    void removedEntryRemovesSubgroupsNotUsedAnymore() {
+        database.removeEntry(first);
+
+        assertEquals(Set.of("A"), getNames(index.getSubgroups()));
+        assertEquals(Set.of("D"), getNames(getSubgroup("A").getChildren()));
+    }
+
+    @Test
+    void changedFieldUpdatesSubgroups() {
+        second.setField(StandardField.KEYWORDS, "C");
+
+        assertEquals(Set.of("A", "C"), getNames(index.getSubgroups()));
+        assertEquals(Set.of("B"), getNames(getSubgroup("A").getChildren()));
+
+        first.setField(StandardField.KEYWORDS, "G");
+
+        assertEquals(Set.of("C", "G"), getNames(index.getSubgroups()));
+    }
+
+    @Test
+    void unrelatedFieldChangeKeepsSubgroups() {
+        List<GroupTreeNode> subgroups = List.copyOf(index.getSubgroups());
+        first.setField(StandardField.ABSTRACT, "A > X");
+
+        assertEquals(subgroups, index.getSubgroups());
+    }
+
+    private GroupTreeNode getSubgroup(String name) {
+        return index.getSubgroups().stream().filter(node -> node.getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    private static Set<String> getNames(List<GroupTreeNode> nodes) {
+        return Set.copyOf(nodes.stream().map(GroupTreeNode::getName).toList());
+    }
+}
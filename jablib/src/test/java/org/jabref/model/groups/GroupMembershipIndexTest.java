@@ -0,0 +1,107 @@
+package org.jabref.model.groups;
+
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupMembershipIndexTest {
+
+    private final BibEntry first = new BibEntry().withField(StandardField.KEYWORDS, "alpha, beta");
+    private final BibEntry second = new BibEntry().withField(StandardField.KEYWORDS, "alpha");
+    private final BibEntry third = new BibEntry().withField(StandardField.KEYWORDS, "gamma");
+
+    private BibDatabase database;
+    private GroupMembershipIndex index;
+    private GroupTreeNode root;
+    private GroupTreeNode alpha;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase(List.of(first, second, third));
+        index = new GroupMembershipIndex(database);
+        root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        alpha = root.addSubgroup(keywordGroup("alpha", GroupHierarchyType.INDEPENDENT));
+    }
+
+    @Test
+    void matchedEntriesOfIndependentGroup() {
+        assertEquals(Set.of(first, second), Set.copyOf(index.getMatchedEntries(alpha)));
+        assertEquals(2, index.getMatchCount(alpha));
+        assertEquals(3, index.getMatchCount(root));
+    }
+
+    @Test
+    void refiningGroupIntersectsWithParent() {
+        GroupTreeNode beta = alpha.addSubgroup(keywordGroup("beta", GroupHierarchyType.REFINING));
+        third.setField(StandardField.KEYWORDS, "beta");
+
+        assertEquals(List.of(first), index.getMatchedEntries(beta));
+        assertEquals(beta.findMatches(database), index.getMatchedEntries(beta));
+    }
+
+    @Test
+    void includingGroupContainsMatchesOfChildren() {
+        GroupTreeNode including = root.addSubgroup(keywordGroup("gamma", GroupHierarchyType.INCLUDING));
+        including.addSubgroup(keywordGroup("beta", GroupHierarchyType.INDEPENDENT));
+
+        assertEquals(Set.of(first, third), Set.copyOf(index.getMatchedEntries(including)));
+    }
+
+    @Test
+    void addedEntryIsEvaluated() {
+        index.getMatchedEntries(alpha);
+        BibEntry added = new BibEntry().withField(StandardField.KEYWORDS, "alpha");
+        database.insertEntry(added);
+
+        assertEquals(3, index.getMatchCount(alpha));
+        assertTrue(index.matches(alpha, added));
+    }
+
+    @Test
+    void removedEntryIsNotMatchedAnymore() {
+        index.getMatchedEntries(alpha);
+        database.removeEntry(second);
+
+        assertEquals(List.of(first), index.getMatchedEntries(alpha));
+    }
+
+    @Test
+    void changedEntryIsReevaluated() {
+        index.getMatchedEntries(alpha);
+        third.setField(StandardField.KEYWORDS, "alpha");
+        first.clearField(StandardField.KEYWORDS);
+
+        assertEquals(Set.of(second, third), Set.copyOf(index.getMatchedEntries(alpha)));
+        assertFalse(index.matches(alpha, first));
+    }
+
+    @Test
+    void replacedGroupIsReevaluated() {
+        index.getMatchedEntries(alpha);
+        alpha.setGroup(keywordGroup("gamma", GroupHierarchyType.INDEPENDENT), false, false, List.of());
+
+        assertEquals(List.of(third), index.getMatchedEntries(alpha));
+    }
+
+    @Test
+    void entriesInAnyAndAllGroups() {
+        GroupTreeNode beta = root.addSubgroup(keywordGroup("beta", GroupHierarchyType.INDEPENDENT));
+
+        assertEquals(Set.of(first, second), Set.copyOf(index.getEntriesInAnyGroup(List.of(alpha, beta))));
+        assertEquals(List.of(first), index.getEntriesInAllGroups(List.of(alpha, beta)));
+    }
+
+    private static AbstractGroup keywordGroup(String keyword, GroupHierarchyType context) {
+        return new WordKeywordGroup(keyword, context, StandardField.KEYWORDS, keyword, true, ',', false);
+    }
+}
@@ -0,0 +1,74 @@
+package org.jabref.model.search.matchers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.WordKeywordGroup;
+import org.jabref.model.search.rules.MockSearchMatcher;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FieldChangeDispatcherTest {
+
+    private final BibEntry entry = new BibEntry();
+    private final FieldChangeDispatcher<String> dispatcher = new FieldChangeDispatcher<>();
+    private final List<String> visited = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dispatcher.register("keywords", keywordGroup(StandardField.KEYWORDS));
+        dispatcher.register("author", keywordGroup(StandardField.AUTHOR));
+        dispatcher.register("unknown", new MockSearchMatcher(true));
+    }
+
+    @Test
+    void fieldChangeIsRoutedToDependentTargets() {
+        dispatcher.dispatch(new FieldChangedEvent(entry, StandardField.KEYWORDS, "new", "old"), visited::add);
+
+        assertEquals(List.of("keywords", "unknown"), visited);
+    }
+
+    @Test
+    void fieldChangeOfUnusedFieldIsOnlyRoutedToTargetsWithUnknownDependencies() {
+        dispatcher.dispatch(new FieldChangedEvent(entry, StandardField.ABSTRACT, "new", "old"), visited::add);
+
+        assertEquals(List.of("unknown"), visited);
+    }
+
+    @Test
+    void entryChangeIsRoutedToAllTargets() {
+        dispatcher.dispatch(new EntryChangedEvent(entry), visited::add);
+
+        assertEquals(List.of("keywords", "author", "unknown"), visited);
+    }
+
+    @Test
+    void matcherSetDependsOnFieldsOfAllRules() {
+        MatcherSet matcherSet = MatcherSets.build(MatcherSets.MatcherType.AND);
+        matcherSet.addRule(keywordGroup(StandardField.KEYWORDS));
+        matcherSet.addRule(new NotMatcher(keywordGroup(StandardField.AUTHOR)));
+
+        assertEquals(Optional.of(Set.of(StandardField.KEYWORDS, StandardField.AUTHOR)), matcherSet.getDependentFields());
+        assertTrue(matcherSet.dependsOn(StandardField.AUTHOR));
+        assertFalse(matcherSet.dependsOn(StandardField.ABSTRACT));
+
+        matcherSet.addRule(new MockSearchMatcher(true));
+        assertEquals(Optional.empty(), matcherSet.getDependentFields());
+    }
+
+    private static WordKeywordGroup keywordGroup(StandardField field) {
+        return new WordKeywordGroup("group", GroupHierarchyType.INDEPENDENT, field, "value", true, ',', false);
+    }
+}
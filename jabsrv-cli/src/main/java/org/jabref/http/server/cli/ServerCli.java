@@ -9,6 +9,7 @@ import java.util.concurrent.Callable;
 
 import org.jabref.architecture.AllowedToUseStandardStreams;
 import org.jabref.http.server.Server;
+import org.jabref.http.server.ServerConfiguration;
 import org.jabref.logic.preferences.JabRefCliPreferences;
 
 import org.glassfish.grizzly.http.server.HttpServer;
@@ -31,6 +32,15 @@ public class ServerCli implements Callable<Void> {
     @CommandLine.Option(names = {"-p", "--port"}, description = "the port")
     private Integer port = 6050;
 
+    @CommandLine.Option(names = {"--execution-model"}, description = "the threads handling the requests: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE})")
+    private ServerConfiguration.ExecutionModel executionModel = ServerConfiguration.getDefault().executionModel();
+
+    @CommandLine.Option(names = {"--worker-threads"}, description = "the number of worker threads of WORKER_POOL (default: ${DEFAULT-VALUE})")
+    private Integer workerThreads = ServerConfiguration.getDefault().workerThreads();
+
+    @CommandLine.Option(names = {"--max-queued-requests"}, description = "the number of requests waiting for a worker (WORKER_POOL) or handled at the same time (VIRTUAL_THREADS); further requests are rejected (default: ${DEFAULT-VALUE})")
+    private Integer maxQueuedRequests = ServerConfiguration.getDefault().maxQueuedRequests();
+
     /**
      * Starts an http server serving the last files opened in JabRef<br>
      * More files can be provided as args.
@@ -70,7 +80,7 @@ public class ServerCli implements Callable<Void> {
         URI uri = URI.create(url);
 
         Server server = new Server();
-        HttpServer httpServer = server.run(filesToServe, uri);
+        HttpServer httpServer = server.run(filesToServe, uri, new ServerConfiguration(executionModel, workerThreads, maxQueuedRequests));
 
         // Keep the http server running until user kills the process (e.g., presses Ctrl+C)
         Thread.currentThread().join();
@@ -6,6 +6,8 @@ plugins {
     `java-library`
 
     id("org.openjfx.javafxplugin") version("0.1.0")
+
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 dependencies {
@@ -75,6 +77,13 @@ javafx {
     modules = listOf("javafx.base", "javafx.controls", "javafx.fxml")
 }
 
+jmh {
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    zip64 = true
+}
+
 tasks.test {
     testLogging {
         // set options for log level LIFECYCLE
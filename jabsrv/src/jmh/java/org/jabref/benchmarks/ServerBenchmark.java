@@ -0,0 +1,151 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.http.server.Server;
+import org.jabref.http.server.ServerConfiguration;
+
+import com.google.gson.Gson;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/// Load test of the library endpoints of the http server.
+///
+/// The server is started on a free local port and serves a generated library. The requests are sent by concurrent
+/// clients. {@link Mode#Throughput} reports the requests per second, {@link Mode#SampleTime} the latency percentiles
+/// (p0.50, p0.99, ...).
+///
+/// Run with `./gradlew :jabsrv:jmh`.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class ServerBenchmark {
+
+    @Param({"VIRTUAL_THREADS", "WORKER_POOL"})
+    public ServerConfiguration.ExecutionModel executionModel;
+
+    @Param({"10000"})
+    public int numberOfEntries;
+
+    private Path library;
+    private HttpServer httpServer;
+    private HttpClient httpClient;
+    private URI baseUri;
+    private String libraryPath;
+    private String entityTag;
+
+    @Setup(Level.Trial)
+    public void startServer() throws IOException, InterruptedException {
+        library = Files.createTempDirectory("jabsrv-benchmark").resolve("benchmark.bib");
+        writeLibrary(library, numberOfEntries);
+
+        baseUri = URI.create("http://localhost:" + getFreePort() + "/");
+        ServerConfiguration defaultConfiguration = ServerConfiguration.getDefault();
+        httpServer = new Server().run(List.of(library), baseUri,
+                new ServerConfiguration(executionModel, defaultConfiguration.workerThreads(), defaultConfiguration.maxQueuedRequests()));
+        httpClient = HttpClient.newBuilder()
+                               .version(HttpClient.Version.HTTP_1_1)
+                               .build();
+
+        HttpResponse<String> libraries = httpClient.send(getRequest("libraries", "application/json"), HttpResponse.BodyHandlers.ofString());
+        libraryPath = "libraries/" + new Gson().fromJson(libraries.body(), String[].class)[0];
+
+        // Parses the library before the measurement starts
+        HttpResponse<Void> response = send(getRequest(libraryPath, "application/json"));
+        entityTag = response.headers().firstValue("ETag").orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() throws IOException {
+        httpServer.shutdownNow();
+        Files.deleteIfExists(library);
+        Files.deleteIfExists(library.getParent());
+    }
+
+    @Benchmark
+    public int getLibraryAsJson() throws IOException, InterruptedException {
+        return send(getRequest(libraryPath, "application/json")).statusCode();
+    }
+
+    @Benchmark
+    public int getLibraryAsBibtex() throws IOException, InterruptedException {
+        return send(getRequest(libraryPath, "application/x-bibtex")).statusCode();
+    }
+
+    @Benchmark
+    public int getLibraryIfNoneMatch() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(baseUri.resolve(libraryPath))
+                               .header("Accept", "application/json")
+                               .header("If-None-Match", entityTag)
+                               .build()).statusCode();
+    }
+
+    @Benchmark
+    public int getEntriesPage() throws IOException, InterruptedException {
+        return send(getRequest(libraryPath + "/entries?offset=" + (numberOfEntries / 2) + "&limit=100", "application/json")).statusCode();
+    }
+
+    @Benchmark
+    public int getEntryByCitationKey() throws IOException, InterruptedException {
+        return send(getRequest(libraryPath + "/entries/key" + (numberOfEntries / 2), "application/json")).statusCode();
+    }
+
+    private HttpRequest getRequest(String path, String mediaType) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                          .header("Accept", mediaType)
+                          .build();
+    }
+
+    private HttpResponse<Void> send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Request " + request.uri() + " failed with status " + response.statusCode());
+        }
+        return response;
+    }
+
+    private static int getFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void writeLibrary(Path library, int numberOfEntries) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(library, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < numberOfEntries; i++) {
+                writer.write("""
+                        @Article{key%1$d,
+                          author  = {Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB %1$d},
+                          title   = {This is my title %1$d},
+                          journal = {Journal Title %1$d},
+                          year    = {%2$d},
+                          keywords = {testkeyword},
+                        }
+
+                        """.formatted(i, 1900 + (i % 120)));
+            }
+        }
+    }
+}
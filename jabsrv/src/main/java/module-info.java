@@ -3,7 +3,7 @@ module org.jabref.jabsrv {
 
     exports org.jabref.http.dto to com.google.gson, org.glassfish.hk2.locator;
 
-    opens org.jabref.http.server to org.glassfish.hk2.utilities, org.glassfish.hk2.locator;
+    opens org.jabref.http.server to org.glassfish.hk2.utilities, org.glassfish.hk2.locator, com.google.gson;
 
     // For ServiceLocatorUtilities.createAndPopulateServiceLocator()
     requires org.glassfish.hk2.locator;
@@ -21,6 +21,8 @@ module org.jabref.jabsrv {
     requires jakarta.annotation;
     requires jakarta.inject;
 
+    requires javafx.base;
+
     requires afterburner.fx;
     provides com.airhacks.afterburner.views.ResourceLocator
             with org.jabref.http.JabRefResourceLocator;
@@ -16,7 +16,7 @@ public class CORSFilter implements ContainerResponseFilter {
         } else if (requestOrigin.contains("://localhost")) {
             responseContext.getHeaders().add("Access-Control-Allow-Origin", requestOrigin);
         }
-        responseContext.getHeaders().add("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS");
+        responseContext.getHeaders().add("Access-Control-Allow-Methods", "GET, POST, PUT, PATCH, DELETE, OPTIONS");
         responseContext.getHeaders().add("Access-Control-Allow-Headers", "origin, content-type, accept");
         responseContext.getHeaders().add("Access-Control-Allow-Credentials", "false");
     }
@@ -0,0 +1,61 @@
+package org.jabref.http.server;
+
+import java.util.concurrent.Semaphore;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+
+/// Limits the number of requests handled at the same time. Further requests are rejected with `503 Service Unavailable`.
+///
+/// Virtual threads are not limited in number, thus this filter takes the role of the queue limit of a worker pool.
+///
+/// A request holds its permit until it is finished, i.e., until its response was written. Streamed responses (e.g.,
+/// the entries of a library) are written after the response filters ran, thus the permit is not released in a filter.
+@Provider
+public class ConcurrencyLimitFilter implements ContainerRequestFilter, ApplicationEventListener {
+
+    private static final String PERMIT_PROPERTY = ConcurrencyLimitFilter.class.getName() + ".permit";
+
+    private final Semaphore permits;
+    private final RequestEventListener permitReleaser = this::releasePermitWhenFinished;
+
+    public ConcurrencyLimitFilter(int maxConcurrentRequests) {
+        this.permits = new Semaphore(maxConcurrentRequests);
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (permits.tryAcquire()) {
+            requestContext.setProperty(PERMIT_PROPERTY, Boolean.TRUE);
+        } else {
+            requestContext.abortWith(Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                                             .header(HttpHeaders.RETRY_AFTER, 1)
+                                             .build());
+        }
+    }
+
+    @Override
+    public void onEvent(ApplicationEvent event) {
+        // Only the events of the requests are of interest
+    }
+
+    @Override
+    public RequestEventListener onRequest(RequestEvent requestEvent) {
+        return permitReleaser;
+    }
+
+    private void releasePermitWhenFinished(RequestEvent event) {
+        // FINISHED is sent once per request, after the response was written or the request failed
+        if ((event.getType() == RequestEvent.Type.FINISHED) && (event.getContainerRequest().getProperty(PERMIT_PROPERTY) != null)) {
+            event.getContainerRequest().removeProperty(PERMIT_PROPERTY);
+            permits.release();
+        }
+    }
+}
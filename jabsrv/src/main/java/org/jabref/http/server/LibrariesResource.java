@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.jabref.http.server.services.FilesToServe;
-import org.jabref.logic.util.io.BackupFileUtil;
 
 import com.google.gson.Gson;
 import jakarta.inject.Inject;
@@ -24,10 +23,7 @@ public class LibrariesResource {
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     public String get() {
-        List<String> fileNamesWithUniqueSuffix = filesToServe.getFilesToServe().stream()
-                                                            .map(p -> p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p))
-                                                            .toList();
-        List<String> result = new ArrayList<>(fileNamesWithUniqueSuffix);
+        List<String> result = new ArrayList<>(filesToServe.getIds());
         result.add("demo");
         return gson.toJson(result);
     }
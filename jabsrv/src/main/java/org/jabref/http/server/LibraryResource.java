@@ -4,33 +4,71 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.dto.BibEntryDTO;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryCache;
+import org.jabref.http.server.services.LibraryCache.CachedLibrary;
+import org.jabref.http.server.services.LibraryCache.LibraryVersion;
+import org.jabref.http.server.services.LibraryEditor;
+import org.jabref.http.server.services.SearchIndexes;
 import org.jabref.logic.citationstyle.JabRefItemDataProvider;
+import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.preferences.CliPreferences;
-import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.SharedBibEntryData;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import com.airhacks.afterburner.injection.Injector;
+import com.google.common.hash.Hashing;
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonWriter;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.PATCH;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
 import org.jspecify.annotations.Nullable;
@@ -41,6 +79,9 @@ import org.slf4j.LoggerFactory;
 public class LibraryResource {
     public static final Logger LOGGER = LoggerFactory.getLogger(LibraryResource.class);
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
     @Inject
     CliPreferences preferences;
 
@@ -50,30 +91,187 @@ public class LibraryResource {
     @Inject
     Gson gson;
 
+    @Inject
+    LibraryCache libraryCache;
+
+    @Inject
+    SearchIndexes searchIndexes;
+
+    @Inject
+    LibraryEditor libraryEditor;
+
+    /// Returns all entries of the library. The JSON is streamed to the client, so that large libraries are not held in memory as string.
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public String getJson(@PathParam("id") String id) throws IOException {
-        ParserResult parserResult = getParserResult(id);
-        BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
-        List<BibEntryDTO> list = parserResult.getDatabase().getEntries().stream()
-                                             .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
-                                             .map(entry -> new BibEntryDTO(entry, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), entryTypesManager))
-                                             .toList();
-        return gson.toJson(list);
+    public Response getJson(@PathParam("id") String id, @Context Request request) throws IOException {
+        if ("demo".equals(id)) {
+            ParserResult parserResult = getDemoParserResult();
+            return Response.ok(toJson(parserResult, parserResult.getDatabase().getEntries())).build();
+        }
+        return getCachedLibraryResponse(id, MediaType.APPLICATION_JSON, request,
+                cachedLibrary -> toJson(cachedLibrary.getParserResult(), cachedLibrary.getEntries()));
+    }
+
+    /// Returns one page of the entries of the library, e.g., `entries?offset=200&limit=100`.
+    /// If a search query is given (`entries?q=author=smith`), only the matching entries are returned. The query uses the
+    /// search syntax of JabRef and is evaluated against the search index of the library.
+    ///
+    /// The response contains the requested page and the total number of (matching) entries:
+    /// `{"offset": 200, "limit": 100, "total": 1234, "entries": [...]}`.
+    /// Search results additionally contain the query and the time the search took: `"query": "author=smith", "searchTimeMs": 3`.
+    @GET
+    @Path("entries")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getEntries(@PathParam("id") String id,
+                               @QueryParam("q") String query,
+                               @QueryParam("offset") @DefaultValue("0") int offset,
+                               @QueryParam("limit") @DefaultValue("" + DEFAULT_PAGE_SIZE) int limit,
+                               @Context Request request) throws IOException {
+        if ((offset < 0) || (limit < 1) || (limit > MAX_PAGE_SIZE)) {
+            throw new BadRequestException("offset must not be negative and limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        String pageVariant = MediaType.APPLICATION_JSON + ";offset=" + offset + ";limit=" + limit;
+
+        if (StringUtil.isBlank(query)) {
+            if ("demo".equals(id)) {
+                ParserResult parserResult = getDemoParserResult();
+                return Response.ok(toJsonPage(parserResult, parserResult.getDatabase().getEntries(), offset, limit, null)).build();
+            }
+            return getCachedLibraryResponse(id, pageVariant, request,
+                    cachedLibrary -> toJsonPage(cachedLibrary.getParserResult(), cachedLibrary.getEntries(), offset, limit, null));
+        }
+
+        if ("demo".equals(id)) {
+            throw new BadRequestException("The demo library cannot be searched");
+        }
+        SearchQuery searchQuery = new SearchQuery(query);
+        if (!searchQuery.isValid()) {
+            throw new BadRequestException("Invalid search query: " + query);
+        }
+        return getCachedLibraryResponse(id, pageVariant + ";q=" + query, request, cachedLibrary -> {
+            long start = System.nanoTime();
+            List<BibEntry> matches = searchIndexes.search(cachedLibrary, searchQuery, preferences);
+            SearchStatistics searchStatistics = new SearchStatistics(query, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return toJsonPage(cachedLibrary.getParserResult(), matches, offset, limit, searchStatistics);
+        });
+    }
+
+    /// Returns the entry with the given citation key. If several entries have the key, the first one is returned.
+    @GET
+    @Path("entries/{citationKey}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getEntry(@PathParam("id") String id,
+                             @PathParam("citationKey") String citationKey,
+                             @Context Request request) throws IOException {
+        if ("demo".equals(id)) {
+            ParserResult parserResult = getDemoParserResult();
+            BibEntry entry = parserResult.getDatabase().getEntryByCitationKey(citationKey).orElseThrow(NotFoundException::new);
+            return Response.ok(toJson(parserResult.getDatabaseContext(), entry)).build();
+        }
+        return getCachedLibraryResponse(id, MediaType.APPLICATION_JSON + ";citationKey=" + citationKey, request, cachedLibrary -> {
+            BibEntry entry = cachedLibrary.getEntryByCitationKey(citationKey).orElseThrow(NotFoundException::new);
+            return toJson(cachedLibrary.getParserResult().getDatabaseContext(), entry);
+        });
+    }
+
+    /// Adds the entries given as BibTeX to the library and returns them.
+    /// The entries are written to the library file together with the other changes made within {@link LibraryEditor#DEFAULT_WRITE_DELAY}.
+    /// If the citation key of an entry is already used in the library or by another given entry, `409 Conflict` is returned and no entry is added.
+    @POST
+    @Path("entries")
+    @Consumes(JabrefMediaType.BIBTEX)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response addEntries(@PathParam("id") String id, String bibtex) throws IOException {
+        java.nio.file.Path library = getEditableLibraryPath(id);
+        List<BibEntry> entries;
+        try {
+            entries = new BibtexParser(preferences.getImportFormatPreferences()).parseEntries(bibtex);
+        } catch (ParseException e) {
+            throw new BadRequestException("Could not parse entries: " + e.getMessage());
+        }
+        if (entries.isEmpty()) {
+            throw new BadRequestException("No entries given");
+        }
+
+        String json = libraryEditor.edit(library, preferences, databaseContext -> {
+            checkCitationKeysAreFree(databaseContext, entries);
+            databaseContext.getDatabase().insertEntries(entries);
+            return toJson(databaseContext, entries);
+        });
+        return Response.status(Response.Status.CREATED).entity(json).build();
+    }
+
+    /// Changes fields of the entry with the given citation key: `{"version": 3, "fields": {"title": "New title", "note": null}}`.
+    /// Fields with value `null` are removed.
+    ///
+    /// The version is the version of the entry the change is based on (`sharingMetadata.version`). It is derived from the
+    /// content of the entry, thus it stays the same if the library is parsed again. If the entry was changed in between,
+    /// `409 Conflict` is returned together with the current entry. Otherwise, the changed entry with its new version is returned.
+    @PATCH
+    @Path("entries/{citationKey}")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public String updateEntry(@PathParam("id") String id,
+                              @PathParam("citationKey") String citationKey,
+                              String body) throws IOException {
+        java.nio.file.Path library = getEditableLibraryPath(id);
+        EntryUpdate update;
+        try {
+            update = gson.fromJson(body, EntryUpdate.class);
+        } catch (JsonParseException e) {
+            throw new BadRequestException("Could not parse change: " + e.getMessage());
+        }
+        if ((update == null) || (update.version() == null) || (update.fields() == null)) {
+            throw new BadRequestException("version and fields are required");
+        }
+
+        return libraryEditor.edit(library, preferences, databaseContext -> {
+            BibEntry entry = getEntryForUpdate(databaseContext, citationKey, update.version());
+            update.fields().forEach((name, value) -> {
+                Field field = FieldFactory.parseField(name);
+                if (value == null) {
+                    entry.clearField(field);
+                } else {
+                    entry.setField(field, value);
+                }
+            });
+            return toJson(databaseContext, entry);
+        });
+    }
+
+    /// Removes the entry with the given citation key. The version of the entry is required as for {@link #updateEntry}.
+    @DELETE
+    @Path("entries/{citationKey}")
+    public Response deleteEntry(@PathParam("id") String id,
+                                @PathParam("citationKey") String citationKey,
+                                @QueryParam("version") Integer version) throws IOException {
+        java.nio.file.Path library = getEditableLibraryPath(id);
+        if (version == null) {
+            throw new BadRequestException("version is required");
+        }
+
+        libraryEditor.edit(library, preferences, databaseContext -> {
+            databaseContext.getDatabase().removeEntry(getEntryForUpdate(databaseContext, citationKey, version));
+            return null;
+        });
+        return Response.noContent().build();
     }
 
     @GET
     @Produces(JabrefMediaType.JSON_CSL_ITEM)
-    public String getClsItemJson(@PathParam("id") String id) throws IOException {
-        ParserResult parserResult = getParserResult(id);
-        JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
-        jabRefItemDataProvider.setData(parserResult.getDatabaseContext(), new BibEntryTypesManager());
-        return jabRefItemDataProvider.toJson();
+    public Response getClsItemJson(@PathParam("id") String id, @Context Request request) throws IOException {
+        if ("demo".equals(id)) {
+            return Response.ok(toClsItemJson(getDemoParserResult())).build();
+        }
+        return getCachedLibraryResponse(id, JabrefMediaType.JSON_CSL_ITEM, request,
+                cachedLibrary -> cachedLibrary.getRepresentation(JabrefMediaType.JSON_CSL_ITEM, this::toClsItemJson));
     }
 
+    /// Returns the library file as is. The file is streamed to the client without reading it into memory.
+    /// Changes not yet written to the file are written first, so that the file contains the same revision as served by the other representations.
     @GET
     @Produces(JabrefMediaType.BIBTEX)
-    public Response getBibtex(@PathParam("id") String id) {
+    public Response getBibtex(@PathParam("id") String id, @Context Request request) {
         if ("demo".equals(id)) {
             StreamingOutput stream = output -> {
                 try (InputStream in = getChocolateBibAsStream()) {
@@ -88,46 +286,185 @@ public class LibraryResource {
         }
 
         java.nio.file.Path library = getLibraryPath(id);
-        String libraryAsString;
-        try {
-            libraryAsString = Files.readString(library);
-        } catch (IOException e) {
-            LOGGER.error("Could not read library {}", library, e);
-            throw new InternalServerErrorException("Could not read library " + library, e);
+        libraryEditor.flush(library);
+        LibraryVersion version = libraryCache.getVersion(library, getLibraryVersion(library));
+        EntityTag entityTag = version.getEntityTag(JabrefMediaType.BIBTEX);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(version.getLastModifiedDate(), entityTag);
+        if (notModified != null) {
+            return notModified.build();
         }
-        return Response.ok()
+
+        StreamingOutput stream = output -> {
+            try (FileChannel channel = FileChannel.open(library, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(output);
+                long size = channel.size();
+                long position = 0;
+                while (position < size) {
+                    position += channel.transferTo(position, size - position, target);
+                }
+            }
+        };
+        return Response.ok(stream)
                 .header("Content-Disposition", "attachment; filename=\"" + library.getFileName() + "\"")
-                .entity(libraryAsString)
+                .tag(entityTag)
+                .lastModified(version.getLastModifiedDate())
                 .build();
     }
 
-    private java.nio.file.Path getLibraryPath(String id) {
-        return filesToServe.getFilesToServe()
-                          .stream()
-                          .filter(p -> (p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p)).equals(id))
-                          .findAny()
-                          .orElseThrow(NotFoundException::new);
+    private StreamingOutput toJson(ParserResult parserResult, List<BibEntry> entries) {
+        return output -> {
+            JsonWriter writer = gson.newJsonWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            writeEntries(writer, parserResult, entries);
+            writer.flush();
+        };
     }
 
-    private ParserResult getParserResult(String id) throws IOException {
-        BibtexImporter bibtexImporter = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor());
-
-        if ("demo".equals(id)) {
-            try (InputStream chocolateBibInputStream = getChocolateBibAsStream()) {
-                BufferedReader reader = new BufferedReader(new InputStreamReader(chocolateBibInputStream, StandardCharsets.UTF_8));
-                return bibtexImporter.importDatabase(reader);
+    private StreamingOutput toJsonPage(ParserResult parserResult, List<BibEntry> entries, int offset, int limit, @Nullable SearchStatistics searchStatistics) {
+        List<BibEntry> page = entries.subList(Math.min(offset, entries.size()), (int) Math.min((long) offset + limit, entries.size()));
+        return output -> {
+            JsonWriter writer = gson.newJsonWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            writer.beginObject();
+            if (searchStatistics != null) {
+                writer.name("query").value(searchStatistics.query());
+                writer.name("searchTimeMs").value(searchStatistics.searchTimeMillis());
             }
+            writer.name("offset").value(offset);
+            writer.name("limit").value(limit);
+            writer.name("total").value(entries.size());
+            writer.name("entries");
+            writeEntries(writer, parserResult, page);
+            writer.endObject();
+            writer.flush();
+        };
+    }
+
+    private String toJson(BibDatabaseContext databaseContext, BibEntry entry) {
+        BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
+        return gson.toJson(toBibEntryDTO(entry, databaseContext.getMode(), entryTypesManager));
+    }
+
+    private String toJson(BibDatabaseContext databaseContext, List<BibEntry> entries) {
+        BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
+        return gson.toJson(entries.stream()
+                                  .map(entry -> toBibEntryDTO(entry, databaseContext.getMode(), entryTypesManager))
+                                  .toList());
+    }
+
+    /// Optimistic locking: the entry may only be changed if the client knows its current version
+    private BibEntry getEntryForUpdate(BibDatabaseContext databaseContext, String citationKey, int version) {
+        BibEntry entry = databaseContext.getDatabase().getEntryByCitationKey(citationKey).orElseThrow(NotFoundException::new);
+        BibEntryDTO current = toBibEntryDTO(entry, databaseContext.getMode(), Injector.instantiateModelOrService(BibEntryTypesManager.class));
+        if (current.sharingMetadata().getVersion() != version) {
+            throw new WebApplicationException(Response.status(Response.Status.CONFLICT)
+                                                      .entity(gson.toJson(current))
+                                                      .type(MediaType.APPLICATION_JSON)
+                                                      .build());
+        }
+        return entry;
+    }
+
+    private static void checkCitationKeysAreFree(BibDatabaseContext databaseContext, List<BibEntry> entries) {
+        Set<String> citationKeys = new HashSet<>();
+        for (BibEntry entry : entries) {
+            entry.getCitationKey().ifPresent(citationKey -> {
+                if (!citationKeys.add(citationKey) || databaseContext.getDatabase().getEntryByCitationKey(citationKey).isPresent()) {
+                    throw new WebApplicationException("Citation key " + citationKey + " is already used", Response.Status.CONFLICT);
+                }
+            });
+        }
+    }
+
+    /// Writes the entries one by one, so that only the DTO of the current entry is in memory.
+    private void writeEntries(JsonWriter writer, ParserResult parserResult, List<BibEntry> entries) throws IOException {
+        BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
+        BibDatabaseMode mode = parserResult.getDatabaseContext().getMode();
+        writer.beginArray();
+        for (BibEntry entry : entries) {
+            gson.toJson(toBibEntryDTO(entry, mode, entryTypesManager), BibEntryDTO.class, writer);
         }
+        writer.endArray();
+    }
 
+    /// The version of the entry is the hash of its serialization. The shared data of the entry itself is not used, as
+    /// its version starts at 1 whenever the library is parsed again.
+    private BibEntryDTO toBibEntryDTO(BibEntry entry, BibDatabaseMode mode, BibEntryTypesManager entryTypesManager) {
+        BibEntryDTO dto = new BibEntryDTO(entry, mode, preferences.getFieldPreferences(), entryTypesManager);
+        SharedBibEntryData sharingMetadata = new SharedBibEntryData();
+        sharingMetadata.setSharedID(Objects.hash(entry));
+        sharingMetadata.setVersion(Hashing.murmur3_32_fixed().hashString(dto.bibtex(), StandardCharsets.UTF_8).asInt());
+        return new BibEntryDTO(sharingMetadata, dto.userComments(), dto.citationKey(), dto.bibtex());
+    }
+
+    private String toClsItemJson(ParserResult parserResult) {
+        JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
+        jabRefItemDataProvider.setData(parserResult.getDatabaseContext(), new BibEntryTypesManager());
+        return jabRefItemDataProvider.toJson();
+    }
+
+    /// Serves a representation of the library parsed by the {@link LibraryCache}.
+    /// If the client already has the current representation (`If-None-Match` or `If-Modified-Since`), `304 Not Modified` is returned without parsing the library.
+    ///
+    /// @param variant identifies the representation, e.g., the media type and the requested page
+    private Response getCachedLibraryResponse(String id, String variant, Request request, Function<CachedLibrary, Object> entityFactory) {
         java.nio.file.Path library = getLibraryPath(id);
-        ParserResult parserResult;
+        LibraryVersion fileVersion = getLibraryVersion(library);
+        // Includes the changes not yet written to the file
+        LibraryVersion version = libraryCache.getVersion(library, fileVersion);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(version.getLastModifiedDate(), version.getEntityTag(variant));
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        CachedLibrary cachedLibrary;
         try {
-            parserResult = bibtexImporter.importDatabase(library);
+            cachedLibrary = libraryCache.get(library, fileVersion, preferences.getImportFormatPreferences());
         } catch (IOException e) {
             LOGGER.warn("Could not find open library file {}", library, e);
             throw new InternalServerErrorException("Could not parse library", e);
         }
-        return parserResult;
+        // The library may have been changed in the meantime
+        version = cachedLibrary.getVersion();
+        return Response.ok(entityFactory.apply(cachedLibrary))
+                       .tag(version.getEntityTag(variant))
+                       .lastModified(version.getLastModifiedDate())
+                       .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                       .build();
+    }
+
+    private LibraryVersion getLibraryVersion(java.nio.file.Path library) {
+        try {
+            return LibraryVersion.of(library);
+        } catch (IOException e) {
+            LOGGER.error("Could not read library {}", library, e);
+            throw new InternalServerErrorException("Could not read library " + library, e);
+        }
+    }
+
+    private java.nio.file.Path getLibraryPath(String id) {
+        return filesToServe.getFileToServe(id)
+                           .orElseThrow(NotFoundException::new);
+    }
+
+    private java.nio.file.Path getEditableLibraryPath(String id) {
+        if ("demo".equals(id)) {
+            throw new BadRequestException("The demo library cannot be changed");
+        }
+        return getLibraryPath(id);
+    }
+
+    private ParserResult getDemoParserResult() throws IOException {
+        BibtexImporter bibtexImporter = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor());
+        try (InputStream chocolateBibInputStream = getChocolateBibAsStream()) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(chocolateBibInputStream, StandardCharsets.UTF_8));
+            return bibtexImporter.importDatabase(reader);
+        }
+    }
+
+    private record SearchStatistics(String query, long searchTimeMillis) {
+    }
+
+    /// @param fields the new values of the fields by field name. A value of `null` removes the field.
+    private record EntryUpdate(Integer version, Map<String, String> fields) {
     }
 
     /// @return a stream to the Chocolate.bib file in the classpath (is null only if the file was moved or there are issues with the classpath)
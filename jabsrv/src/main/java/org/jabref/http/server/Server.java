@@ -1,24 +1,36 @@
 package org.jabref.http.server;
 
+import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.Executors;
 
 import javax.net.ssl.SSLContext;
 
 import org.jabref.http.dto.GlobalExceptionMapper;
 import org.jabref.http.dto.GsonFactory;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryCache;
+import org.jabref.http.server.services.LibraryEditor;
+import org.jabref.http.server.services.SearchIndexes;
 import org.jabref.logic.os.OS;
+import org.jabref.logic.preferences.CliPreferences;
 
+import com.google.gson.Gson;
+import jakarta.ws.rs.ProcessingException;
 import net.harawata.appdirs.AppDirsFactory;
 import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
 import org.glassfish.grizzly.ssl.SSLContextConfigurator;
-import org.glassfish.hk2.api.ServiceLocator;
-import org.glassfish.hk2.utilities.ServiceLocatorUtilities;
+import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
 import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
+import org.glassfish.jersey.message.GZipEncoder;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.filter.EncodingFilter;
 import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,8 +38,12 @@ import org.slf4j.LoggerFactory;
 public class Server {
     private static final Logger LOGGER = LoggerFactory.getLogger(Server.class);
 
-    /// TODO: Use an observable list of BibDatabaseContexts
     public HttpServer run(List<Path> files, URI uri) {
+        return run(files, uri, ServerConfiguration.getDefault());
+    }
+
+    /// TODO: Use an observable list of BibDatabaseContexts
+    public HttpServer run(List<Path> files, URI uri, ServerConfiguration configuration) {
         List filesToServe;
         if (files == null || files.isEmpty()) {
             LOGGER.debug("No library available to serve, serving the demo library...");
@@ -45,10 +61,14 @@ public class Server {
         FilesToServe filesToServeService = new FilesToServe();
         filesToServeService.setFilesToServe(filesToServe);
 
-        return startServer(filesToServeService, uri);
+        return startServer(filesToServeService, uri, configuration);
     }
 
-    private HttpServer startServer(ServiceLocator serviceLocator, URI uri) {
+    private HttpServer startServer(FilesToServe filesToServe, URI uri, ServerConfiguration configuration) {
+        LibraryCache libraryCache = new LibraryCache();
+        LibraryEditor libraryEditor = new LibraryEditor(libraryCache);
+        SearchIndexes searchIndexes = new SearchIndexes();
+
         // see https://stackoverflow.com/a/33794265/873282
         final ResourceConfig resourceConfig = new ResourceConfig();
         // TODO: Add SSL
@@ -57,27 +77,44 @@ public class Server {
         resourceConfig.register(LibraryResource.class);
         resourceConfig.register(CORSFilter.class);
         resourceConfig.register(GlobalExceptionMapper.class);
+        // Compresses responses if the client sends "Accept-Encoding: gzip"
+        EncodingFilter.enableFor(resourceConfig, GZipEncoder.class);
+        if (configuration.executionModel() == ServerConfiguration.ExecutionModel.VIRTUAL_THREADS) {
+            // Virtual threads are not pooled, thus the number of requests is limited here
+            resourceConfig.register(new ConcurrencyLimitFilter(configuration.maxQueuedRequests()));
+        }
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bindFactory(new GsonFactory()).to(Gson.class);
+                bindFactory(new PreferencesFactory()).to(CliPreferences.class);
+                bind(filesToServe).to(FilesToServe.class);
+                bind(libraryCache).to(LibraryCache.class);
+                bind(libraryEditor).to(LibraryEditor.class);
+                bind(searchIndexes).to(SearchIndexes.class);
+            }
+        });
 
-        LOGGER.debug("Starting server...");
-        final HttpServer httpServer =
-                GrizzlyHttpServerFactory
-                        .createHttpServer(uri, resourceConfig, serviceLocator);
-        return httpServer;
-    }
-
-    private HttpServer startServer(FilesToServe filesToServe, URI uri) {
-        ServiceLocator serviceLocator = ServiceLocatorUtilities.createAndPopulateServiceLocator();
-        ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new GsonFactory());
-        ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new PreferencesFactory());
-        ServiceLocatorUtilities.addOneConstant(serviceLocator, filesToServe);
-
-        final HttpServer httpServer = startServer(serviceLocator, uri);
+        LOGGER.debug("Starting server with {}...", configuration);
+        // The server is started after the worker threads are configured
+        final HttpServer httpServer = GrizzlyHttpServerFactory.createHttpServer(uri, resourceConfig, false);
+        for (NetworkListener listener : httpServer.getListeners()) {
+            configureWorkerThreads(listener.getTransport(), configuration);
+        }
+        try {
+            httpServer.start();
+        } catch (IOException e) {
+            throw new ProcessingException("Could not start server at " + uri, e);
+        }
 
         // TODO: Enable use of GUI StateManager
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             try {
                 System.out.println("Shutting down jabsrv...");
                 httpServer.shutdownNow();
+                // Writes the changes made within the last second
+                libraryEditor.close();
+                searchIndexes.close();
                 System.out.println("Done, exit.");
             } catch (Exception e) {
                 LOGGER.error("Could not shut down server", e);
@@ -87,6 +124,19 @@ public class Server {
         return httpServer;
     }
 
+    private static void configureWorkerThreads(TCPNIOTransport transport, ServerConfiguration configuration) {
+        switch (configuration.executionModel()) {
+            case VIRTUAL_THREADS ->
+                    transport.setWorkerThreadPool(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jabsrv-", 0).factory()));
+            case WORKER_POOL ->
+                    transport.setWorkerThreadPoolConfig(ThreadPoolConfig.defaultConfig()
+                                                                        .setPoolName("jabsrv-worker")
+                                                                        .setCorePoolSize(configuration.workerThreads())
+                                                                        .setMaxPoolSize(configuration.workerThreads())
+                                                                        .setQueueLimit(configuration.maxQueuedRequests()));
+        }
+    }
+
     private boolean sslCertExists() {
         Path serverKeyStore = getSslCert();
         return Files.exists(serverKeyStore);
@@ -0,0 +1,35 @@
+package org.jabref.http.server;
+
+/// Configures how the server executes requests.
+///
+/// @param executionModel     the threads handling the requests
+/// @param workerThreads      the number of worker threads of {@link ExecutionModel#WORKER_POOL}
+/// @param maxQueuedRequests  the number of requests accepted while all workers are busy. For
+///                           {@link ExecutionModel#VIRTUAL_THREADS}, this is the number of requests handled at the same
+///                           time. Further requests are rejected with `503 Service Unavailable`.
+public record ServerConfiguration(
+        ExecutionModel executionModel,
+        int workerThreads,
+        int maxQueuedRequests) {
+
+    public enum ExecutionModel {
+        /// Each request is handled by a new virtual thread. Requests blocking on file access or parsing do not block other requests.
+        VIRTUAL_THREADS,
+
+        /// The requests are handled by a fixed number of platform threads, further requests are queued.
+        WORKER_POOL
+    }
+
+    public ServerConfiguration {
+        if (workerThreads < 1) {
+            throw new IllegalArgumentException("workerThreads must be positive");
+        }
+        if (maxQueuedRequests < 1) {
+            throw new IllegalArgumentException("maxQueuedRequests must be positive");
+        }
+    }
+
+    public static ServerConfiguration getDefault() {
+        return new ServerConfiguration(ExecutionModel.VIRTUAL_THREADS, Runtime.getRuntime().availableProcessors() * 2, 1000);
+    }
+}
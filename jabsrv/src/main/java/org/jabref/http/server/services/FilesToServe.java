@@ -1,7 +1,12 @@
 package org.jabref.http.server.services;
 
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.util.io.BackupFileUtil;
 
 import jakarta.inject.Singleton;
 
@@ -9,11 +14,30 @@ import jakarta.inject.Singleton;
 public class FilesToServe {
     private List<Path> filesToServe;
 
+    /// The files to serve by their id. The ids are computed once, as they are looked up in every request.
+    private Map<String, Path> filesToServeById = Map.of();
+
     public void setFilesToServe(List<Path> filesToServe) {
+        Map<String, Path> filesById = new LinkedHashMap<>();
+        filesToServe.forEach(path -> filesById.put(getId(path), path));
         this.filesToServe = filesToServe;
+        this.filesToServeById = filesById;
     }
 
     public List<Path> getFilesToServe() {
         return filesToServe;
     }
+
+    /// @return the ids of the files to serve, in the order of the files
+    public List<String> getIds() {
+        return List.copyOf(filesToServeById.keySet());
+    }
+
+    public Optional<Path> getFileToServe(String id) {
+        return Optional.ofNullable(filesToServeById.get(id));
+    }
+
+    private static String getId(Path path) {
+        return path.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(path);
+    }
 }
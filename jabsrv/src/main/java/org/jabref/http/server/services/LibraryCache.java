@@ -0,0 +1,181 @@
+package org.jabref.http.server.services;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import com.google.common.base.Suppliers;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.core.EntityTag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Caches the parsed libraries and their serialized representations, so that a library is parsed and serialized
+/// once per change of the file and not on every request.
+///
+/// A cached library is bound to the modification time and the size of its file ({@link LibraryVersion}). If either
+/// changed, the library is parsed again on the next request. Changes made through the server ({@link LibraryEditor})
+/// are applied to the cached library and increase its revision. The version also serves as validator for conditional
+/// requests.
+@Singleton
+public class LibraryCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryCache.class);
+
+    private final Map<Path, CachedLibrary> libraries = new ConcurrentHashMap<>();
+
+    /// @param fileVersion the current version of the file, see {@link LibraryVersion#of(Path)}
+    /// @return the version of the library as served. This is the version of the cached library if it was parsed from the
+    ///         given version of the file, as it includes the changes not yet written to the file.
+    public LibraryVersion getVersion(Path library, LibraryVersion fileVersion) {
+        CachedLibrary cachedLibrary = libraries.get(library);
+        if ((cachedLibrary != null) && cachedLibrary.getVersion().hasSameFile(fileVersion)) {
+            return cachedLibrary.getVersion();
+        }
+        return fileVersion;
+    }
+
+    /// @param fileVersion the current version of the file, see {@link LibraryVersion#of(Path)}
+    /// @return the parsed library. The library is parsed only if the cached one was parsed from another version of the file.
+    public CachedLibrary get(Path library, LibraryVersion fileVersion, ImportFormatPreferences importFormatPreferences) throws IOException {
+        CachedLibrary cachedLibrary = libraries.get(library);
+        if ((cachedLibrary != null) && cachedLibrary.getVersion().hasSameFile(fileVersion)) {
+            return cachedLibrary;
+        }
+        try {
+            // compute blocks concurrent requests for the same library until it is parsed, so that it is parsed only once
+            return libraries.compute(library, (path, current) -> {
+                if ((current != null) && current.getVersion().hasSameFile(fileVersion)) {
+                    return current;
+                }
+                if ((current != null) && (current.getVersion().revision() > 0)) {
+                    LOGGER.warn("Library {} was changed by another program. Changes not yet written to the file are discarded.", path);
+                }
+                try {
+                    BibtexImporter bibtexImporter = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor());
+                    return new CachedLibrary(path, fileVersion, bibtexImporter.importDatabase(path));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /// Registers a change of the given library. The cached representations of the library are discarded.
+    /// Must be called after the parsed library was changed, while no other change is made.
+    ///
+    /// @return the library with the next revision
+    public CachedLibrary revise(CachedLibrary cachedLibrary) {
+        LibraryVersion version = cachedLibrary.getVersion();
+        return replace(cachedLibrary, new LibraryVersion(version.lastModified(), version.size(), version.revision() + 1));
+    }
+
+    /// Registers that the given library was written to its file, so that the library is not parsed again.
+    /// Must be called after the file was written, while no other change is made.
+    ///
+    /// @param fileVersion the version of the written file
+    public CachedLibrary saved(CachedLibrary cachedLibrary, LibraryVersion fileVersion) {
+        return replace(cachedLibrary, new LibraryVersion(fileVersion.lastModified(), fileVersion.size(), cachedLibrary.getVersion().revision()));
+    }
+
+    private CachedLibrary replace(CachedLibrary cachedLibrary, LibraryVersion version) {
+        CachedLibrary revised = new CachedLibrary(cachedLibrary.getLibrary(), version, cachedLibrary.getParserResult());
+        libraries.put(cachedLibrary.getLibrary(), revised);
+        return revised;
+    }
+
+    /// The state of a library. The file is considered unchanged as long as the modification time and the size are equal.
+    ///
+    /// @param revision the number of changes made to the parsed library since it was parsed from the file
+    public record LibraryVersion(long lastModified, long size, long revision) {
+
+        public static LibraryVersion of(Path library) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(library, BasicFileAttributes.class);
+            return new LibraryVersion(attributes.lastModifiedTime().toMillis(), attributes.size(), 0);
+        }
+
+        public boolean hasSameFile(LibraryVersion other) {
+            return (lastModified == other.lastModified) && (size == other.size);
+        }
+
+        public Date getLastModifiedDate() {
+            return new Date(lastModified);
+        }
+
+        /// @param mediaType the media type of the representation, as each representation needs its own entity tag
+        public EntityTag getEntityTag(String mediaType) {
+            return new EntityTag(Long.toHexString(lastModified) + "-" + Long.toHexString(size) + "-" + Long.toHexString(revision) + "-" + Integer.toHexString(mediaType.hashCode()));
+        }
+    }
+
+    public static class CachedLibrary {
+        private final Path library;
+        private final LibraryVersion version;
+        private final ParserResult parserResult;
+        private final List<BibEntry> entries;
+        private final Map<String, String> representations = new ConcurrentHashMap<>();
+        private final Supplier<Map<String, BibEntry>> entriesByCitationKey;
+
+        private CachedLibrary(Path library, LibraryVersion version, ParserResult parserResult) {
+            this.library = library;
+            this.version = version;
+            this.parserResult = parserResult;
+            // Requests may still read this revision while the next one is made
+            this.entries = List.copyOf(parserResult.getDatabase().getEntries());
+            this.entriesByCitationKey = Suppliers.memoize(() -> indexByCitationKey(entries));
+        }
+
+        public Path getLibrary() {
+            return library;
+        }
+
+        public LibraryVersion getVersion() {
+            return version;
+        }
+
+        public ParserResult getParserResult() {
+            return parserResult;
+        }
+
+        /// @return the entries of this revision of the library
+        public List<BibEntry> getEntries() {
+            return entries;
+        }
+
+        /// @return the representation of the library in the given media type. It is serialized on the first call only.
+        public String getRepresentation(String mediaType, Function<ParserResult, String> serializer) {
+            return representations.computeIfAbsent(mediaType, _ -> serializer.apply(parserResult));
+        }
+
+        /// @return the first entry with the given citation key. The index of the citation keys is built on the first call.
+        public Optional<BibEntry> getEntryByCitationKey(String citationKey) {
+            return Optional.ofNullable(entriesByCitationKey.get().get(citationKey));
+        }
+
+        private static Map<String, BibEntry> indexByCitationKey(List<BibEntry> entries) {
+            Map<String, BibEntry> entriesByCitationKey = new HashMap<>();
+            for (BibEntry entry : entries) {
+                entry.getCitationKey().ifPresent(citationKey -> entriesByCitationKey.putIfAbsent(citationKey, entry));
+            }
+            return entriesByCitationKey;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package org.jabref.http.server.services;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.jabref.http.server.services.LibraryCache.CachedLibrary;
+import org.jabref.http.server.services.LibraryCache.LibraryVersion;
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibDatabaseWriter;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.metadata.SelfContainedSaveOrder;
+
+import com.airhacks.afterburner.injection.Injector;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Applies changes to the served libraries and writes them to the library files.
+///
+/// A change is applied to the library parsed by the {@link LibraryCache}, so that the following requests see it
+/// immediately. The file is written after a delay: all changes made until then are written at once, so that many
+/// small changes do not lead to as many rewrites of the file. The library is written without reformatting, thus
+/// unchanged entries are written as they were read and only the changed entries are serialized again.
+///
+/// Changes of a library are applied one after another. If the file is changed by another program before the changes
+/// are written, the changes are discarded and the file is parsed again.
+@Singleton
+public class LibraryEditor implements AutoCloseable {
+
+    public static final Duration DEFAULT_WRITE_DELAY = Duration.ofSeconds(1);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryEditor.class);
+
+    private final LibraryCache libraryCache;
+    private final Duration writeDelay;
+    private final ScheduledExecutorService writeExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("jabsrv-library-writer").daemon().factory());
+
+    // One lock per library. Changes and writes of a library hold the lock.
+    private final Map<Path, Object> locks = new ConcurrentHashMap<>();
+
+    // The libraries with changes not yet written, with the preferences to write them
+    private final Map<Path, CliPreferences> pendingWrites = new ConcurrentHashMap<>();
+
+    public LibraryEditor(LibraryCache libraryCache) {
+        this(libraryCache, DEFAULT_WRITE_DELAY);
+    }
+
+    /// @param writeDelay the time between the first change of a library and writing the library file
+    public LibraryEditor(LibraryCache libraryCache, Duration writeDelay) {
+        this.libraryCache = libraryCache;
+        this.writeDelay = writeDelay;
+    }
+
+    /// Applies a change to the given library and schedules writing the library file.
+    ///
+    /// The change is run as batched update ({@link org.jabref.model.database.BibDatabase#runBatchedUpdate(Runnable)}).
+    /// If it throws an exception, the library is considered unchanged. Thus, a change should check its preconditions
+    /// before modifying the library.
+    ///
+    /// @return the result of the change
+    public <T> T edit(Path library, CliPreferences preferences, Function<BibDatabaseContext, T> change) throws IOException {
+        synchronized (getLock(library)) {
+            CachedLibrary cachedLibrary = libraryCache.get(library, LibraryVersion.of(library), preferences.getImportFormatPreferences());
+            BibDatabaseContext databaseContext = cachedLibrary.getParserResult().getDatabaseContext();
+
+            AtomicReference<T> result = new AtomicReference<>();
+            databaseContext.getDatabase().runBatchedUpdate(() -> result.set(change.apply(databaseContext)));
+
+            libraryCache.revise(cachedLibrary);
+            if (pendingWrites.put(library, preferences) == null) {
+                writeExecutor.schedule(() -> write(library), writeDelay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return result.get();
+        }
+    }
+
+    /// Writes all changed libraries now
+    public void flush() {
+        pendingWrites.keySet().forEach(this::write);
+    }
+
+    /// Writes the changes of the given library now, if there are any
+    public void flush(Path library) {
+        write(library);
+    }
+
+    @Override
+    public void close() {
+        writeExecutor.shutdownNow();
+        flush();
+    }
+
+    private void write(Path library) {
+        synchronized (getLock(library)) {
+            CliPreferences preferences = pendingWrites.remove(library);
+            if (preferences == null) {
+                // Already written by flush()
+                return;
+            }
+            try {
+                CachedLibrary cachedLibrary = libraryCache.get(library, LibraryVersion.of(library), preferences.getImportFormatPreferences());
+                write(cachedLibrary.getParserResult().getDatabaseContext(), library, preferences);
+                libraryCache.saved(cachedLibrary, LibraryVersion.of(library));
+                LOGGER.debug("Wrote library {}", library);
+            } catch (IOException e) {
+                LOGGER.error("Could not write library {}", library, e);
+            }
+        }
+    }
+
+    private static void write(BibDatabaseContext databaseContext, Path library, CliPreferences preferences) throws IOException {
+        Charset encoding = databaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
+        // The library is not reformatted, so that the unchanged entries keep their serialization
+        SelfContainedSaveConfiguration saveConfiguration = new SelfContainedSaveConfiguration(
+                getSaveOrder(databaseContext), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, false);
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(library, encoding)) {
+            BibWriter bibWriter = new BibWriter(fileWriter, databaseContext.getDatabase().getNewLineSeparator());
+            BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(
+                    bibWriter,
+                    saveConfiguration,
+                    preferences.getFieldPreferences(),
+                    preferences.getCitationKeyPatternPreferences(),
+                    Injector.instantiateModelOrService(BibEntryTypesManager.class));
+            databaseWriter.saveDatabase(databaseContext);
+
+            if (fileWriter.hasEncodingProblems()) {
+                LOGGER.warn("{} could not encode the following characters of library {}: {}", encoding.displayName(), library, fileWriter.getEncodingProblems());
+            }
+        }
+    }
+
+    private static SelfContainedSaveOrder getSaveOrder(BibDatabaseContext databaseContext) {
+        // The order of the main table is not known to the server
+        return databaseContext.getMetaData().getSaveOrder()
+                              .filter(saveOrder -> saveOrder.getOrderType() != SaveOrder.OrderType.TABLE)
+                              .map(SelfContainedSaveOrder::of)
+                              .orElse(SaveOrder.getDefaultSaveOrder());
+    }
+
+    private Object getLock(Path library) {
+        return locks.computeIfAbsent(library, _ -> new Object());
+    }
+}
@@ -0,0 +1,114 @@
+package org.jabref.http.server.services;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.beans.property.SimpleBooleanProperty;
+
+import org.jabref.http.server.services.LibraryCache.CachedLibrary;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.search.IndexManager;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.search.query.SearchQuery;
+
+import com.google.common.eventbus.Subscribe;
+import jakarta.inject.Singleton;
+
+/// Keeps a search index of each served library, so that a search does not have to index the library first.
+///
+/// The index of a library is built on its first search. Only the fields of the entries are indexed, not the content of
+/// their linked files. Changes made through the server are applied to the index. If the file was changed by another
+/// program, the first search afterwards builds the index of the new version. The embedded database is started on the
+/// first search only, as starting it takes some seconds.
+@Singleton
+public class SearchIndexes implements AutoCloseable {
+
+    private final Map<Path, IndexedLibrary> indexes = new ConcurrentHashMap<>();
+
+    private PostgreServer postgreServer;
+
+    /// @return the matching entries in the order they appear in the library
+    public List<BibEntry> search(CachedLibrary cachedLibrary, SearchQuery query, CliPreferences preferences) {
+        IndexManager indexManager = indexes.compute(cachedLibrary.getLibrary(), (path, indexed) -> {
+            // All revisions of a library share the parsed library. Changes of the parsed library are applied to the index.
+            if ((indexed != null) && (indexed.parserResult() == cachedLibrary.getParserResult())) {
+                return indexed;
+            }
+            if (indexed != null) {
+                indexed.close();
+            }
+            // The CurrentThreadTaskExecutor indexes the library before the IndexManager is returned. The content of linked
+            // files is not indexed, as extracting the text of all PDFs would block the first search for minutes.
+            BibDatabaseContext databaseContext = cachedLibrary.getParserResult().getDatabaseContext();
+            IndexManager newIndexManager = new IndexManager(databaseContext, new CurrentThreadTaskExecutor(), preferences, getPostgreServer(), new SimpleBooleanProperty(false));
+            IndexUpdateListener indexUpdateListener = new IndexUpdateListener(newIndexManager);
+            databaseContext.getDatabase().registerListener(indexUpdateListener);
+            return new IndexedLibrary(cachedLibrary.getParserResult(), newIndexManager, indexUpdateListener);
+        }).indexManager();
+
+        Set<String> matchedEntries = indexManager.search(query).getMatchedEntries();
+        return cachedLibrary.getEntries().stream()
+                            .filter(entry -> matchedEntries.contains(entry.getId()))
+                            .toList();
+    }
+
+    private synchronized PostgreServer getPostgreServer() {
+        if (postgreServer == null) {
+            IndexManager.clearOldSearchIndices();
+            postgreServer = new PostgreServer();
+        }
+        return postgreServer;
+    }
+
+    @Override
+    public synchronized void close() {
+        indexes.values().forEach(IndexedLibrary::close);
+        indexes.clear();
+        if (postgreServer != null) {
+            postgreServer.shutdown();
+            postgreServer = null;
+        }
+    }
+
+    private record IndexedLibrary(ParserResult parserResult, IndexManager indexManager, IndexUpdateListener indexUpdateListener) {
+        void close() {
+            parserResult.getDatabase().unregisterListener(indexUpdateListener);
+            indexManager.closeAndWait();
+        }
+    }
+
+    /// Applies the changes made by the {@link LibraryEditor} to the index
+    private record IndexUpdateListener(IndexManager indexManager) {
+
+        @Subscribe
+        public void listen(EntriesAddedEvent addedEntryEvent) {
+            indexManager.addToIndex(addedEntryEvent.getBibEntries());
+        }
+
+        @Subscribe
+        public void listen(EntriesRemovedEvent removedEntriesEvent) {
+            indexManager.removeFromIndex(removedEntriesEvent.getBibEntries());
+        }
+
+        @Subscribe
+        public void listen(FieldChangedEvent fieldChangedEvent) {
+            indexManager.updateEntry(fieldChangedEvent);
+        }
+
+        @Subscribe
+        public void listen(EntriesChangedEvent entriesChangedEvent) {
+            indexManager.updateEntries(entriesChangedEvent);
+        }
+    }
+}
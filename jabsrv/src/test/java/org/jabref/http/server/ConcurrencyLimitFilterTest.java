@@ -0,0 +1,74 @@
+package org.jabref.http.server;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitFilterTest {
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1);
+
+    @Test
+    void requestExceedingLimitIsRejectedWithRetryAfter() {
+        filter.filter(mock(ContainerRequestContext.class));
+        ContainerRequestContext rejectedRequest = mock(ContainerRequestContext.class);
+
+        filter.filter(rejectedRequest);
+
+        ArgumentCaptor<Response> response = ArgumentCaptor.forClass(Response.class);
+        verify(rejectedRequest).abortWith(response.capture());
+        verify(rejectedRequest, never()).setProperty(anyString(), any());
+        assertEquals(503, response.getValue().getStatus());
+        assertEquals("1", response.getValue().getHeaderString(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void permitIsReleasedWhenRequestIsFinished() {
+        ContainerRequest request = mock(ContainerRequest.class);
+        filter.filter(request);
+        when(request.getProperty(anyString())).thenReturn(Boolean.TRUE);
+
+        // The response filters ran, but a streamed response is still being written
+        filter.onRequest(mock(RequestEvent.class)).onEvent(createEvent(RequestEvent.Type.RESP_FILTERS_FINISHED, request));
+        ContainerRequestContext rejectedRequest = mock(ContainerRequestContext.class);
+        filter.filter(rejectedRequest);
+        verify(rejectedRequest).abortWith(any());
+
+        filter.onRequest(mock(RequestEvent.class)).onEvent(createEvent(RequestEvent.Type.FINISHED, request));
+        ContainerRequestContext acceptedRequest = mock(ContainerRequestContext.class);
+        filter.filter(acceptedRequest);
+        verify(acceptedRequest, never()).abortWith(any());
+    }
+
+    @Test
+    void rejectedRequestDoesNotReleasePermit() {
+        filter.filter(mock(ContainerRequestContext.class));
+        ContainerRequest rejectedRequest = mock(ContainerRequest.class);
+        filter.filter(rejectedRequest);
+
+        filter.onRequest(mock(RequestEvent.class)).onEvent(createEvent(RequestEvent.Type.FINISHED, rejectedRequest));
+
+        ContainerRequestContext nextRequest = mock(ContainerRequestContext.class);
+        filter.filter(nextRequest);
+        verify(nextRequest).abortWith(any());
+    }
+
+    private static RequestEvent createEvent(RequestEvent.Type type, ContainerRequest request) {
+        RequestEvent event = mock(RequestEvent.class);
+        when(event.getType()).thenReturn(type);
+        when(event.getContainerRequest()).thenReturn(request);
+        return event;
+    }
+}
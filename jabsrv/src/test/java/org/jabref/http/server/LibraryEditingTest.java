@@ -0,0 +1,208 @@
+package org.jabref.http.server;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import org.jabref.http.JabrefMediaType;
+import org.jabref.http.server.services.LibraryCache;
+import org.jabref.http.server.services.LibraryEditor;
+import org.jabref.logic.util.io.BackupFileUtil;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LibraryEditingTest extends ServerTest {
+
+    // configure() is called by the constructor of JerseyTest, thus the instances cannot be fields
+    private static final LibraryCache LIBRARY_CACHE = new LibraryCache();
+    private static final LibraryEditor LIBRARY_EDITOR = new LibraryEditor(LIBRARY_CACHE);
+
+    private static final String NEW_ENTRY = """
+            @Article{New2024,
+              author = {New Author},
+              title  = {New Title},
+            }
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private Path library;
+    private String libraryPath;
+    private String entriesPath;
+
+    @Override
+    protected Application configure() {
+        ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class);
+        addFilesToServeToResourceConfig(resourceConfig);
+        addLibraryEditorToResourceConfig(resourceConfig, LIBRARY_CACHE, LIBRARY_EDITOR);
+        addSearchIndexesToResourceConfig(resourceConfig);
+        addPreferencesToResourceConfig(resourceConfig);
+        addGsonToResourceConfig(resourceConfig);
+        addGlobalExceptionMapperToResourceConfig(resourceConfig);
+        return resourceConfig.getApplication();
+    }
+
+    @BeforeEach
+    void copyLibrary() throws IOException {
+        library = tempDir.resolve("library.bib");
+        Files.copy(TestBibFile.GENERAL_SERVER_TEST.path, library);
+        setAvailableLibraries(List.of(library));
+        libraryPath = "libraries/" + library.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(library);
+        entriesPath = libraryPath + "/entries";
+    }
+
+    @AfterEach
+    void writeChanges() {
+        // The library must be written before the temporary directory is deleted
+        LIBRARY_EDITOR.flush();
+    }
+
+    @Test
+    void addedEntriesAreServedAndWritten() throws IOException {
+        Response response = target(entriesPath).request(MediaType.APPLICATION_JSON).post(Entity.entity(NEW_ENTRY, JabrefMediaType.BIBTEX));
+        assertEquals(201, response.getStatus());
+        assertEquals(200, target(entriesPath + "/New2024").request(MediaType.APPLICATION_JSON).get().getStatus());
+
+        LIBRARY_EDITOR.flush();
+
+        String writtenLibrary = Files.readString(library);
+        assertTrue(writtenLibrary.contains("@Article{New2024,"));
+        // The unchanged entry is written as it was read
+        assertTrue(writtenLibrary.contains("""
+                @Misc{Author2023test,
+                  author = {Demo Author},
+                  title  = {Demo Title},
+                  year   = {2023},
+                }"""));
+    }
+
+    @Test
+    void addingEntryWithUsedCitationKeyConflicts() {
+        Response response = target(entriesPath).request(MediaType.APPLICATION_JSON).post(Entity.entity("""
+                @Misc{Author2023test,
+                  title = {Other Title},
+                }
+                """, JabrefMediaType.BIBTEX));
+
+        assertEquals(409, response.getStatus());
+        JsonObject page = JsonParser.parseString(target(entriesPath).request(MediaType.APPLICATION_JSON).get(String.class)).getAsJsonObject();
+        assertEquals(1, page.get("total").getAsInt());
+    }
+
+    @Test
+    void updateChangesVersion() throws IOException, InterruptedException {
+        int version = getVersion("Author2023test");
+
+        HttpResponse<String> response = patch("Author2023test", """
+                {"version": %d, "fields": {"title": "Changed Title", "year": null}}""".formatted(version));
+        assertEquals(200, response.statusCode());
+
+        JsonObject entry = JsonParser.parseString(response.body()).getAsJsonObject();
+        assertNotEquals(version, entry.getAsJsonObject("sharingMetadata").get("version").getAsInt());
+        assertEquals(getVersion("Author2023test"), entry.getAsJsonObject("sharingMetadata").get("version").getAsInt());
+        assertTrue(entry.get("bibtex").getAsString().contains("Changed Title"));
+
+        LIBRARY_EDITOR.flush();
+
+        String writtenLibrary = Files.readString(library);
+        assertTrue(writtenLibrary.contains("Changed Title"));
+        assertFalse(writtenLibrary.contains("year"));
+    }
+
+    @Test
+    void updateOfOutdatedVersionConflicts() throws IOException, InterruptedException {
+        int version = getVersion("Author2023test");
+        assertEquals(200, patch("Author2023test", """
+                {"version": %d, "fields": {"title": "First"}}""".formatted(version)).statusCode());
+
+        HttpResponse<String> response = patch("Author2023test", """
+                {"version": %d, "fields": {"title": "Second"}}""".formatted(version));
+
+        assertEquals(409, response.statusCode());
+        assertTrue(JsonParser.parseString(response.body()).getAsJsonObject().get("bibtex").getAsString().contains("First"));
+    }
+
+    @Test
+    void versionIsKeptWhenLibraryIsParsedAgain() throws IOException, InterruptedException {
+        int version = getVersion("Author2023test");
+        // The library is parsed again as the file seems to be changed
+        Files.setLastModifiedTime(library, FileTime.from(Instant.now().plusSeconds(60)));
+
+        assertEquals(200, patch("Author2023test", """
+                {"version": %d, "fields": {"title": "Changed Title"}}""".formatted(version)).statusCode());
+    }
+
+    @Test
+    void bibtexContainsChangesNotYetWritten() throws IOException, InterruptedException {
+        assertEquals(200, patch("Author2023test", """
+                {"version": %d, "fields": {"title": "Changed Title"}}""".formatted(getVersion("Author2023test"))).statusCode());
+
+        assertTrue(target(libraryPath).request(JabrefMediaType.BIBTEX).get(String.class).contains("Changed Title"));
+    }
+
+    @Test
+    void searchFindsUpdatedEntry() throws IOException, InterruptedException {
+        // The first search builds the index, which is then updated by the change
+        assertEquals(1, search("title=demo").get("total").getAsInt());
+
+        assertEquals(200, patch("Author2023test", """
+                {"version": %d, "fields": {"title": "Changed Title"}}""".formatted(getVersion("Author2023test"))).statusCode());
+
+        assertEquals(0, search("title=demo").get("total").getAsInt());
+        assertEquals(1, search("title=changed").get("total").getAsInt());
+    }
+
+    @Test
+    void deletedEntryIsNotFound() {
+        assertEquals(204, target(entriesPath + "/Author2023test").queryParam("version", getVersion("Author2023test")).request().delete().getStatus());
+        assertEquals(404, target(entriesPath + "/Author2023test").request(MediaType.APPLICATION_JSON).get().getStatus());
+    }
+
+    @Test
+    void deleteOfOutdatedVersionConflicts() {
+        assertEquals(409, target(entriesPath + "/Author2023test").queryParam("version", getVersion("Author2023test") + 1).request().delete().getStatus());
+    }
+
+    private int getVersion(String citationKey) {
+        String entry = target(entriesPath + "/" + citationKey).request(MediaType.APPLICATION_JSON).get(String.class);
+        return JsonParser.parseString(entry).getAsJsonObject().getAsJsonObject("sharingMetadata").get("version").getAsInt();
+    }
+
+    private JsonObject search(String query) {
+        return JsonParser.parseString(target(entriesPath).queryParam("q", query).request(MediaType.APPLICATION_JSON).get(String.class)).getAsJsonObject();
+    }
+
+    /// The client of JerseyTest does not support PATCH
+    private HttpResponse<String> patch(String citationKey, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(getBaseUri().resolve(entriesPath + "/" + citationKey))
+                                         .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                                         .header("Content-Type", MediaType.APPLICATION_JSON)
+                                         .header("Accept", MediaType.APPLICATION_JSON)
+                                         .build();
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        }
+    }
+}
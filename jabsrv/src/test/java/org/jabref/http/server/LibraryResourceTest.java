@@ -1,12 +1,23 @@
 package org.jabref.http.server;
 
+import java.util.EnumSet;
+
 import org.jabref.http.JabrefMediaType;
 
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LibraryResourceTest extends ServerTest {
 
@@ -14,6 +25,8 @@ class LibraryResourceTest extends ServerTest {
     protected Application configure() {
         ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class, LibrariesResource.class);
         addFilesToServeToResourceConfig(resourceConfig);
+        addLibraryCacheToResourceConfig(resourceConfig);
+        addSearchIndexesToResourceConfig(resourceConfig);
         addPreferencesToResourceConfig(resourceConfig);
         addGsonToResourceConfig(resourceConfig);
         return resourceConfig.getApplication();
@@ -37,4 +50,119 @@ class LibraryResourceTest extends ServerTest {
         assertEquals("""
                 [{"id":"Author2023test","type":"article","author":[{"family":"Author","given":"Demo"}],"event-date":{"date-parts":[[2023]]},"issued":{"date-parts":[[2023]]},"title":"Demo Title"}]""", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get(String.class));
     }
+
+    @Test
+    void notModifiedIfEntityTagMatches() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(MediaType.APPLICATION_JSON).get();
+        EntityTag entityTag = response.getEntityTag();
+        assertEquals(200, response.getStatus());
+        assertNotNull(entityTag);
+
+        Response conditionalResponse = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(MediaType.APPLICATION_JSON)
+                                                                                                  .header(HttpHeaders.IF_NONE_MATCH, entityTag.toString())
+                                                                                                  .get();
+        assertEquals(304, conditionalResponse.getStatus());
+    }
+
+    @Test
+    void representationsHaveDifferentEntityTags() {
+        EntityTag jsonEntityTag = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(MediaType.APPLICATION_JSON).get().getEntityTag();
+        EntityTag bibtexEntityTag = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.BIBTEX).get().getEntityTag();
+
+        assertNotEquals(jsonEntityTag, bibtexEntityTag);
+    }
+
+    @Test
+    void getEntriesReturnsPage() {
+        JsonObject page = JsonParser.parseString(target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("limit", 10)
+                .request(MediaType.APPLICATION_JSON)
+                .get(String.class)).getAsJsonObject();
+
+        assertEquals(0, page.get("offset").getAsInt());
+        assertEquals(10, page.get("limit").getAsInt());
+        assertEquals(1, page.get("total").getAsInt());
+        assertEquals("Author2023test", page.getAsJsonArray("entries").get(0).getAsJsonObject().get("citationKey").getAsString());
+    }
+
+    @Test
+    void getEntriesAfterLastEntryReturnsEmptyPage() {
+        JsonObject page = JsonParser.parseString(target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("offset", 5)
+                .request(MediaType.APPLICATION_JSON)
+                .get(String.class)).getAsJsonObject();
+
+        assertEquals(1, page.get("total").getAsInt());
+        assertEquals(0, page.getAsJsonArray("entries").size());
+    }
+
+    @Test
+    void getEntriesWithInvalidLimitIsBadRequest() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("limit", 0)
+                .request(MediaType.APPLICATION_JSON)
+                .get();
+
+        assertEquals(400, response.getStatus());
+    }
+
+    @Test
+    void getEntryByCitationKey() {
+        JsonObject entry = JsonParser.parseString(target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries/Author2023test")
+                .request(MediaType.APPLICATION_JSON)
+                .get(String.class)).getAsJsonObject();
+
+        assertEquals("Author2023test", entry.get("citationKey").getAsString());
+    }
+
+    @Test
+    void getEntryWithUnknownCitationKeyIsNotFound() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries/unknown")
+                .request(MediaType.APPLICATION_JSON)
+                .get();
+
+        assertEquals(404, response.getStatus());
+    }
+
+    @Test
+    void searchReturnsPageOfMatches() {
+        setAvailableLibraries(EnumSet.of(TestBibFile.SEARCH_SERVER_TEST));
+
+        JsonObject page = JsonParser.parseString(target("/libraries/" + TestBibFile.SEARCH_SERVER_TEST.id + "/entries")
+                .queryParam("q", "author=smith")
+                .queryParam("limit", 1)
+                .request(MediaType.APPLICATION_JSON)
+                .get(String.class)).getAsJsonObject();
+
+        assertEquals("author=smith", page.get("query").getAsString());
+        assertTrue(page.get("searchTimeMs").getAsLong() >= 0);
+        assertEquals(2, page.get("total").getAsInt());
+        assertEquals(1, page.getAsJsonArray("entries").size());
+        assertEquals("Smith2020", page.getAsJsonArray("entries").get(0).getAsJsonObject().get("citationKey").getAsString());
+    }
+
+    @Test
+    void searchReturnsFurtherPagesOfMatches() {
+        setAvailableLibraries(EnumSet.of(TestBibFile.SEARCH_SERVER_TEST));
+
+        JsonObject page = JsonParser.parseString(target("/libraries/" + TestBibFile.SEARCH_SERVER_TEST.id + "/entries")
+                .queryParam("q", "author=smith")
+                .queryParam("offset", 1)
+                .queryParam("limit", 1)
+                .request(MediaType.APPLICATION_JSON)
+                .get(String.class)).getAsJsonObject();
+
+        assertEquals(2, page.get("total").getAsInt());
+        assertEquals("Smith2022", page.getAsJsonArray("entries").get(0).getAsJsonObject().get("citationKey").getAsString());
+    }
+
+    @Test
+    void getEntriesWithInvalidQueryIsBadRequest() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("q", "author=smith AND (")
+                .request(MediaType.APPLICATION_JSON)
+                .get();
+
+        assertEquals(400, response.getStatus());
+    }
 }
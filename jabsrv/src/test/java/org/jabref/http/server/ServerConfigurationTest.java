@@ -0,0 +1,26 @@
+package org.jabref.http.server;
+
+import org.jabref.http.server.ServerConfiguration.ExecutionModel;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ServerConfigurationTest {
+
+    @Test
+    void defaultConfigurationIsValid() {
+        assertDoesNotThrow(ServerConfiguration::getDefault);
+    }
+
+    @Test
+    void workerThreadsMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ServerConfiguration(ExecutionModel.WORKER_POOL, 0, 10));
+    }
+
+    @Test
+    void maxQueuedRequestsMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ServerConfiguration(ExecutionModel.VIRTUAL_THREADS, 4, 0));
+    }
+}
@@ -1,12 +1,19 @@
 package org.jabref.http.server;
 
+import java.nio.file.Path;
 import java.util.EnumSet;
 import java.util.List;
 
 import org.jabref.http.dto.GlobalExceptionMapper;
 import org.jabref.http.dto.GsonFactory;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryCache;
+import org.jabref.http.server.services.LibraryEditor;
+import org.jabref.http.server.services.SearchIndexes;
+import org.jabref.logic.FilePreferences;
 import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.model.entry.BibEntryPreferences;
@@ -15,6 +22,7 @@ import com.google.gson.Gson;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.test.JerseyTest;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.slf4j.bridge.SLF4JBridgeHandler;
@@ -36,6 +44,9 @@ abstract class ServerTest extends JerseyTest {
 
     private static final FilesToServe FILES_TO_SERVE = new FilesToServe();
 
+    // Shared by all tests, as each instance starts its own embedded database
+    private static final SearchIndexes SEARCH_INDEXES = new SearchIndexes();
+
     @BeforeAll
     static void installLoggingBridge() {
         // Grizzly uses java.commons.logging, but we use TinyLog
@@ -45,6 +56,11 @@ abstract class ServerTest extends JerseyTest {
         initializePreferencesService();
     }
 
+    @AfterAll
+    static void closeSearchIndexes() {
+        SEARCH_INDEXES.close();
+    }
+
     @BeforeEach
     public void setUp() throws Exception {
         super.setUp();
@@ -60,6 +76,31 @@ abstract class ServerTest extends JerseyTest {
         });
     }
 
+    protected void addLibraryCacheToResourceConfig(ResourceConfig resourceConfig) {
+        LibraryCache libraryCache = new LibraryCache();
+        addLibraryEditorToResourceConfig(resourceConfig, libraryCache, new LibraryEditor(libraryCache));
+    }
+
+    /// Binds the given cache instead of a new one, as the editor changes the libraries of the cache
+    protected void addLibraryEditorToResourceConfig(ResourceConfig resourceConfig, LibraryCache libraryCache, LibraryEditor libraryEditor) {
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(libraryCache).to(LibraryCache.class);
+                bind(libraryEditor).to(LibraryEditor.class);
+            }
+        });
+    }
+
+    protected void addSearchIndexesToResourceConfig(ResourceConfig resourceConfig) {
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(SEARCH_INDEXES).to(SearchIndexes.class);
+            }
+        });
+    }
+
     protected void addGsonToResourceConfig(ResourceConfig resourceConfig) {
         resourceConfig.register(new AbstractBinder() {
             @Override
@@ -82,6 +123,10 @@ abstract class ServerTest extends JerseyTest {
         FILES_TO_SERVE.setFilesToServe(files.stream().map(file -> file.path).toList());
     }
 
+    protected void setAvailableLibraries(List<Path> files) {
+        FILES_TO_SERVE.setFilesToServe(files);
+    }
+
     private static void initializePreferencesService() {
         preferences = mock(CliPreferences.class);
 
@@ -91,6 +136,10 @@ abstract class ServerTest extends JerseyTest {
         BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
         when(importFormatPreferences.bibEntryPreferences()).thenReturn(bibEntryPreferences);
         when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        when(preferences.getBibEntryPreferences()).thenReturn(bibEntryPreferences);
+
+        // used by the search index
+        when(preferences.getFilePreferences()).thenReturn(mock(FilePreferences.class));
 
         FieldPreferences fieldWriterPreferences = mock(FieldPreferences.class);
         when(preferences.getFieldPreferences()).thenReturn(fieldWriterPreferences);
@@ -100,6 +149,10 @@ abstract class ServerTest extends JerseyTest {
         FieldPreferences fieldContentFormatterPreferences = new FieldPreferences(false, List.of(), List.of());
         // used twice, once for reading and once for writing
         when(importFormatPreferences.fieldPreferences()).thenReturn(fieldContentFormatterPreferences);
+
+        CitationKeyPatternPreferences citationKeyPatternPreferences = mock(CitationKeyPatternPreferences.class);
+        when(preferences.getCitationKeyPatternPreferences()).thenReturn(citationKeyPatternPreferences);
+        when(citationKeyPatternPreferences.getKeyPatterns()).thenReturn(GlobalCitationKeyPatterns.fromPattern("[auth][year]"));
     }
 
     protected void addGlobalExceptionMapperToResourceConfig(ResourceConfig resourceConfig) {
@@ -9,6 +9,7 @@ import org.jabref.logic.util.io.BackupFileUtil;
 /// We cannot use a string constant as the path changes from OS to OS. Therefore, we need to dynamically create the expected result.
 public enum TestBibFile {
     GENERAL_SERVER_TEST("src/test/resources/org/jabref/http/server/general-server-test.bib"),
+    SEARCH_SERVER_TEST("src/test/resources/org/jabref/http/server/search-server-test.bib"),
     CHOCOLATE_BIB("src/main/resources/chocolate.bib");
 
     public final Path path;